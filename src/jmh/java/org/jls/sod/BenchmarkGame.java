@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jls.sod.core.GameController;
+import org.jls.sod.core.GameModel;
+import org.jls.sod.core.loader.Loader;
+import org.jls.sod.core.loader.WorldPager;
+import org.jls.sod.core.loader.ZoneStateStore;
+import org.jls.sod.core.model.world.Region;
+import org.jls.sod.core.model.world.World;
+import org.jls.sod.core.model.world.Zone;
+import org.jls.sod.util.ResourceManager;
+
+/**
+ * Puts a game in the state of a player standing at the entry point of the
+ * <i>Tutorial</i> story, without creating a saved game.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public final class BenchmarkGame {
+
+    public static final File TUTORIAL_DIR = new File(ResourceManager.STORIES_PATH, "Tutorial");
+    public static final String TUTORIAL_WORLD = "tutorialWorld";
+
+    private BenchmarkGame() {
+    }
+
+    /**
+     * Loads the tutorial world in the model of the specified game.
+     * 
+     * @param game
+     *            The game controller.
+     * @param stateDir
+     *            Directory where the state of the unloaded zones is saved.
+     * @throws IOException
+     *             If an error occurred loading the story.
+     */
+    public static void load (final GameController game, final File stateDir) throws IOException {
+        Loader loader = Loader.build(TUTORIAL_DIR);
+        World world = loader.loadWorld(TUTORIAL_WORLD);
+        Region region = world.getEntryPoint();
+        Zone zone = region.getEntryPoint();
+        GameModel model = game.getModel();
+        model.setWorld(world);
+        model.setWorldPager(new WorldPager(loader, world, new ZoneStateStore(stateDir), game.getPersistence(), 1000));
+        model.setRegion(region);
+        model.setZone(zone);
+        model.setRoom(zone.getEntryPoint());
+    }
+}
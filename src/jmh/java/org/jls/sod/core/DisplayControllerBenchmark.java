@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.jls.sod.ApplicationController;
+import org.jls.sod.ApplicationModel;
+import org.jls.sod.BenchmarkGame;
+import org.jls.sod.MemoryView;
+import org.jls.sod.core.model.world.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of a room description (name, description, exits and
+ * items) into an in-memory console.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisplayControllerBenchmark {
+
+    private MemoryView view;
+    private DisplayController display;
+    private Room room;
+    private File stateDir;
+
+    @Setup
+    public void setUp () throws IOException {
+        Configurator.setRootLevel(Level.WARN);
+        this.view = new MemoryView();
+        ApplicationController controller = new ApplicationController(new ApplicationModel(), c -> this.view);
+        this.stateDir = Files.createTempDirectory("sod-jmh").toFile();
+        BenchmarkGame.load(controller.getGameController(), this.stateDir);
+        this.display = controller.getGameController().getDisplayController();
+        this.room = controller.getGameController().getModel().getRoom();
+    }
+
+    @TearDown
+    public void tearDown () throws IOException {
+        FileUtils.deleteDirectory(this.stateDir);
+    }
+
+    @Benchmark
+    public int printRoomDescription () {
+        this.view.getSink().setLength(0);
+        this.display.printRoomDescription(this.room);
+        return this.view.getSink().length();
+    }
+}
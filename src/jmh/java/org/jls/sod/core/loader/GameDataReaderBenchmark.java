@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link GameDataReader#readRoom(File)} on the rooms of a story
+ * generated by the {@link StoryGenerator}, with the JDOM and the StAX
+ * implementations.
+ * <p>
+ * Run it with <code>-prof gc</code> to compare the allocations per room.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GameDataReaderBenchmark {
+
+    private static final int NB_ROOMS = 1000;
+
+    @Param({ "jdom", "stax" })
+    public String reader;
+
+    private File storyDir;
+    private GameDataReader gameDataReader;
+    private File[] rooms;
+    private int cursor;
+
+    @Setup
+    public void setUp () throws IOException {
+        Configurator.setRootLevel(Level.WARN);
+        File tmpDir = Files.createTempDirectory("sod-jmh").toFile();
+        this.storyDir = new File(tmpDir, "story");
+        new StoryGenerator(42).setRooms(NB_ROOMS).generate(this.storyDir);
+        this.gameDataReader = "jdom".equals(this.reader) ? new JdomGameDataReader() : new StaxGameDataReader();
+        try (Stream<Path> files = Files.walk(new File(this.storyDir, "worlds").toPath())) {
+            this.rooms = files.filter(path -> path.getParent().getFileName().toString().equals("rooms"))
+                    .map(Path::toFile)
+                    .toArray(File[]::new);
+        }
+        this.cursor = 0;
+    }
+
+    @TearDown
+    public void tearDown () throws IOException {
+        FileUtils.deleteDirectory(this.storyDir.getParentFile());
+    }
+
+    @Benchmark
+    public RoomData readRoom () throws IOException {
+        File room = this.rooms[this.cursor];
+        this.cursor = (this.cursor + 1) % this.rooms.length;
+        return this.gameDataReader.readRoom(room);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.jls.sod.core.model.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Loader#loadWorld(String, String...)} on a story generated by
+ * the {@link StoryGenerator}, made of a single zone so that all the rooms are
+ * loaded, from the XML files or from the compiled {@link StoryImage}.
+ * <p>
+ * The rooms of a zone are parsed on the common fork-join pool :
+ * {@link #loadWorldSequential()} runs in a JVM whose common pool has a single
+ * thread, to show how the loading of the XML files scales with the cores.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LoaderBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int nbRooms;
+
+    @Param({ "xml", "image" })
+    public String format;
+
+    private File storyDir;
+
+    @Setup
+    public void setUp () throws IOException {
+        Configurator.setRootLevel(Level.WARN);
+        File tmpDir = Files.createTempDirectory("sod-jmh").toFile();
+        this.storyDir = new File(tmpDir, "story");
+        new StoryGenerator(42).setRooms(this.nbRooms).generate(this.storyDir);
+        if ("image".equals(this.format)) {
+            StoryCompiler.compile(this.storyDir, new File(this.storyDir, StoryImage.FILENAME));
+        }
+    }
+
+    @TearDown
+    public void tearDown () throws IOException {
+        Loader.getInstance().close();
+        FileUtils.deleteDirectory(this.storyDir.getParentFile());
+    }
+
+    @Benchmark
+    public World loadWorld () throws IOException {
+        return Loader.build(this.storyDir).loadWorld("world");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1")
+    public World loadWorldSequential () throws IOException {
+        return Loader.build(this.storyDir).loadWorld("world");
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.impl.Arguments;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.Namespace;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Generates large stories to load and soak test the game data formats.
+ * <p>
+ * The story is made of one world divided into regions and zones. The rooms of
+ * a zone are laid out as a grid, each room having up to 8 exits to its
+ * adjacent rooms, in the order north, east, south, west, then the diagonals.
+ * The east and west exits of the rooms on the edges of a zone lead to the
+ * rooms of the next and the previous zones, so that the whole world is
+ * connected. Some rooms contain items picked among the generated ones. The
+ * files follow the game data schemas, and the same seed always generates the
+ * same story.
+ * </p>
+ * <p>
+ * Usage : <code>StoryGenerator [options] &lt;storyDir&gt;</code>. The class
+ * is compiled with the benchmarks by the <code>jmh</code> profile, so it is run
+ * from Maven with :
+ * </p>
+ * 
+ * <pre>
+ * mvn -P jmh test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.jls.sod.core.loader.StoryGenerator \
+ *     -Dexec.args="--rooms 1000000 --regions 4 --zones 64 target/bigStory"
+ * </pre>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StoryGenerator {
+
+    private static final String WORLD_ID = "world";
+    private static final String[] ITEM_TYPES = { "food", "drink", "weapon", "equipment", "literature", "misc" };
+    private static final String[] WORDS = { "ancient", "stone", "dark", "corridor", "light", "window", "old",
+            "wooden", "door", "cold", "wind", "torch", "wall", "dust", "silent", "narrow", "stairs", "shadow",
+            "floor", "damp", "smell", "distant", "voice", "iron", "gate", "moss", "ceiling", "cracked", "room",
+            "table", "chair", "broken", "candle", "path", "tower", "forest", "river", "bridge" };
+
+    /**
+     * Directions in the order the exits are added, with their offsets in the
+     * grid of a zone.
+     */
+    private static final String[] DIRECTIONS = { "north", "east", "south", "west", "north_east", "south_east",
+            "south_west", "north_west" };
+    private static final int[] DX = { 0, 1, 0, -1, 1, 1, -1, -1 };
+    private static final int[] DY = { 1, 0, -1, 0, 1, -1, -1, 1 };
+    private static final int EAST = 1;
+    private static final int WEST = 3;
+
+    private final long seed;
+    private int nbRegions;
+    private int nbZones;
+    private long nbRooms;
+    private int nbExits;
+    private int nbItems;
+    private int descriptionLength;
+    private double itemDensity;
+
+    /**
+     * Instantiates a generator of a single zone of 1000 rooms with 4 exits each.
+     * 
+     * @param seed
+     *            Seed of the random generator.
+     */
+    public StoryGenerator(final long seed) {
+        this.seed = seed;
+        this.nbRegions = 1;
+        this.nbZones = 1;
+        this.nbRooms = 1000;
+        this.nbExits = 4;
+        this.nbItems = 10;
+        this.descriptionLength = 200;
+        this.itemDensity = 0.1;
+    }
+
+    public static void main (final String[] args) throws IOException {
+        ArgumentParser parser = ArgumentParsers.newFor("StoryGenerator").build().defaultHelp(true)
+                .description("Generates a large story to load and soak test the game data formats.");
+        parser.addArgument("storyDir").help("The story directory to generate, which must not exist.");
+        parser.addArgument("--rooms").type(Long.class).setDefault(1000L).help("Total number of rooms.");
+        parser.addArgument("--regions").type(Integer.class).setDefault(1).help("Number of regions.");
+        parser.addArgument("--zones").type(Integer.class).setDefault(1)
+                .help("Total number of zones, spread over the regions.");
+        parser.addArgument("--exits").type(Integer.class).setDefault(4)
+                .help("Maximum number of exits per room (0-8).");
+        parser.addArgument("--items").type(Integer.class).setDefault(10).help("Number of items.");
+        parser.addArgument("--item-density").type(Double.class).setDefault(0.1)
+                .help("Probability for a room to contain items.");
+        parser.addArgument("--description").type(Integer.class).setDefault(200)
+                .help("Length in characters of the long descriptions.");
+        parser.addArgument("--seed").type(Long.class).setDefault(0L).help("Seed of the random generator.");
+        parser.addArgument("--validate").action(Arguments.storeTrue())
+                .help("Validates the generated story.");
+        Namespace ns = parser.parseArgsOrFail(args);
+
+        StoryGenerator generator = new StoryGenerator(ns.getLong("seed")).setRooms(ns.getLong("rooms"))
+                .setRegions(ns.getInt("regions")).setZones(ns.getInt("zones")).setExits(ns.getInt("exits"))
+                .setItems(ns.getInt("items")).setItemDensity(ns.getDouble("item_density"))
+                .setDescriptionLength(ns.getInt("description"));
+        File storyDir = new File(ns.getString("storyDir"));
+        Logger logger = LogManager.getLogger();
+        long start = System.nanoTime();
+        generator.generate(storyDir);
+        logger.info("{} rooms generated in {} in {} ms", generator.nbRooms, storyDir,
+                (System.nanoTime() - start) / 1_000_000);
+
+        if (ns.getBoolean("validate")) {
+            List<ValidationError> errors = new StoryValidator().validate(storyDir);
+            for (ValidationError error : errors) {
+                logger.error(error);
+            }
+            logger.info("{} : {}", storyDir, errors.isEmpty() ? "valid" : errors.size() + " error(s)");
+            System.exit(errors.isEmpty() ? 0 : 2);
+        }
+    }
+
+    /**
+     * Specifies the total number of rooms.
+     * 
+     * @param nbRooms
+     *            Number of rooms, at least one per zone.
+     * @return This generator.
+     */
+    public StoryGenerator setRooms (final long nbRooms) {
+        this.nbRooms = nbRooms;
+        return this;
+    }
+
+    /**
+     * Specifies the number of regions.
+     * 
+     * @param nbRegions
+     *            Number of regions of the world.
+     * @return This generator.
+     */
+    public StoryGenerator setRegions (final int nbRegions) {
+        this.nbRegions = nbRegions;
+        return this;
+    }
+
+    /**
+     * Specifies the total number of zones, spread over the regions.
+     * 
+     * @param nbZones
+     *            Number of zones, at least one per region.
+     * @return This generator.
+     */
+    public StoryGenerator setZones (final int nbZones) {
+        this.nbZones = nbZones;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum number of exits of a room.
+     * 
+     * @param nbExits
+     *            Number of exits, between 0 and 8.
+     * @return This generator.
+     */
+    public StoryGenerator setExits (final int nbExits) {
+        this.nbExits = nbExits;
+        return this;
+    }
+
+    /**
+     * Specifies the number of items.
+     * 
+     * @param nbItems
+     *            Number of items, at least one.
+     * @return This generator.
+     */
+    public StoryGenerator setItems (final int nbItems) {
+        this.nbItems = nbItems;
+        return this;
+    }
+
+    /**
+     * Specifies the probability for a room to contain items.
+     * 
+     * @param itemDensity
+     *            Probability between 0 and 1.
+     * @return This generator.
+     */
+    public StoryGenerator setItemDensity (final double itemDensity) {
+        this.itemDensity = itemDensity;
+        return this;
+    }
+
+    /**
+     * Specifies the length of the long descriptions.
+     * 
+     * @param descriptionLength
+     *            Length in characters.
+     * @return This generator.
+     */
+    public StoryGenerator setDescriptionLength (final int descriptionLength) {
+        this.descriptionLength = descriptionLength;
+        return this;
+    }
+
+    /**
+     * Generates the story in the specified directory. The zones are generated in
+     * parallel, each one from its own random generator derived from the seed.
+     * 
+     * @param storyDir
+     *            The story directory, which must not exist.
+     * @throws IOException
+     *             If an error occurred writing a file.
+     */
+    public void generate (final File storyDir) throws IOException {
+        if (this.nbRegions < 1 || this.nbZones < this.nbRegions || this.nbRooms < this.nbZones
+                || this.nbExits < 0 || this.nbExits > DIRECTIONS.length || this.nbItems < 1) {
+            throw new IllegalArgumentException("Invalid story size {regions=" + this.nbRegions + ", zones="
+                    + this.nbZones + ", rooms=" + this.nbRooms + ", exits=" + this.nbExits + ", items="
+                    + this.nbItems + "}");
+        }
+        if (storyDir.exists()) {
+            throw new IllegalArgumentException("Story directory already exists : " + storyDir.getAbsolutePath());
+        }
+        File worldDir = new File(storyDir, "worlds/" + WORLD_ID);
+        worldDir.mkdirs();
+
+        write(new File(storyDir, "story.xml"), "<Story id=\"generated\" name=\"Generated\">"
+                + "<Description>Generated story.</Description><EntryPoint id=\"" + WORLD_ID + "\" /></Story>");
+        write(new File(worldDir, "world.xml"), "<World id=\"" + WORLD_ID + "\" name=\"World\">"
+                + "<Description>Generated world.</Description><EntryPoint id=\"" + regionId(0) + "\" /></World>");
+        generateItems(new File(storyDir, "items"), new Random(this.seed));
+
+        List<Callable<Void>> tasks = new ArrayList<>(this.nbZones);
+        for (int r = 0; r < this.nbRegions; r++) {
+            File regionDir = new File(worldDir, regionId(r));
+            regionDir.mkdirs();
+            write(new File(regionDir, "region.xml"), "<Region id=\"" + regionId(r) + "\" name=\"Region " + r
+                    + "\"><Description>Generated region.</Description><EntryPoint id=\"" + zoneId(firstZone(r))
+                    + "\" /></Region>");
+            for (int z = firstZone(r); z < firstZone(r + 1); z++) {
+                final int zone = z;
+                tasks.add(() -> {
+                    generateZone(new File(regionDir, zoneId(zone)), zone);
+                    return null;
+                });
+            }
+        }
+        try {
+            for (Future<Void> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while generating the zones");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void generateItems (final File itemsDir, final Random random) throws IOException {
+        itemsDir.mkdirs();
+        for (int i = 0; i < this.nbItems; i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<Item id=\"").append(itemId(i)).append("\" name=\"Item ").append(i).append("\" type=\"")
+                    .append(ITEM_TYPES[random.nextInt(ITEM_TYPES.length)]).append("\" isCarriable=\"")
+                    .append(random.nextBoolean()).append("\" isStackable=\"").append(random.nextBoolean())
+                    .append("\"><Description><Short>Item ").append(i).append(".</Short><Long>");
+            text(sb, random, this.descriptionLength / 2);
+            sb.append("</Long></Description><Senses><inspect>");
+            text(sb, random, this.descriptionLength / 4);
+            sb.append("</inspect><feel /><touch /><smell /><taste /><listen /></Senses></Item>");
+            write(new File(itemsDir, itemId(i) + ".xml"), sb.toString());
+        }
+    }
+
+    /**
+     * Generates the zone with the specified global index, as a grid of rooms.
+     */
+    private void generateZone (final File zoneDir, final int zone) throws IOException {
+        Random random = new Random(this.seed * 31 + zone + 1);
+        int nbZoneRooms = roomsOf(zone);
+        int size = (int) Math.ceil(Math.sqrt(nbZoneRooms));
+        File roomsDir = new File(zoneDir, "rooms");
+        roomsDir.mkdirs();
+        write(new File(zoneDir, "zone.xml"), "<Zone id=\"" + zoneId(zone) + "\" name=\"Zone " + zone
+                + "\"><Description>Generated zone.</Description><EntryPoint id=\"r_0_0\" /></Zone>");
+
+        StringBuilder sb = new StringBuilder(1024 + 2 * this.descriptionLength);
+        for (int i = 0; i < nbZoneRooms; i++) {
+            int x = i % size;
+            int y = i / size;
+            String id = "r_" + x + '_' + y;
+            sb.setLength(0);
+            sb.append("<Room id=\"").append(id).append("\" name=\"Room ").append(x).append(' ').append(y)
+                    .append("\"><ShortDescription>Room ").append(x).append(' ').append(y).append(" of zone ")
+                    .append(zone).append(".</ShortDescription><LongDescription>");
+            text(sb, random, this.descriptionLength);
+            sb.append("</LongDescription><Directions>");
+            for (int d = 0; d < this.nbExits; d++) {
+                String target = target(zone, size, nbZoneRooms, x, y, d);
+                if (target != null) {
+                    sb.append('<').append(DIRECTIONS[d]).append(" id=\"").append(target).append("\">To the ")
+                            .append(DIRECTIONS[d]).append(".</").append(DIRECTIONS[d]).append('>');
+                }
+            }
+            sb.append("</Directions><Senses><inspect>");
+            text(sb, random, this.descriptionLength / 4);
+            sb.append("</inspect><feel /><touch /><smell /><taste /><listen /></Senses>");
+            if (random.nextDouble() < this.itemDensity) {
+                sb.append("<Items><Item id=\"").append(itemId(random.nextInt(this.nbItems)))
+                        .append("\" quantity=\"").append(1 + random.nextInt(5)).append("\" /></Items>");
+            }
+            sb.append("</Room>");
+            write(new File(roomsDir, id + ".xml"), sb.toString());
+        }
+    }
+
+    /**
+     * Returns the target of the exit of a room in the specified direction, or
+     * <code>null</code> if there is no room there. The east and west exits of
+     * the edges lead to the adjacent zones.
+     */
+    private String target (final int zone, final int size, final int nbZoneRooms, final int x, final int y,
+            final int d) {
+        int nx = x + DX[d];
+        int ny = y + DY[d];
+        if (nx >= 0 && ny >= 0 && nx < size && ny * size + nx < nbZoneRooms) {
+            return "r_" + nx + '_' + ny;
+        }
+        int next = d == EAST && nx == size ? zone + 1 : d == WEST && nx < 0 ? zone - 1 : -1;
+        if (next < 0 || next >= this.nbZones) {
+            return null;
+        }
+        int nextSize = (int) Math.ceil(Math.sqrt(roomsOf(next)));
+        nx = d == EAST ? 0 : nextSize - 1;
+        if (ny >= nextSize || ny * nextSize + nx >= roomsOf(next)) {
+            return null;
+        }
+        String room = "r_" + nx + '_' + ny;
+        int region = regionOf(next);
+        return region == regionOf(zone) ? zoneId(next) + '.' + room : regionId(region) + '.' + zoneId(next) + '.'
+                + room;
+    }
+
+    /**
+     * Appends random words up to the specified length.
+     */
+    private static void text (final StringBuilder sb, final Random random, final int length) {
+        int end = sb.length() + Math.max(length, 1);
+        while (sb.length() < end) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        sb.setLength(end - 1);
+        sb.append('.');
+    }
+
+    private int roomsOf (final int zone) {
+        return (int) (this.nbRooms / this.nbZones + (zone < this.nbRooms % this.nbZones ? 1 : 0));
+    }
+
+    private int firstZone (final int region) {
+        return (int) ((long) region * this.nbZones / this.nbRegions);
+    }
+
+    private int regionOf (final int zone) {
+        int region = (int) ((long) zone * this.nbRegions / this.nbZones);
+        while (firstZone(region + 1) <= zone) {
+            region++;
+        }
+        while (firstZone(region) > zone) {
+            region--;
+        }
+        return region;
+    }
+
+    private static String regionId (final int region) {
+        return "region_" + region;
+    }
+
+    private static String zoneId (final int zone) {
+        return "zone_" + zone;
+    }
+
+    private static String itemId (final int item) {
+        return "item_" + item;
+    }
+
+    private static void write (final File file, final String content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            writer.write(content);
+            writer.write('\n');
+        }
+    }
+}
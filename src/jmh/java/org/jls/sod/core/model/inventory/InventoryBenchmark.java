@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.inventory;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.item.ItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations of an {@link Inventory} holding the specified number
+ * of distinct stackable items.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryBenchmark {
+
+    @Param({ "10", "1000" })
+    public int nbItems;
+
+    private Item[] items;
+    private Item newItem;
+    private Inventory inventory;
+    private Inventory loot;
+    private Inventory other;
+    private int cursor;
+
+    @Setup
+    public void setUp () throws NotCarriableException {
+        this.items = new Item[this.nbItems];
+        this.inventory = new Inventory();
+        this.loot = new Inventory();
+        this.other = new Inventory();
+        for (int i = 0; i < this.nbItems; i++) {
+            this.items[i] = item("item_" + i);
+            this.inventory.addItem(this.items[i], 1);
+            this.loot.addItem(this.items[i], 1);
+        }
+        this.newItem = item("new_item");
+        this.cursor = 0;
+    }
+
+    /**
+     * Adds and removes one item of an existing slot.
+     */
+    @Benchmark
+    public Item addRemoveStacked () throws Exception {
+        Item item = this.items[this.cursor];
+        this.cursor = (this.cursor + 1) % this.nbItems;
+        this.inventory.addItem(item);
+        return this.inventory.removeItem(item.getId());
+    }
+
+    /**
+     * Adds an item in a new slot and removes it.
+     */
+    @Benchmark
+    public Item addRemoveSlot () throws Exception {
+        this.inventory.addItem(this.newItem);
+        return this.inventory.removeItem(this.newItem.getId());
+    }
+
+    /**
+     * Moves all the items into an empty inventory, the inventories being
+     * swapped after each call.
+     */
+    @Benchmark
+    public Inventory importInventory () {
+        Inventory target = this.other;
+        target.importInventory(this.loot);
+        this.other = this.loot;
+        this.loot = target;
+        return target;
+    }
+
+    private static Item item (final String id) {
+        EnumMap<Sense, String> senses = new EnumMap<>(Sense.class);
+        senses.put(Sense.INSPECT, "Inspect " + id);
+        return new Item(id, id, ItemType.FOOD, "Short " + id, "Long " + id, true, true, senses);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.sod.core.model.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the routes computed by the {@link PathFinder} between random rooms of
+ * a single zone laid out as a square grid, some of the exits being walled up.
+ * <p>
+ * Run it with <code>-Xmx3g</code> for the largest grid.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PathFinderBenchmark {
+
+    private static final int NB_QUERIES = 64;
+    private static final double WALLS = 0.2;
+
+    @Param({ "100", "1000" })
+    public int size;
+
+    private World world;
+    private Room[] from;
+    private Room[] to;
+    private int cursor;
+
+    @Setup
+    public void setUp () {
+        Random random = new Random(42);
+        this.world = buildWorld(this.size, random);
+        Room[] rooms = this.world.getRoomTable().rooms();
+        this.from = new Room[NB_QUERIES];
+        this.to = new Room[NB_QUERIES];
+        for (int i = 0; i < NB_QUERIES; i++) {
+            this.from[i] = rooms[random.nextInt(this.size * this.size)];
+            this.to[i] = rooms[random.nextInt(this.size * this.size)];
+        }
+        // Builds the graph of the zone and its landmarks once
+        this.world.getPathFinder().findPath(this.from[0], this.to[0]);
+        this.cursor = 0;
+    }
+
+    /**
+     * Searches the route with A* and the landmarks heuristic.
+     */
+    @Benchmark
+    public List<Direction> landmarks () {
+        int i = next();
+        return this.world.getPathFinder().findPath(this.from[i], this.to[i]);
+    }
+
+    /**
+     * Searches the route breadth-first.
+     */
+    @Benchmark
+    public List<Direction> breadthFirst () {
+        int i = next();
+        return this.world.getPathFinder().breadthFirst(this.from[i], this.to[i]);
+    }
+
+    /**
+     * Builds the graph of the zone and computes its landmarks distances.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ZoneGraph buildGraph () {
+        return new ZoneGraph(this.from[0].getZone(), this.world.getRoomTable());
+    }
+
+    private int next () {
+        int i = this.cursor;
+        this.cursor = (i + 1) % NB_QUERIES;
+        return i;
+    }
+
+    private static World buildWorld (final int size, final Random random) {
+        World world = new World("bench", "Bench", "Bench");
+        Region region = new Region("bench", "Bench", "Bench", world);
+        Zone zone = new Zone("bench", "Bench", "Bench", region);
+        Room[] rooms = new Room[size * size];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new Room("r" + i, "Room", "Short", "Long", zone);
+        }
+        for (int i = 0; i < rooms.length; i++) {
+            int x = i % size;
+            int y = i / size;
+            EnumMap<Direction, Room> neighbors = new EnumMap<>(Direction.class);
+            if (y + 1 < size && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.NORTH, rooms[i + size]);
+            }
+            if (x + 1 < size && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.EAST, rooms[i + 1]);
+            }
+            if (y > 0 && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.SOUTH, rooms[i - size]);
+            }
+            if (x > 0 && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.WEST, rooms[i - 1]);
+            }
+            rooms[i].putAllNeighbors(neighbors);
+        }
+        for (Room room : rooms) {
+            zone.putRoom(room);
+        }
+        return world;
+    }
+}
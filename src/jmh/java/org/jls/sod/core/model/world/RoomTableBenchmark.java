@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.inventory.Inventory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the heap retained by a grid of rooms when their exits and senses
+ * are kept in the {@link RoomTable} of the world and in arrays indexed by
+ * ordinal, and when they are kept in maps by each room (the former layout of
+ * {@link Room}, reproduced by {@link MapRoom}).
+ * <p>
+ * Each room has up to four exits and one sense description, all the texts being
+ * shared as by the string pool of the loader, so only the structures are
+ * measured. The score is the time to build the grid; the secondary result
+ * <code>bytesPerRoom</code> is the heap still used once it is built, after a
+ * full garbage collection. The events counters being summed over the
+ * iterations, a single one is measured.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RoomTableBenchmark {
+
+    private static final String EXIT_DESC = "To the next room";
+    private static final String SENSE_DESC = "Rien de particulier ne semble attirer votre oeil expert.";
+
+    @Param({ "1000000" })
+    public int nbRooms;
+
+    @Param({ "table", "maps" })
+    public String layout;
+
+    /**
+     * Heap retained by the rooms built during an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerRoom;
+
+        @Setup(Level.Iteration)
+        public void reset () {
+            this.bytesPerRoom = 0;
+        }
+    }
+
+    @Benchmark
+    public Object build (final Footprint footprint) {
+        int size = (int) Math.ceil(Math.sqrt(this.nbRooms));
+        long base = usedMemory();
+        Object rooms = "table".equals(this.layout) ? buildWorld(size) : buildMapRooms(size);
+        footprint.bytesPerRoom = (usedMemory() - base) / ((long) size * size);
+        return rooms;
+    }
+
+    private static World buildWorld (final int size) {
+        World world = new World("bench", "Bench", "Bench");
+        Region region = new Region("bench", "Bench", "Bench", world);
+        Zone zone = new Zone("bench", "Bench", "Bench", region);
+        Room[] rooms = new Room[size * size];
+        EnumMap<Sense, String> senses = new EnumMap<>(Sense.class);
+        senses.put(Sense.INSPECT, SENSE_DESC);
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new Room("r" + i, "Room", "Short", "Long", zone);
+            rooms[i].putAllSensesDescription(senses);
+        }
+        for (int i = 0; i < rooms.length; i++) {
+            EnumMap<Direction, Room> neighbors = new EnumMap<>(Direction.class);
+            EnumMap<Direction, String> descs = new EnumMap<>(Direction.class);
+            linkGrid(i, size, rooms, neighbors, descs);
+            rooms[i].putAllNeighbors(neighbors);
+            rooms[i].putAllNeighborsDescription(descs);
+        }
+        for (Room room : rooms) {
+            zone.putRoom(room);
+        }
+        return world;
+    }
+
+    private static MapRoom[] buildMapRooms (final int size) {
+        MapRoom[] rooms = new MapRoom[size * size];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new MapRoom("r" + i);
+            rooms[i].sensesDescription.put(Sense.INSPECT, SENSE_DESC);
+        }
+        for (int i = 0; i < rooms.length; i++) {
+            linkGrid(i, size, rooms, rooms[i].neighbors, rooms[i].neighborsDescription);
+        }
+        return rooms;
+    }
+
+    private static <R> void linkGrid (final int i, final int size, final R[] rooms,
+            final Map<Direction, R> neighbors, final Map<Direction, String> descs) {
+        int x = i % size;
+        int y = i / size;
+        if (y + 1 < size) {
+            neighbors.put(Direction.NORTH, rooms[i + size]);
+            descs.put(Direction.NORTH, EXIT_DESC);
+        }
+        if (x + 1 < size) {
+            neighbors.put(Direction.EAST, rooms[i + 1]);
+            descs.put(Direction.EAST, EXIT_DESC);
+        }
+        if (y > 0) {
+            neighbors.put(Direction.SOUTH, rooms[i - size]);
+            descs.put(Direction.SOUTH, EXIT_DESC);
+        }
+        if (x > 0) {
+            neighbors.put(Direction.WEST, rooms[i - 1]);
+            descs.put(Direction.WEST, EXIT_DESC);
+        }
+    }
+
+    private static long usedMemory () {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Room keeping its exits and senses in maps, as {@link Room} used to.
+     */
+    private static class MapRoom {
+
+        private final String id;
+        private final HashMap<Sense, String> sensesDescription;
+        private final HashMap<Direction, MapRoom> neighbors;
+        private final HashMap<Direction, String> neighborsDescription;
+        private final Inventory inventory;
+        private final String name;
+        private final String shortDescription;
+        private final String longDescription;
+        private boolean isVisited;
+
+        private MapRoom(final String id) {
+            this.id = id;
+            this.sensesDescription = new HashMap<>();
+            this.neighbors = new HashMap<>();
+            this.neighborsDescription = new HashMap<>();
+            this.inventory = new Inventory();
+            this.name = "Room";
+            this.shortDescription = "Short";
+            this.longDescription = "Long";
+            this.isVisited = false;
+        }
+    }
+}
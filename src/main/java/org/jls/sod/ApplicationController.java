@@ -30,27 +30,38 @@ import org.apache.logging.log4j.Logger;
 import org.jls.sod.core.GameController;
 import org.jls.sod.core.GameModel;
 import org.jls.sod.core.cmd.*;
+import org.jls.sod.util.PersistenceService;
 import org.jls.sod.util.ResourceManager;
 import org.jls.sod.util.Settings;
 
+import javax.swing.SwingUtilities;
 import java.awt.*;
+import java.util.function.Function;
 
 public class ApplicationController {
 
     private final ApplicationModel model;
-    private final ApplicationView view;
+    private final ConsoleView view;
     private final GameController gameController;
     private final CommandController commandController;
     private final Logger logger;
     private final ResourceManager props;
     private final Settings settings;
+    private final PersistenceService persistence;
     private final CommandParser commandParser;
 
     public ApplicationController(final ApplicationModel model) {
+        this(model, controller -> new ApplicationView(model, controller));
+    }
+
+    public ApplicationController(final ApplicationModel model,
+                                 final Function<ApplicationController, ConsoleView> viewFactory) {
         this.model = model;
-        view = new ApplicationView(model, this);
-        settings = new Settings();
-        gameController = new GameController(new GameModel(), this, settings);
+        view = viewFactory.apply(this);
+        persistence = new PersistenceService(PersistenceService.DEFAULT_CAPACITY, SwingUtilities::invokeLater,
+                (key, e) -> printError("Cannot save " + key + " : " + e.getMessage()));
+        settings = new Settings(persistence);
+        gameController = new GameController(new GameModel(), this, settings, persistence);
         commandController = new CommandController(this.getGameController().getModel(),
                 gameController);
         logger = LogManager.getLogger();
@@ -91,6 +102,7 @@ public class ApplicationController {
 
     public void exitApplication() {
         logger.info("Exiting application");
+        persistence.close();
         Runtime.getRuntime().exit(0);
     }
 
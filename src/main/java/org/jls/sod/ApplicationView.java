@@ -42,9 +42,11 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.HashMap;
 
-public class ApplicationView extends JFrame implements ActionListener, KeyListener {
+public class ApplicationView extends JFrame implements ConsoleView, ActionListener, KeyListener {
 
     public static ApplicationView APP_FRAME = null;
 
@@ -63,7 +65,8 @@ public class ApplicationView extends JFrame implements ActionListener, KeyListen
     public ApplicationView(final ApplicationModel model, final ApplicationController controller) {
         super(model.getAppName() + " - Version " + model.getAppVersion());
         ApplicationView.APP_FRAME = this;
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // Exits through the game controller, which saves the game and flushes the pending writes
+        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         this.controller = controller;
         this.logger = LogManager.getLogger();
         this.props = ResourceManager.getInstance();
@@ -162,7 +165,7 @@ public class ApplicationView extends JFrame implements ActionListener, KeyListen
         this.mapFrame = new Dialog(this, "Map", this.mapFrame);
         this.mapFrame.setModal(false);
         this.mapFrame.setDefaultCloseOperation(InternalFrame.HIDE_ON_CLOSE);
-        this.mapFrame.setContentPane(new MapPanel());
+        this.mapFrame.setContentPane(this.mapPanel);
         this.mapFrame.pack();
 
         this.tfCommandLine = new JTextField();
@@ -205,6 +208,13 @@ public class ApplicationView extends JFrame implements ActionListener, KeyListen
         this.menuItems.get("file.exit").addActionListener(this);
         this.menuItems.get("help.about").addActionListener(this);
         this.tfCommandLine.addKeyListener(this);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent e) {
+                logger.debug("Exit application");
+                controller.getGameController().exitApplication();
+            }
+        });
     }
 
     @Override
@@ -232,7 +242,7 @@ public class ApplicationView extends JFrame implements ActionListener, KeyListen
             // Exit application
             else if (this.menuItems.get("file.exit").equals(item)) {
                 this.logger.debug("Exit application");
-                this.controller.exitApplication();
+                this.controller.getGameController().exitApplication();
             }
             // About application
             else if (this.menuItems.get("help.about").equals(item)) {
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod;
+
+import java.awt.*;
+
+/**
+ * View driven by the {@link ApplicationController} : the console where the
+ * game is printed, the dialogs and the map. The application uses the Swing
+ * {@link ApplicationView}, other implementations allow to run the controller
+ * without a screen.
+ */
+public interface ConsoleView {
+
+    void pop(final String title, final String msg, final int msgType);
+
+    void showGui();
+
+    void setIconImage(final Image icon);
+
+    void showNewGamePanel();
+
+    void showLoadGamePanel();
+
+    void showUserMap();
+
+    void hideUserMap();
+
+    void printConsole(final String text);
+
+    void printConsole(final String text, final int fontStyle);
+
+    void printConsole(final String text, final int fontStyle, final int size);
+
+    void printConsole(final String text, final Color textColor);
+
+    void printConsole(final String text, final Color textColor, final int fontStyle);
+
+    void printConsole(final String text, final Color textColor, final int fontStyle, final int size);
+
+    void printConsole(final String text, final Color textColor, final Color bgColor, final int fontStyle);
+
+    void printConsole(final String text, final Color textColor, final Color bgColor, final int fontStyle,
+                      final int size);
+}
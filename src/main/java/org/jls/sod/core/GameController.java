@@ -25,41 +25,62 @@ package org.jls.sod.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.XMLConfiguration;
-import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.jdom2.JDOMException;
 import org.jls.sod.ApplicationController;
+import org.jls.sod.core.loader.GameJournal;
+import org.jls.sod.core.loader.HotReloader;
 import org.jls.sod.core.loader.Loader;
+import org.jls.sod.core.loader.SavedGameCatalog;
+import org.jls.sod.core.loader.SavedGameInfo;
+import org.jls.sod.core.loader.StoryValidator;
+import org.jls.sod.core.loader.ValidationError;
+import org.jls.sod.core.loader.WorldPager;
+import org.jls.sod.core.loader.ZoneStateStore;
 import org.jls.sod.core.model.Story;
 import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.world.MapLayout;
+import org.jls.sod.core.model.world.PathIndex;
 import org.jls.sod.core.model.world.Region;
 import org.jls.sod.core.model.world.Room;
 import org.jls.sod.core.model.world.World;
 import org.jls.sod.core.model.world.Zone;
+import org.jls.sod.util.PersistenceService;
 import org.jls.sod.util.ResourceManager;
 import org.jls.sod.util.Settings;
 import org.jls.toolbox.util.file.FileUtils;
 
 public class GameController {
 
+    private static final String POSITION_KEY = "position";
+
     private final GameModel model;
     private final ApplicationController controller;
     private final Settings settings;
+    private final PersistenceService persistence;
     private final DisplayController displayController;
     private final Logger logger;
 
+    private HotReloader hotReloader;
+
     public GameController(final GameModel model, final ApplicationController controller,
-                          final Settings settings) {
+                          final Settings settings, final PersistenceService persistence) {
         this.model = model;
         this.controller = controller;
         this.settings = settings;
+        this.persistence = persistence;
         displayController = new DisplayController(model, controller);
         logger = LogManager.getLogger();
+        hotReloader = null;
     }
 
     public void showNewGamePanel() {
@@ -71,18 +92,21 @@ public class GameController {
     }
 
     public void exitApplication() {
+        stopHotReload();
+        closeGameJournal(saveWorldState());
         controller.exitApplication();
     }
 
     public void showMap() {
         controller.showUserMap();
+        model.notifyObservers(model.getMap());
     }
 
     public void hideMap() {
         controller.hideUserMap();
     }
 
-    public boolean createNewGame(final String storyId, final String saveDirName) throws IOException, JDOMException {
+    public void createNewGame(final String storyId, final String saveDirName, final Consumer<Boolean> onDone) {
         // Checks input
         if (storyId == null) {
             throw new NullPointerException("Story ID cannot be null");
@@ -113,39 +137,43 @@ public class GameController {
                             JOptionPane.WARNING_MESSAGE);
                     controller.printError(
                             "A game instance with the name " + saveDirName + " already exist.");
-                    return false;
-                } else { // Else creates the new game instance
-                    logger.info("Creating new game instance {}", saveDirName);
-
-                    // Copy the story to the save directory
-                    FileUtils.copyFolder(storyDir, dstDir);
-                    displayController.printMessage(
-                            "Game instance " + saveDirName + " has been created.");
-
-                    // Generates the instance XML file
-                    XMLConfiguration instanceConfig = new XMLConfiguration();
-                    instanceConfig.addProperty("storyId", storyId);
-                    try {
-                        instanceConfig.save(new File(dstDir, "instance.xml"));
-                    } catch (ConfigurationException e1) {
-                        controller.printError(
-                                "Cannot generate the instance configuration file.");
-                        logger.error("Cannot generate the instance configuration file", e1);
-                    }
-
-                    // Loads the game
-                    try {
-                        loadGame(saveDirName);
-                    } catch (Exception e) {
-                        // If an error occurred, delete the new instance
-                        FileUtils.delete(dstDir, true);
-                        logger.debug(
-                                "New instance {} deleted because an error occurred at loading",
-                                saveDirName);
-                        controller.printError("Cannot load the game instance.");
-                        throw e;
-                    }
-                    return true;
+                    onDone.accept(false);
+                } else { // Else validates the story off the EDT, then creates the new game instance
+                    displayController.printMessage("Validating story " + storyId + "...");
+                    new SwingWorker<List<ValidationError>, Void>() {
+                        @Override
+                        protected List<ValidationError> doInBackground() throws IOException {
+                            return new StoryValidator().validate(storyDir);
+                        }
+
+                        @Override
+                        protected void done() {
+                            boolean created = false;
+                            try {
+                                List<ValidationError> errors = get();
+                                if (errors.isEmpty()) {
+                                    createInstance(storyId, dstDir);
+                                    created = true;
+                                } else {
+                                    for (ValidationError error : errors) {
+                                        controller.printError(error.toString());
+                                    }
+                                    controller.pop("New Game Error",
+                                            "The story " + storyId + " contains " + errors.size() + " error(s).",
+                                            JOptionPane.ERROR_MESSAGE);
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } catch (Exception e) {
+                                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                                logger.error("Cannot create new game", cause);
+                                controller.pop("Game Creation Error",
+                                        "Cannot create new game : \n\n" + cause.getMessage(),
+                                        JOptionPane.ERROR_MESSAGE);
+                            }
+                            onDone.accept(created);
+                        }
+                    }.execute();
                 }
             } else {
                 throw new IllegalStateException(
@@ -156,7 +184,45 @@ public class GameController {
         }
     }
 
-    public void loadGame(final String savedGameId) throws JDOMException, IOException {
+    private void createInstance(final String storyId, final File dstDir) throws IOException {
+        String saveDirName = dstDir.getName();
+        logger.info("Creating new game instance {}", saveDirName);
+
+        // The instance only stores its own files, the story is read from its
+        // directory
+        if (!dstDir.mkdirs()) {
+            throw new IOException("Cannot create directory " + dstDir.getAbsolutePath());
+        }
+        displayController.printMessage("Game instance " + saveDirName + " has been created.");
+
+        // Generates the instance XML file
+        XMLConfiguration instanceConfig = new XMLConfiguration();
+        instanceConfig.addProperty("storyId", storyId);
+        try {
+            instanceConfig.save(new File(dstDir, "instance.xml"));
+        } catch (ConfigurationException e1) {
+            controller.printError("Cannot generate the instance configuration file.");
+            logger.error("Cannot generate the instance configuration file", e1);
+        }
+        SavedGameCatalog catalog = model.getSavedGameCatalog();
+        SavedGameInfo info = new SavedGameInfo(saveDirName, storyId, null,
+                System.currentTimeMillis(), SavedGameCatalog.sizeOf(dstDir));
+        persistence.submit(catalogKey(saveDirName), () -> catalog.put(info));
+
+        // Loads the game
+        try {
+            loadGame(saveDirName);
+        } catch (Exception e) {
+            // If an error occurred, delete the new instance
+            FileUtils.delete(dstDir, true);
+            persistence.submit(catalogKey(saveDirName), () -> catalog.remove(saveDirName));
+            logger.debug("New instance {} deleted because an error occurred at loading", saveDirName);
+            controller.printError("Cannot load the game instance.");
+            throw e;
+        }
+    }
+
+    public void loadGame(final String savedGameId) throws IOException {
         // Checks input
         if (savedGameId == null) {
             throw new NullPointerException("Game instance identifier cannot be null");
@@ -168,12 +234,11 @@ public class GameController {
         File gameDir = new File(ResourceManager.SAVED_PATH, savedGameId);
         // If the game instance exists
         if (gameDir.exists()) {
+            stopHotReload();
+            closeGameJournal(saveWorldState());
             logger.info("Loading game instance {}", savedGameId);
             logger.info("Game instance is located under: {}", gameDir);
 
-            // Build loader instance
-            Loader loader = Loader.build(gameDir);
-
             // Loads game instance
             try {
                 XMLConfiguration instanceConfig = new XMLConfiguration(
@@ -186,12 +251,25 @@ public class GameController {
                         e);
             }
 
-            // Extracts the saved room entry point's path from the instance
-            // config file if there is one
-            XMLConfiguration config = model.getInstanceConfig();
-            String entryPoints = config.getString("entryPoint.path");
-            String[] entryTokens = StringUtils.countMatches(entryPoints,
-                    ".") == 3 ? entryPoints.split("\\.") : null;
+            // Build loader instance over the story of the instance, the instances
+            // created by copying the whole story do not need it
+            String storyId = model.getInstanceConfig().getString("storyId");
+            File storyDir = storyId != null ? model.getStories().get(storyId) : null;
+            if (storyDir == null && !new File(gameDir, "story.xml").exists()) {
+                controller.printError("The story " + storyId + " of the game instance is not installed.");
+                throw new IllegalStateException("Story not installed : " + storyId);
+            }
+            Loader loader = Loader.build(gameDir, storyDir);
+
+            // Extracts the saved room entry point's path from the journal, or
+            // from the instance config file for the games saved without journal
+            GameJournal journal = GameJournal.open(gameDir);
+            model.setGameJournal(journal);
+            String entryPoints = journal.get(POSITION_KEY);
+            if (entryPoints == null) {
+                entryPoints = model.getInstanceConfig().getString("entryPoint.path");
+            }
+            String[] entryTokens = PathIndex.split(entryPoints);
 
             if (entryTokens != null) { // Log
                 logger.debug("Select entry path from instance configuration file : {}",
@@ -214,6 +292,11 @@ public class GameController {
 
             // Selects the world entry point
             if (world != null) {
+                // The other zones are loaded on demand
+                WorldPager pager = new WorldPager(loader, world,
+                        new ZoneStateStore(new File(gameDir, "state"), journal), persistence,
+                        settings.getMaxResidentRooms());
+                model.setWorldPager(pager);
                 model.setWorld(world);
                 logger.info("Select world : {}", world.getName());
                 Region region = world.getEntryPoint();
@@ -222,11 +305,20 @@ public class GameController {
                 Zone zone = region.getEntryPoint();
                 model.setZone(zone);
                 logger.info("Select zone : {}", zone.getName());
+                pager.setCurrentZone(zone);
                 Room room = zone.getEntryPoint();
                 model.setRoom(room);
                 logger.info("Select room : {}", room.getName());
 
                 model.getRoom().setVisited(true);
+                journalRoom(model.getRoom());
+                layoutMap();
+
+                // Patches the rooms modified by the authors while playing
+                if (settings.isHotReloadEnabled()) {
+                    hotReloader = new HotReloader(loader, world, SwingUtilities::invokeLater);
+                    hotReloader.start();
+                }
             } else {
                 throw new IllegalStateException(
                         "World entry point not found : " + story.getDefaultWorld());
@@ -235,35 +327,162 @@ public class GameController {
                     "Game instance " + savedGameId + " has been loaded.");
 
             // Loads the character
-            Character character = new Character();
+            Character character = Loader.loadCharacter(new File(ResourceManager.PLAYER_TEMPLATE_PATH));
             model.setCharacter(character);
+            try {
+                model.getWorldPager().getStateStore().restoreCharacter(character, loader);
+            } catch (IOException e) {
+                controller.printError("Cannot restore the inventory of the character.");
+                logger.error("Cannot restore the state of the character", e);
+            }
 
             displayController.printWelcomeMessage();
             displayController.printRoomDescription(model.getRoom());
             updateLastPlayedGameInSettings(savedGameId);
+            updateSavedGameCatalog(false);
         } else {
             throw new IllegalArgumentException(
                     "Game instance not found : " + gameDir.getAbsolutePath());
         }
     }
 
+    private void layoutMap() {
+        // Lays out the rooms visited in the previous sessions around the current one
+        MapLayout map = model.getMap();
+        map.clear();
+        map.addRoom(model.getRoom());
+        for (Region region : model.getWorld().getRegions().values()) {
+            for (Zone zone : region.getZones().values()) {
+                for (Room room : zone.getRooms().values()) {
+                    if (room.isVisited()) {
+                        map.addRoom(room);
+                    }
+                }
+            }
+        }
+        model.notifyObservers(map);
+    }
+
     private void updateLastPlayedGameInSettings(final String instanceName) {
         logger.info("Update last played game: " + instanceName);
         settings.setLastPlayedGame(instanceName);
     }
 
-    public void updateCurrentPosition(final Room room) throws ConfigurationException {
+    public void updateCurrentPosition(final Room room) {
         logger.info("Updates current position : {}", room.getName());
         model.setRoom(room);
         room.setVisited(true);
-        // Update instance config file
-        XMLConfiguration config = model.getInstanceConfig();
+        journalRoom(room);
+        // Appends the new position to the journal
         Zone zone = room.getZone();
         Region region = zone.getRegion();
-        World world = region.getWorld();
-        config.setProperty("entryPoint.path",
-                world.getId() + "." + region.getId() + "." + zone.getId() + "." + room.getId());
-        config.save();
+        model.setZone(zone);
+        model.setRegion(region);
+        model.getWorldPager().setCurrentZone(zone);
+        model.getMap().addRoom(room);
+        model.notifyObservers(model.getMap());
+        GameJournal journal = model.getGameJournal();
+        String position = PathIndex.pathOf(room);
+        persistence.submit(POSITION_KEY, () -> journal.put(POSITION_KEY, position));
+        updateSavedGameCatalog(false);
+    }
+
+    public void journalRoom(final Room room) {
+        // The state is encoded now, the journal is written in background
+        GameJournal journal = model.getGameJournal();
+        ZoneStateStore store = model.getWorldPager().getStateStore();
+        String key = ZoneStateStore.getJournalKey(room);
+        String state = store.encode(room);
+        persistence.submit("journal/" + key, () -> journal.put(key, state));
+    }
+
+    public void journalInventory() {
+        GameJournal journal = model.getGameJournal();
+        ZoneStateStore store = model.getWorldPager().getStateStore();
+        String state = store.encode(model.getCharacter().getInventory());
+        persistence.submit("journal/" + ZoneStateStore.INVENTORY_KEY,
+                () -> journal.put(ZoneStateStore.INVENTORY_KEY, state));
+    }
+
+    private void updateSavedGameCatalog(final boolean computeSize) {
+        File instanceDir = model.getInstanceDir();
+        Room room = model.getRoom();
+        if (instanceDir == null || room == null) {
+            return;
+        }
+        SavedGameCatalog catalog = model.getSavedGameCatalog();
+        SavedGameInfo info = catalog.get(instanceDir.getName());
+        boolean newInfo = info == null;
+        if (newInfo) {
+            info = new SavedGameInfo(instanceDir.getName(), model.getInstanceConfig().getString("storyId"), null,
+                    0, 0);
+        }
+        String position = PathIndex.pathOf(room);
+        SavedGameInfo positionInfo = info.withPosition(position, System.currentTimeMillis());
+        boolean updateSize = computeSize || newInfo;
+        persistence.submit(catalogKey(instanceDir.getName()), () -> {
+            if (updateSize) {
+                catalog.put(positionInfo.withSize(SavedGameCatalog.sizeOf(instanceDir)));
+            } else {
+                catalog.put(positionInfo);
+            }
+        });
+    }
+
+    private static String catalogKey(final String savedGameId) {
+        return "catalog/" + savedGameId;
+    }
+
+    private void stopHotReload() {
+        if (hotReloader != null) {
+            try {
+                hotReloader.close();
+            } catch (IOException e) {
+                logger.error("Cannot stop the hot reload", e);
+            }
+            hotReloader = null;
+        }
+    }
+
+    private void closeGameJournal(final boolean isStateSaved) {
+        GameJournal journal = model.getGameJournal();
+        if (journal != null) {
+            // The pending position must be written before closing
+            persistence.flush();
+            try {
+                // The journaled rooms and inventory are now in the state files
+                if (isStateSaved) {
+                    model.getWorldPager().getStateStore().clearJournal();
+                }
+                journal.close();
+            } catch (IOException e) {
+                logger.error("Cannot close the game journal", e);
+            }
+            model.setGameJournal(null);
+        }
+    }
+
+    private boolean saveWorldState() {
+        WorldPager pager = model.getWorldPager();
+        if (pager == null) {
+            return false;
+        }
+        boolean isSaved = false;
+        try {
+            // The states are written in background, the journal is only
+            // cleared once they are all on the disk
+            pager.flush();
+            pager.sync();
+            if (model.getCharacter() != null) {
+                pager.getStateStore().saveCharacter(model.getCharacter());
+            }
+            isSaved = true;
+        } catch (IOException e) {
+            controller.printError("Cannot save the state of the world.");
+            logger.error("Cannot save the state of the world", e);
+        }
+        updateSavedGameCatalog(true);
+        return isSaved;
     }
 
     public static boolean hasSavedGames() {
@@ -277,4 +496,8 @@ public class GameController {
     public DisplayController getDisplayController() {
         return displayController;
     }
+
+    public PersistenceService getPersistence() {
+        return persistence;
+    }
 }
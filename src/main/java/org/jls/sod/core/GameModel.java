@@ -25,19 +25,25 @@
 package org.jls.sod.core;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 
 import org.apache.commons.configuration.XMLConfiguration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.loader.GameJournal;
+import org.jls.sod.core.loader.SavedGameCatalog;
+import org.jls.sod.core.loader.StoryCatalog;
+import org.jls.sod.core.loader.StoryInfo;
+import org.jls.sod.core.loader.WorldPager;
 import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.world.MapLayout;
 import org.jls.sod.core.model.world.Region;
 import org.jls.sod.core.model.world.Room;
 import org.jls.sod.core.model.world.World;
 import org.jls.sod.core.model.world.Zone;
 import org.jls.sod.util.ResourceManager;
 import org.jls.toolbox.gui.AbstractModel;
-import org.jls.toolbox.util.file.FileFilter;
 
 /**
  * Game data model.
@@ -47,17 +53,19 @@ import org.jls.toolbox.util.file.FileFilter;
  */
 public class GameModel extends AbstractModel {
 
-    private static final int DEFAULT_MAP_SIZE = 10;
-
     private final Logger logger;
     private final HashMap<String, File> stories;
-    private final Room[][] map;
+    private StoryCatalog storyCatalog;
+    private SavedGameCatalog savedGameCatalog;
+    private final MapLayout map;
 
     private XMLConfiguration instanceConfig;
     private File instanceDir;
+    private GameJournal gameJournal;
 
     private Character character;
     private World world;
+    private WorldPager worldPager;
     private Region region;
     private Zone zone;
     private Room room;
@@ -68,36 +76,58 @@ public class GameModel extends AbstractModel {
     public GameModel() {
         this.logger = LogManager.getLogger();
         this.stories = new HashMap<>();
-        this.map = new Room[DEFAULT_MAP_SIZE][DEFAULT_MAP_SIZE];
+        this.storyCatalog = null;
+        this.savedGameCatalog = null;
+        this.map = new MapLayout();
         this.instanceConfig = null;
         this.instanceDir = null;
         this.character = null;
         this.world = null;
+        this.worldPager = null;
         this.region = null;
         this.zone = null;
         this.room = null;
         listStories(new File(ResourceManager.STORIES_PATH));
+        listSavedGames(new File(ResourceManager.SAVED_PATH));
     }
 
     /**
-     * List the available stories.
+     * List the available stories from the stories catalog.
      * 
      * @param parentDir
      *            The directory containing the stories.
      */
     private void listStories (final File parentDir) {
         if (parentDir.exists()) {
-            FileFilter filter = new FileFilter(FileFilter.ONLY_FOLDERS);
-            File[] files = parentDir.listFiles(filter);
             this.logger.info("Listing game stories");
-            for (File file : files) {
-                this.stories.put(file.getName(), file);
+            try {
+                this.storyCatalog = StoryCatalog.open(parentDir, new File(ResourceManager.STORIES_INDEX_PATH));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot list stories : " + parentDir.getAbsolutePath(), e);
+            }
+            for (StoryInfo info : this.storyCatalog.getStories()) {
+                this.stories.put(info.getId(), info.getDirectory());
             }
         } else {
             throw new IllegalStateException("Stories directory not found : " + parentDir.getAbsolutePath());
         }
     }
 
+    /**
+     * List the saved games from the saved games catalog.
+     * 
+     * @param savedDir
+     *            The directory containing the saved games.
+     */
+    private void listSavedGames (final File savedDir) {
+        this.logger.info("Listing saved games");
+        try {
+            this.savedGameCatalog = SavedGameCatalog.open(savedDir, new File(ResourceManager.SAVED_INDEX_PATH));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list saved games : " + savedDir.getAbsolutePath(), e);
+        }
+    }
+
     /**
      * Returns the current world.
      * 
@@ -117,12 +147,30 @@ public class GameModel extends AbstractModel {
     }
 
     /**
-     * Returns the instance's map.
+     * Returns the catalog of the available game stories and their metadata.
+     * 
+     * @return The stories catalog.
+     */
+    public StoryCatalog getStoryCatalog () {
+        return this.storyCatalog;
+    }
+
+    /**
+     * Returns the catalog of the saved games and their metadata.
+     * 
+     * @return The saved games catalog.
+     */
+    public SavedGameCatalog getSavedGameCatalog () {
+        return this.savedGameCatalog;
+    }
+
+    /**
+     * Returns the map of the rooms discovered in the game instance.
      * 
      * @return The instance's map.
      */
-    public Room[][] getMap () {
-        return map;
+    public MapLayout getMap () {
+        return this.map;
     }
 
     /**
@@ -165,6 +213,26 @@ public class GameModel extends AbstractModel {
         this.instanceDir = dir;
     }
 
+    /**
+     * Returns the journal of the game instance.
+     * 
+     * @return The journal of the game instance, or <code>null</code> if no game
+     *         is loaded.
+     */
+    public GameJournal getGameJournal () {
+        return gameJournal;
+    }
+
+    /**
+     * Sets the journal of the game instance.
+     * 
+     * @param journal
+     *            The journal of the game instance.
+     */
+    public void setGameJournal (final GameJournal journal) {
+        this.gameJournal = journal;
+    }
+
     /**
      * Returns the character's instance.
      * 
@@ -194,6 +262,25 @@ public class GameModel extends AbstractModel {
         this.world = world;
     }
 
+    /**
+     * Returns the pager loading the zones of the current world on demand.
+     * 
+     * @return The pager of the current world.
+     */
+    public WorldPager getWorldPager () {
+        return this.worldPager;
+    }
+
+    /**
+     * Specifies the pager loading the zones of the current world on demand.
+     * 
+     * @param pager
+     *            The pager of the current world.
+     */
+    public void setWorldPager (WorldPager pager) {
+        this.worldPager = pager;
+    }
+
     /**
      * Returns the current region.
      * 
@@ -57,6 +57,7 @@ public class CommandController {
         this.commandExecutorMap.put("se", new Move(this, Direction.SOUTH_EAST));
         this.commandExecutorMap.put("e", new Move(this, Direction.EAST));
         this.commandExecutorMap.put("ne", new Move(this, Direction.NORTH_EAST));
+        this.commandExecutorMap.put("goto", new Goto(this));
 
         this.commandExecutorMap.put("look", new Look(this));
         this.commandExecutorMap.put("inspect", new Inspect(this));
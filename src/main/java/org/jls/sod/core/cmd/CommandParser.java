@@ -77,6 +77,7 @@ public class CommandParser {
         createExitParser(subparsers);
 
         createMoveParser(subparsers);
+        createGotoParser(subparsers);
         createLookParser(subparsers);
         createInspectParser(subparsers);
         createFeelParser(subparsers);
@@ -144,6 +145,19 @@ public class CommandParser {
         helpMessages.put("move", parser.formatHelp());
     }
 
+    private void createGotoParser(Subparsers subparsers) {
+        Subparser parser = subparsers.addParser("goto");
+        parser.usage("goto <room>");
+        parser.help("Walk to the specified room.");
+        parser.description("Use this command to walk to a room through the shortest route. The room " +
+                "is looked up in the current zone first, it may be qualified as 'zone.room' or " +
+                "'region.zone.room'.");
+
+        parser.addArgument("room").nargs("?").help("The identifier of the room you wish to reach.");
+
+        helpMessages.put("goto", parser.formatHelp());
+    }
+
     private void createLookParser(Subparsers subparsers) {
         Subparser parser = subparsers.addParser("look");
         parser.usage("look [direction or item]");
@@ -73,8 +73,11 @@ public class Drop extends BasicCommand {
             displayController.printCommandResult(
                     props.getString("command.drop.item") + " [" + itemId + "] x" + quantity);
             room.getInventory().addItem(item, quantity);
+            room.markModified();
         } catch (NotCarriableException e) {
             logger.error("Trying to add a not transportable item : {}", item.getId(), e);
         }
+        controller.journalRoom(room);
+        controller.journalInventory();
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.cmd;
+
+import java.util.List;
+
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.world.PathIndex;
+import org.jls.sod.core.model.world.Room;
+import org.jls.sod.core.model.world.World;
+
+public class Goto extends BasicCommand {
+
+    public Goto(final CommandController commandController) {
+        super(commandController);
+    }
+
+    @Override
+    public String apply(final Command command) {
+        String target = command.getNamespace().getString("room");
+        if (target == null || target.isEmpty()) {
+            displayController.printError(props.getString("command.goto.error.noRoomSpecified"));
+            return null;
+        }
+
+        Room destination = findRoom(target);
+        if (destination == null) {
+            logger.warn("Unknown or ambiguous room : {}", target);
+            displayController.printError(props.getString("command.goto.error.unknownRoom"));
+            return null;
+        }
+
+        Room room = model.getRoom();
+        if (destination == room) {
+            displayController.printError(props.getString("command.goto.error.alreadyThere"));
+            return null;
+        }
+
+        List<Direction> route = model.getWorld().getPathFinder().findPath(room, destination);
+        if (route == null) {
+            logger.warn("No route from {} to {}", room.getId(), destination.getId());
+            displayController.printError(props.getString("command.goto.error.noRoute"));
+            return null;
+        }
+        walk(route);
+        return null;
+    }
+
+    private Room findRoom(final String target) {
+        World world = model.getWorld();
+        // A bare identifier designates a room of the current zone first
+        if (target.indexOf(PathIndex.SEPARATOR) < 0) {
+            Room room = model.getZone().getRoom(target);
+            return room != null ? room : world.getPathIndex().getRoom(target);
+        }
+        String[] tokens = PathIndex.qualify(model.getZone(), target);
+        return tokens != null ? world.getPathIndex().resolve(PathIndex.join(tokens)) : null;
+    }
+
+    private void walk(final List<Direction> route) {
+        // The crossed rooms are visited and mapped but only the destination is
+        // described
+        Room room = model.getRoom();
+        for (Direction direction : route) {
+            room = room.getNeighbor(direction);
+            if (room == null) {
+                logger.error("Route broken in the direction {}", direction);
+                displayController.printError(props.getString("command.goto.error.noRoute"));
+                return;
+            }
+            room.setVisited(true);
+            controller.journalRoom(room);
+            model.getMap().addRoom(room);
+        }
+        logger.info("Going to room {} in {} steps", room.getName(), route.size());
+        displayController.printCommandResult(props.getString("command.goto.text.route") + " " + route.size()
+                + ".\n");
+        displayController.printRoomDescription(room);
+        controller.updateCurrentPosition(room);
+    }
+}
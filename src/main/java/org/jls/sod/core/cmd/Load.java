@@ -23,7 +23,6 @@
  */
 package org.jls.sod.core.cmd;
 
-import org.jdom2.JDOMException;
 
 import java.io.IOException;
 
@@ -42,7 +41,7 @@ public class Load extends BasicCommand {
         } else {
             try {
                 controller.loadGame(instanceName);
-            } catch (JDOMException | IOException e) {
+            } catch (IOException e) {
                 displayController.printError("Cannot load game instance name: " + instanceName);
                 displayController.printError(e.getMessage());
                 logger.error(e);
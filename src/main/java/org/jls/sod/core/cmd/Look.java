@@ -64,8 +64,8 @@ public class Look extends SenseBase {
     private void lookToDirection(final Direction direction) {
         displayController.printCommandResult(props.getString("command.look.to.direction") + " " + direction);
 
-        if (playerCanGoInThis(direction)) {
-            Room nextRoom = nextRoomInThis(direction);
+        Room nextRoom = playerCanGoInThis(direction) ? nextRoomInThis(direction) : null;
+        if (nextRoom != null) {
             displayController.printDescription(nextRoom.getShortDescription());
             logger.info("Looking {} : room {}", direction, nextRoom.getName());
         } else {
@@ -23,7 +23,6 @@
  */
 package org.jls.sod.core.cmd;
 
-import org.apache.commons.configuration.ConfigurationException;
 import org.jls.sod.core.model.Direction;
 import org.jls.sod.core.model.world.Room;
 
@@ -42,12 +41,7 @@ public class Move extends BasicCommand {
 
     @Override
     public String apply(final Command command) {
-        try {
-            goInDirection(getUserDirection(command));
-        } catch (ConfigurationException e) {
-            logger.error("An error occurred updating current position", e);
-            throw new RuntimeException("Cannot update current position", e);
-        }
+        goInDirection(getUserDirection(command));
         return null;
     }
 
@@ -64,16 +58,16 @@ public class Move extends BasicCommand {
         }
     }
 
-    public void goInDirection(final Direction direction) throws ConfigurationException {
+    public void goInDirection(final Direction direction) {
         if (direction == Direction.CENTER) {
             logger.warn("Player is moving nowhere");
             this.displayController.printError(props.getString("command.navigate.error.nowhere"));
             return;
         }
 
-        if (playerCanGoInThis(direction)) {
-            Room nextRoom = nextRoomInThis(direction);
-            printGoingInThis(direction);
+        Room nextRoom = playerCanGoInThis(direction) ? nextRoomInThis(direction) : null;
+        if (nextRoom != null) {
+            printGoingInThis(direction, nextRoom);
             displayController.printRoomDescription(nextRoom);
             controller.updateCurrentPosition(nextRoom);
         } else {
@@ -81,8 +75,8 @@ public class Move extends BasicCommand {
         }
     }
 
-    private void printGoingInThis(final Direction direction) {
-        logger.info("Going {} in room {}", direction, nextRoomInThis(direction).getName());
+    private void printGoingInThis(final Direction direction, final Room nextRoom) {
+        logger.info("Going {} in room {}", direction, nextRoom.getName());
         displayController.printCommandResult(props.getString("command.navigate.text" +
                 ".goingInTheDirection") + " " + direction + ".\n");
     }
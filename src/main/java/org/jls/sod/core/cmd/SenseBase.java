@@ -64,8 +64,8 @@ public abstract class SenseBase extends BasicCommand {
     }
 
     protected void printSenseDescription(final Sense sense, final Direction direction) {
-        if (playerCanGoInThis(direction)) {
-            Room nextRoom = nextRoomInThis(direction);
+        Room nextRoom = playerCanGoInThis(direction) ? nextRoomInThis(direction) : null;
+        if (nextRoom != null) {
             displayController.printSenseDescription(nextRoom, sense);
             logger.info("Using sense {} to {} : room {}", sense, direction, nextRoom.getName());
         } else {
@@ -69,6 +69,7 @@ public class Take extends BasicCommand {
         Inventory inventory = model.getCharacter().getInventory();
 
         Item item = room.getInventory().removeItem(itemId, quantity);
+        room.markModified();
         try {
             logger.info("Taking item(s) [{}] x{} from room {}", itemId, quantity, room.getId());
             displayController.printCommandResult(
@@ -77,6 +78,8 @@ public class Take extends BasicCommand {
         } catch (NotCarriableException e) {
             logger.error("Trying to add a not transportable item : {}", item.getId(), e);
         }
+        controller.journalRoom(room);
+        controller.journalInventory();
     }
 
     private void takeAllItems() {
@@ -87,5 +90,8 @@ public class Take extends BasicCommand {
         displayController.printCommandResult(props.getString("command.take.all"));
         // Transfer all items in the room to the character's inventory
         character.getInventory().importInventory(room.getInventory());
+        room.markModified();
+        controller.journalRoom(room);
+        controller.journalInventory();
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+/**
+ * Plain description of a story, a world, a region or a zone as read from its
+ * description file : identifier, name, description and entry point.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class AreaData {
+
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String entryPoint;
+
+    /**
+     * Instantiates a new area description.
+     * 
+     * @param id
+     *            The area identifier.
+     * @param name
+     *            The area name.
+     * @param desc
+     *            The area description.
+     * @param entryPoint
+     *            Identifier of the default child area (or room) where the player
+     *            should start.
+     */
+    public AreaData(final String id, final String name, final String desc, final String entryPoint) {
+        this.id = id;
+        this.name = name;
+        this.description = desc;
+        this.entryPoint = entryPoint;
+    }
+
+    public String getId () {
+        return this.id;
+    }
+
+    public String getName () {
+        return this.name;
+    }
+
+    public String getDescription () {
+        return this.description;
+    }
+
+    public String getEntryPoint () {
+        return this.entryPoint;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.character.Monster;
+import org.jls.sod.core.model.item.Item;
+
+/**
+ * Reads the game data files (stories, worlds, regions, zones, rooms, items,
+ * monsters and player template)
+ * used by the {@link Loader}.
+ * <p>
+ * Two implementations are available : {@link StaxGameDataReader} which streams
+ * the files and is used by default, and {@link JdomGameDataReader} which builds
+ * the whole document tree of each file.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public interface GameDataReader {
+
+    /**
+     * Reads the specified story file.
+     * 
+     * @param file
+     *            The XML file containing the story.
+     * @return New instance of {@link Story}.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    Story readStory (File file) throws IOException;
+
+    /**
+     * Reads the specified world, region or zone description file.
+     * 
+     * @param file
+     *            The XML file containing the description.
+     * @return The description of the area.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    AreaData readArea (File file) throws IOException;
+
+    /**
+     * Reads the specified room file.
+     * 
+     * @param file
+     *            The XML file containing the room.
+     * @return The description of the room.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    default RoomData readRoom (final File file) throws IOException {
+        return readRoom(file, null);
+    }
+
+    /**
+     * Reads the specified room file, sharing its texts with the identical texts
+     * of the specified pool.
+     * 
+     * @param file
+     *            The XML file containing the room.
+     * @param pool
+     *            The pool of the loaded texts, or <code>null</code> to keep the
+     *            texts as read.
+     * @return The description of the room.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    RoomData readRoom (File file, StringPool pool) throws IOException;
+
+    /**
+     * Reads the specified item file.
+     * 
+     * @param file
+     *            The XML file containing the item.
+     * @return New instance of {@link Item}.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    Item readItem (File file) throws IOException;
+
+    /**
+     * Reads the specified monster file.
+     * 
+     * @param file
+     *            The XML file containing the monster.
+     * @return New instance of {@link Monster}.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    Monster readMonster (File file) throws IOException;
+
+    /**
+     * Reads the specified player template file.
+     * 
+     * @param file
+     *            The XML file containing the player template.
+     * @return New instance of {@link Character}.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    Character readCharacter (File file) throws IOException;
+}
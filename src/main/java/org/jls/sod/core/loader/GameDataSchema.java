@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.FileNotFoundException;
+import java.net.URL;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.jls.sod.util.ResourceManager;
+import org.xml.sax.SAXException;
+
+/**
+ * Enumerates the XML schemas describing the game data files.
+ * <p>
+ * Each schema is compiled once, the first time it is requested, and the
+ * resulting {@link Schema} is shared : a compiled schema is immutable and
+ * thread-safe, only the validators created from it must not be shared between
+ * threads.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public enum GameDataSchema {
+    STORY("story.xsd"), WORLD("world.xsd"), REGION("region.xsd"), ZONE("zone.xsd"), ROOM("room.xsd"),
+    ITEM("item.xsd"), MONSTER("monster.xsd");
+
+    /**
+     * Resources directory containing the schemas.
+     */
+    private static final String SCHEMAS_DIR = "game-data-schemas/";
+
+    private final String fileName;
+    private volatile Schema schema;
+
+    private GameDataSchema(final String fileName) {
+        this.fileName = fileName;
+        this.schema = null;
+    }
+
+    /**
+     * Returns the compiled schema, compiling it the first time.
+     * 
+     * @return The compiled schema.
+     * @throws IllegalStateException
+     *             If the schema cannot be found or compiled.
+     */
+    public Schema getSchema () {
+        Schema compiled = this.schema;
+        if (compiled == null) {
+            synchronized (this) {
+                compiled = this.schema;
+                if (compiled == null) {
+                    compiled = compile();
+                    this.schema = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private Schema compile () {
+        try {
+            URL url = ResourceManager.getResource(SCHEMAS_DIR + this.fileName);
+            // The factories are not thread-safe, one is created for each schema
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            return factory.newSchema(url);
+        } catch (FileNotFoundException e) {
+            throw new IllegalStateException("Schema not found : " + this.fileName, e);
+        } catch (SAXException e) {
+            throw new IllegalStateException("Cannot compile schema : " + this.fileName, e);
+        }
+    }
+
+    /**
+     * Returns the schema file name.
+     * 
+     * @return Schema file name.
+     */
+    public String getFileName () {
+        return this.fileName;
+    }
+}
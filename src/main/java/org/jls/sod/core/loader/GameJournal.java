@@ -0,0 +1,408 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Write-ahead journal of the state of a game instance (position of the player,
+ * rooms changed by the player and inventory), stored as key-value pairs.
+ * <p>
+ * Each change appends a small record to the log file instead of rewriting the
+ * whole state : the record is handed to the operating system but the file is
+ * not forced to the disk, so a change costs a few microseconds. When the log
+ * contains enough records, the state is compacted into a snapshot file written
+ * atomically and the log is truncated.
+ * </p>
+ * <p>
+ * The journal is recovered when it is opened : the snapshot is read and the
+ * records of the log are replayed. Each record is checksummed, the replay stops
+ * at the first incomplete or corrupted record (the last change written before
+ * a crash) and the log is truncated there.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class GameJournal implements Closeable {
+
+    /**
+     * Magic number identifying a snapshot file.
+     */
+    static final int MAGIC = 0x534f444a;
+    /**
+     * Version of the snapshot and log formats.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Name of the snapshot file in the instance directory.
+     */
+    public static final String SNAPSHOT_FILENAME = "journal.snapshot";
+    /**
+     * Name of the log file in the instance directory.
+     */
+    public static final String LOG_FILENAME = "journal.log";
+
+    /**
+     * Number of records after which the log is compacted by default.
+     */
+    public static final int DEFAULT_COMPACT_THRESHOLD = 1024;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final Logger logger;
+    private final File snapshotFile;
+    private final File logFile;
+    private final int compactThreshold;
+    private final HashMap<String, String> state;
+    private final ByteArrayOutputStream buffer;
+    private final DataOutputStream bufferOut;
+
+    private FileChannel log;
+    private int records;
+
+    private GameJournal(final File instanceDir, final int compactThreshold) {
+        this.logger = LogManager.getLogger();
+        this.snapshotFile = new File(instanceDir, SNAPSHOT_FILENAME);
+        this.logFile = new File(instanceDir, LOG_FILENAME);
+        this.compactThreshold = compactThreshold;
+        this.state = new HashMap<>();
+        this.buffer = new ByteArrayOutputStream(256);
+        this.bufferOut = new DataOutputStream(this.buffer);
+        this.log = null;
+        this.records = 0;
+    }
+
+    /**
+     * Opens the journal of the specified game instance and recovers its state.
+     * 
+     * @param instanceDir
+     *            The directory of the game instance.
+     * @return The recovered journal.
+     * @throws IOException
+     *             If the journal cannot be read or opened for writing.
+     */
+    public static GameJournal open (final File instanceDir) throws IOException {
+        return open(instanceDir, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Opens the journal of the specified game instance and recovers its state.
+     * 
+     * @param instanceDir
+     *            The directory of the game instance.
+     * @param compactThreshold
+     *            Number of records after which the log is compacted.
+     * @return The recovered journal.
+     * @throws IOException
+     *             If the journal cannot be read or opened for writing.
+     */
+    public static GameJournal open (final File instanceDir, final int compactThreshold) throws IOException {
+        if (compactThreshold <= 0) {
+            throw new IllegalArgumentException("Compact threshold must be a positive integer : " + compactThreshold);
+        }
+        GameJournal journal = new GameJournal(instanceDir, compactThreshold);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Returns the value associated with the specified key.
+     * 
+     * @param key
+     *            The key.
+     * @return The value or <code>null</code> if the key is not in the journal.
+     */
+    public synchronized String get (final String key) {
+        return this.state.get(key);
+    }
+
+    /**
+     * Returns all the key-value pairs of the journal.
+     * 
+     * @return Unmodifiable copy of the state.
+     */
+    public synchronized Map<String, String> getAll () {
+        return Collections.unmodifiableMap(new HashMap<>(this.state));
+    }
+
+    /**
+     * Returns the key-value pairs of the journal whose key starts with the
+     * specified prefix.
+     * 
+     * @param prefix
+     *            The prefix of the keys.
+     * @return The matching pairs.
+     */
+    public synchronized Map<String, String> getAll (final String prefix) {
+        HashMap<String, String> entries = new HashMap<>();
+        for (Map.Entry<String, String> entry : this.state.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Associates a value with the specified key and appends the change to the
+     * log.
+     * 
+     * @param key
+     *            The key.
+     * @param value
+     *            The new value.
+     * @throws IOException
+     *             If the record cannot be written.
+     */
+    public synchronized void put (final String key, final String value) throws IOException {
+        if (value.equals(this.state.put(key, value))) {
+            return;
+        }
+        this.buffer.reset();
+        this.bufferOut.writeByte(PUT);
+        this.bufferOut.writeUTF(key);
+        this.bufferOut.writeUTF(value);
+        append();
+    }
+
+    /**
+     * Removes the specified key and appends the change to the log.
+     * 
+     * @param key
+     *            The key.
+     * @throws IOException
+     *             If the record cannot be written.
+     */
+    public synchronized void remove (final String key) throws IOException {
+        if (this.state.remove(key) == null) {
+            return;
+        }
+        this.buffer.reset();
+        this.bufferOut.writeByte(REMOVE);
+        this.bufferOut.writeUTF(key);
+        append();
+    }
+
+    /**
+     * Removes the keys starting with the specified prefix and appends the
+     * changes to the log.
+     * 
+     * @param prefix
+     *            The prefix of the keys.
+     * @throws IOException
+     *             If a record cannot be written.
+     */
+    public synchronized void removeAll (final String prefix) throws IOException {
+        for (String key : new ArrayList<>(this.state.keySet())) {
+            if (key.startsWith(prefix)) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Forces the records written so far to the disk.
+     * 
+     * @throws IOException
+     *             If the log cannot be forced.
+     */
+    public synchronized void sync () throws IOException {
+        if (this.log != null) {
+            this.log.force(false);
+        }
+    }
+
+    /**
+     * Compacts the state into the snapshot file and truncates the log.
+     * 
+     * @throws IOException
+     *             If the snapshot cannot be written.
+     */
+    public synchronized void compact () throws IOException {
+        File tmpFile = new File(this.snapshotFile.getParentFile(), this.snapshotFile.getName() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmpFile);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.state.size());
+            for (Map.Entry<String, String> entry : this.state.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+            out.flush();
+            // The log is truncated, the snapshot must be on the disk
+            fos.getFD().sync();
+        }
+        Files.move(tmpFile.toPath(), this.snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        openLog().truncate(0);
+        this.records = 0;
+        this.logger.debug("Journal compacted : {} entries", this.state.size());
+    }
+
+    /**
+     * Compacts the journal and closes the log.
+     */
+    @Override
+    public synchronized void close () throws IOException {
+        if (this.log == null) {
+            return;
+        }
+        try {
+            if (this.records > 0) {
+                compact();
+            }
+        } finally {
+            this.log.close();
+            this.log = null;
+        }
+    }
+
+    /**
+     * Appends the record contained in the buffer to the log : length, checksum
+     * and content.
+     */
+    private void append () throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] bytes = this.buffer.toByteArray();
+        crc.update(bytes, 0, bytes.length);
+        ByteBuffer record = ByteBuffer.allocate(8 + bytes.length);
+        record.putInt(bytes.length);
+        record.putInt((int) crc.getValue());
+        record.put(bytes);
+        record.flip();
+        FileChannel channel = openLog();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        this.records++;
+        if (this.records >= this.compactThreshold) {
+            compact();
+        }
+    }
+
+    private FileChannel openLog () throws IOException {
+        if (this.log == null) {
+            this.log = FileChannel.open(this.logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return this.log;
+    }
+
+    /**
+     * Reads the snapshot and replays the log.
+     */
+    private synchronized void recover () throws IOException {
+        if (this.snapshotFile.isFile()) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(this.snapshotFile)))) {
+                if (in.readInt() != MAGIC) {
+                    throw new GameDataException("Not a journal snapshot : " + this.snapshotFile);
+                }
+                int version = in.readInt();
+                if (version != VERSION) {
+                    throw new GameDataException("Unsupported journal snapshot version " + version);
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    this.state.put(in.readUTF(), in.readUTF());
+                }
+            }
+        }
+
+        if (!this.logFile.isFile()) {
+            return;
+        }
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.logFile)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int checksum = in.readInt();
+                if (length <= 0 || length > 1 << 20) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                crc.reset();
+                crc.update(bytes, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(bytes));
+                byte op = record.readByte();
+                String key = record.readUTF();
+                if (op == PUT) {
+                    this.state.put(key, record.readUTF());
+                } else if (op == REMOVE) {
+                    this.state.remove(key);
+                } else {
+                    break;
+                }
+                valid += 8 + length;
+                this.records++;
+            }
+        } catch (EOFException e) {
+            // Incomplete last record
+        }
+        if (valid < this.logFile.length()) {
+            this.logger.warn("Journal {} truncated after {} records", this.logFile, this.records);
+            openLog().truncate(valid);
+        }
+        this.logger.debug("Journal recovered : {} entries, {} records replayed", this.state.size(), this.records);
+    }
+}
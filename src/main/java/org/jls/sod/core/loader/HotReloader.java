@@ -0,0 +1,315 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.inventory.Inventory;
+import org.jls.sod.core.model.inventory.NotCarriableException;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.world.PathIndex;
+import org.jls.sod.core.model.world.Region;
+import org.jls.sod.core.model.world.Room;
+import org.jls.sod.core.model.world.World;
+import org.jls.sod.core.model.world.Zone;
+
+/**
+ * Watches the rooms files of a game instance and patches the live rooms when
+ * they are modified, so that the authors can see their changes without
+ * reloading the game instance.
+ * <p>
+ * The modified files are parsed in a background thread. Only the resulting
+ * patch (descriptions, senses and neighbors) is applied to the room, through
+ * the executor specified at construction time (the thread executing the
+ * commands), so that the commands never wait for a file to be parsed. The
+ * position of the player, the inventories and the visited flags are kept. A
+ * new room file adds the room to its zone, the files of the zones that are not
+ * loaded are ignored.
+ * </p>
+ * <p>
+ * Both the instance and the story directories are watched (see
+ * {@link InstanceOverlay}) : a file of the story hidden by a file of the
+ * instance is ignored.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class HotReloader implements Closeable {
+
+    /**
+     * Delay letting the editors finish writing a file before it is parsed.
+     */
+    private static final long SETTLE_DELAY_MS = 100;
+
+    private final Logger logger;
+    private final Loader loader;
+    private final World world;
+    private final Executor executor;
+    private final InstanceOverlay files;
+    private final HashMap<WatchKey, Path> keys;
+
+    private WatchService watcher;
+
+    /**
+     * Instantiates a new reloader.
+     * 
+     * @param loader
+     *            The loader used to parse the rooms files.
+     * @param world
+     *            The live world whose rooms are patched.
+     * @param executor
+     *            The executor running the patches on the thread executing the
+     *            commands.
+     */
+    public HotReloader(final Loader loader, final World world, final Executor executor) {
+        this.logger = LogManager.getLogger();
+        this.loader = loader;
+        this.world = world;
+        this.executor = executor;
+        this.files = loader.getFiles();
+        this.keys = new HashMap<>();
+        this.watcher = null;
+    }
+
+    /**
+     * Starts watching the world directories in a background thread. Does nothing
+     * if the directories are already watched.
+     * 
+     * @throws IOException
+     *             If a directory cannot be watched.
+     */
+    public synchronized void start () throws IOException {
+        if (this.watcher != null) {
+            return;
+        }
+        List<File> worldDirs = this.files.getLayers("worlds", this.world.getId());
+        if (worldDirs.isEmpty()) {
+            throw new IllegalStateException("World directory not found : " + this.world.getId());
+        }
+        this.watcher = worldDirs.get(0).toPath().getFileSystem().newWatchService();
+        for (File worldDir : worldDirs) {
+            registerAll(worldDir.toPath());
+        }
+        WatchService service = this.watcher;
+        Thread thread = new Thread(() -> run(service), "hot-reloader");
+        thread.setDaemon(true);
+        thread.start();
+        this.logger.info("Hot reload enabled on world {}", this.world.getId());
+    }
+
+    /**
+     * Stops watching the world directories.
+     */
+    @Override
+    public synchronized void close () throws IOException {
+        if (this.watcher != null) {
+            this.watcher.close();
+            this.watcher = null;
+        }
+    }
+
+    /**
+     * Registers the specified directory and all its sub-directories.
+     */
+    private void registerAll (final Path dir) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory (final Path subDir, final BasicFileAttributes attrs)
+                    throws IOException {
+                WatchKey key = subDir.register(HotReloader.this.watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                synchronized (HotReloader.this.keys) {
+                    HotReloader.this.keys.put(key, subDir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Processes the events of the watch service until it is closed.
+     * 
+     * @param service
+     *            The watch service of the world directory.
+     */
+    private void run (final WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                // Lets the editor finish writing, then collects all the pending events
+                // so that a file written several times is parsed once
+                Thread.sleep(SETTLE_DELAY_MS);
+                Set<Path> modified = new LinkedHashSet<>();
+                while (key != null) {
+                    collect(key, modified);
+                    key = service.poll(0, TimeUnit.MILLISECONDS);
+                }
+                for (Path file : modified) {
+                    reload(file);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Reloader closed
+        }
+    }
+
+    private void collect (final WatchKey key, final Set<Path> modified) {
+        Path dir;
+        synchronized (this.keys) {
+            dir = this.keys.get(key);
+        }
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                continue;
+            }
+            Path file = dir.resolve((Path) event.context());
+            if (Files.isDirectory(file)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    try {
+                        registerAll(file);
+                    } catch (IOException e) {
+                        this.logger.error("Cannot watch directory {}", file, e);
+                    }
+                }
+            } else if (file.getFileName().toString().endsWith(".xml")
+                    && "rooms".equals(file.getParent().getFileName().toString())) {
+                modified.add(file);
+            }
+        }
+        if (!key.reset()) {
+            synchronized (this.keys) {
+                this.keys.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Parses the specified room file and submits the patch of the live room.
+     * 
+     * @param file
+     *            The modified room file : {world}/{region}/{zone}/rooms/{room}.xml.
+     */
+    private void reload (final Path file) {
+        if (this.files.isHidden(file.toFile())) {
+            this.logger.debug("Room file {} hidden by the instance, not reloaded", file);
+            return;
+        }
+        Path zoneDir = file.getParent().getParent();
+        String zoneId = zoneDir.getFileName().toString();
+        String regionId = zoneDir.getParent().getFileName().toString();
+        RoomData data;
+        Inventory items = new Inventory();
+        try {
+            data = this.loader.readRoom(file.toFile());
+            // The items are only used if the room is new, the inventory of a live room
+            // is kept
+            for (Entry<String, Integer> entry : data.getItems()) {
+                Item item = this.loader.loadItem(entry.getKey());
+                if (item.isCarriable()) {
+                    items.addItem(item, entry.getValue());
+                }
+            }
+        } catch (IOException | NotCarriableException | RuntimeException e) {
+            // The file may be invalid while the author is editing it
+            this.logger.warn("Cannot reload room file {} : {}", file, e.getMessage());
+            return;
+        }
+        this.executor.execute(() -> patch(regionId, zoneId, data, items));
+    }
+
+    /**
+     * Patches the live room with the specified data. Executed on the thread
+     * executing the commands.
+     */
+    private void patch (final String regionId, final String zoneId, final RoomData data, final Inventory items) {
+        Region region = this.world.getRegions().get(regionId);
+        Zone zone = region != null ? region.getZones().get(zoneId) : null;
+        if (zone == null) {
+            this.logger.debug("Zone {} not loaded, room {} not reloaded", zoneId, data.getId());
+            return;
+        }
+
+        // Resolves the neighbors first so that an invalid room is not patched
+        Room room = zone.getRoom(data.getId());
+        EnumMap<Direction, Room> neighbors = new EnumMap<>(Direction.class);
+        EnumMap<Direction, String> links = new EnumMap<>(Direction.class);
+        for (Entry<Direction, String> entry : data.getNeighbors().entrySet()) {
+            String[] target = PathIndex.qualify(zone, entry.getValue());
+            if (target == null) {
+                this.logger.error("Room {} not reloaded : malformed exit target '{}'", data.getId(),
+                        entry.getValue());
+                return;
+            }
+            if (!PathIndex.isInZone(target, zone)) {
+                links.put(entry.getKey(), PathIndex.join(target));
+                continue;
+            }
+            Room nextRoom = target[3].equals(data.getId()) ? room : zone.getRoom(target[3]);
+            if (nextRoom == null) {
+                this.logger.error("Room {} not reloaded : '{}' room not found", data.getId(), entry.getValue());
+                return;
+            }
+            neighbors.put(entry.getKey(), nextRoom);
+        }
+
+        if (room == null) {
+            room = new Room(data.getId(), data.getName(), data.getShortDescription(), data.getLongDescription(),
+                    zone);
+            room.importInventory(items);
+            zone.putRoom(room);
+            this.logger.info("Room {} added to zone {}", data.getId(), zoneId);
+        }
+        room.updateDescription(data.getName(), data.getShortDescription(), data.getLongDescription(),
+                data.getSensesDescription());
+        room.replaceNeighbors(neighbors, links, data.getNeighborsDescription());
+        this.logger.info("Room {} reloaded", data.getId());
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the files of a game instance through two layers : the instance
+ * directory, holding only the files specific to the instance, over the
+ * read-only story directory shared by all the instances of the story.
+ * <p>
+ * A file of the instance directory hides the file with the same relative path
+ * in the story directory, so an instance is created without copying the story
+ * and only stores what differs from it. The paths are relative to the root of
+ * the layers : <code>resolve("worlds", "w", "world.xml")</code>.
+ * </p>
+ * <p>
+ * An instance created by copying the whole story has no story layer, all its
+ * files are resolved in the instance directory.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class InstanceOverlay {
+
+    private final File instanceDir;
+    private final File storyDir;
+
+    /**
+     * Instantiates an overlay.
+     * 
+     * @param instanceDir
+     *            The instance directory, upper layer.
+     * @param storyDir
+     *            The story directory, lower layer, or <code>null</code> if the
+     *            instance directory contains all the files.
+     */
+    public InstanceOverlay(final File instanceDir, final File storyDir) {
+        this.instanceDir = instanceDir;
+        this.storyDir = storyDir;
+    }
+
+    /**
+     * Resolves the specified path : the file of the instance directory if it
+     * exists, else the file of the story directory.
+     * 
+     * @param path
+     *            The path relative to the root of the layers.
+     * @return The resolved file, which is the file of the upper layer if the path
+     *         exists in none of the layers.
+     */
+    public File resolve (final String... path) {
+        File file = child(this.instanceDir, path);
+        if (this.storyDir != null && !file.exists()) {
+            File base = child(this.storyDir, path);
+            if (base.exists()) {
+                return base;
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Lists the files of the specified directory with the specified extension,
+     * merging the layers : a file of the instance directory hides the file with
+     * the same name in the story directory.
+     * 
+     * @param extension
+     *            The extension of the files to list (<i>.xml</i> for instance).
+     * @param dirPath
+     *            The path of the directory relative to the root of the layers.
+     * @return The files sorted by name, or <code>null</code> if the directory
+     *         exists in none of the layers.
+     */
+    public File[] listFiles (final String extension, final String... dirPath) {
+        TreeMap<String, File> files = null;
+        for (File dir : getLayers(dirPath)) {
+            File[] layerFiles = dir.listFiles(f -> f.isFile() && f.getName().endsWith(extension));
+            if (layerFiles == null) {
+                continue;
+            }
+            if (files == null) {
+                files = new TreeMap<>();
+            }
+            for (File file : layerFiles) {
+                files.putIfAbsent(file.getName(), file);
+            }
+        }
+        return files != null ? files.values().toArray(new File[files.size()]) : null;
+    }
+
+    /**
+     * Returns the existing files matching the specified path in each layer, the
+     * upper layer first.
+     * 
+     * @param path
+     *            The path relative to the root of the layers.
+     * @return The existing files or directories, empty if the path exists in none
+     *         of the layers.
+     */
+    public List<File> getLayers (final String... path) {
+        List<File> layers = new ArrayList<>(2);
+        File file = child(this.instanceDir, path);
+        if (file.exists()) {
+            layers.add(file);
+        }
+        if (this.storyDir != null) {
+            File base = child(this.storyDir, path);
+            if (base.exists()) {
+                layers.add(base);
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Returns the files matching the specified path in each layer, whether they
+     * exist or not, the upper layer first.
+     * 
+     * @param path
+     *            The path relative to the root of the layers.
+     * @return The files or directories of each layer.
+     */
+    public List<File> getAllLayers (final String... path) {
+        List<File> layers = new ArrayList<>(2);
+        layers.add(child(this.instanceDir, path));
+        if (this.storyDir != null) {
+            layers.add(child(this.storyDir, path));
+        }
+        return layers;
+    }
+
+    /**
+     * Tells if the specified file of the story directory is hidden by a file of
+     * the instance directory.
+     * 
+     * @param file
+     *            A file of one of the layers.
+     * @return <code>true</code> if the file belongs to the story directory and
+     *         the instance directory contains a file with the same relative path.
+     */
+    public boolean isHidden (final File file) {
+        if (this.storyDir == null) {
+            return false;
+        }
+        String base = this.storyDir.getAbsolutePath() + File.separator;
+        String path = file.getAbsolutePath();
+        return path.startsWith(base) && new File(this.instanceDir, path.substring(base.length())).exists();
+    }
+
+    /**
+     * Tells if the instance directory overrides the specified path of the story
+     * directory.
+     * 
+     * @param path
+     *            The path relative to the root of the layers.
+     * @return <code>true</code> if the instance has a story layer and its
+     *         directory holds the file, or any file of the directory, matching
+     *         the path.
+     * @throws IOException
+     *             If an error occurred listing the instance directory.
+     */
+    public boolean hasOverride (final String... path) throws IOException {
+        if (this.storyDir == null) {
+            return false;
+        }
+        Path file = child(this.instanceDir, path).toPath();
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.walk(file)) {
+            return files.anyMatch(Files::isRegularFile);
+        }
+    }
+
+    public File getInstanceDir () {
+        return this.instanceDir;
+    }
+
+    /**
+     * Returns the story directory.
+     * 
+     * @return The story directory or <code>null</code> if the instance directory
+     *         contains all the files.
+     */
+    public File getStoryDir () {
+        return this.storyDir;
+    }
+
+    private static File child (final File root, final String... path) {
+        File file = root;
+        for (String name : path) {
+            file = new File(file, name);
+        }
+        return file;
+    }
+}
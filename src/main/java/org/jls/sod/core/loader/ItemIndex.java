@@ -0,0 +1,324 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In-memory index of the items available in the items directories of a game
+ * instance (the directory of the instance and the one of its story, see
+ * {@link InstanceOverlay}).
+ * <p>
+ * The directories are listed once when the index is built, then the commands
+ * check the existence of an item without accessing the file system. Once
+ * {@link #watch()} is called, a {@link WatchService} keeps the index in sync
+ * with the directories : created files are added, deleted files are removed if
+ * no other directory contains the item, and the identifiers of the created,
+ * modified or deleted items are notified to the listener (to invalidate the
+ * {@link ItemRegistry} for instance, since a file created in the instance
+ * directory hides the item of the story).
+ * </p>
+ * <p>
+ * An items directory that does not exist yet, as in a new game instance, is
+ * watched for through its parent directory and indexed once created.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class ItemIndex implements Closeable {
+
+    private static final String EXTENSION = ".xml";
+
+    private final Logger logger;
+    private final List<File> itemsDirs;
+    private final Set<String> ids;
+    private final Consumer<String> changeListener;
+
+    private WatchService watcher;
+
+    /**
+     * Builds the index of the specified items directory.
+     * 
+     * @param itemsDir
+     *            The directory containing the items files.
+     * @param changeListener
+     *            Called with the identifier of an item whose file has been
+     *            created, modified or deleted while the directory is watched.
+     */
+    public ItemIndex(final File itemsDir, final Consumer<String> changeListener) {
+        this(Collections.singletonList(itemsDir), changeListener);
+    }
+
+    /**
+     * Builds the index of the specified items directories.
+     * 
+     * @param itemsDirs
+     *            The directories containing the items files.
+     * @param changeListener
+     *            Called with the identifier of an item whose file has been
+     *            created, modified or deleted while the directories are watched.
+     */
+    public ItemIndex(final List<File> itemsDirs, final Consumer<String> changeListener) {
+        this.logger = LogManager.getLogger();
+        this.itemsDirs = itemsDirs;
+        this.ids = ConcurrentHashMap.newKeySet();
+        this.changeListener = changeListener;
+        this.watcher = null;
+        scan();
+    }
+
+    /**
+     * Tells if the specified item exists.
+     * 
+     * @param itemId
+     *            Unique item identifier.
+     * @return <code>true</code> if the item exists, <code>false</code> otherwise.
+     */
+    public boolean contains (final String itemId) {
+        return this.ids.contains(itemId);
+    }
+
+    /**
+     * Returns the number of indexed items.
+     * 
+     * @return Number of items available in the items directories.
+     */
+    public int size () {
+        return this.ids.size();
+    }
+
+    /**
+     * Starts watching the items directories in a background thread. The
+     * directories that do not exist are watched for through their parent
+     * directory. Does nothing if the directories are already watched or if
+     * neither they nor their parents exist.
+     * 
+     * @throws IOException
+     *             If a directory cannot be watched.
+     */
+    public synchronized void watch () throws IOException {
+        if (this.watcher != null) {
+            return;
+        }
+        HashMap<WatchKey, File> keys = new HashMap<>();
+        HashMap<WatchKey, File> parentKeys = new HashMap<>();
+        WatchService service = null;
+        try {
+            for (File dir : this.itemsDirs) {
+                File parent = dir.getAbsoluteFile().getParentFile();
+                if (dir.isDirectory()) {
+                    if (service == null) {
+                        service = dir.toPath().getFileSystem().newWatchService();
+                    }
+                    keys.put(register(dir, service), dir);
+                } else if (parent != null && parent.isDirectory()) {
+                    if (service == null) {
+                        service = parent.toPath().getFileSystem().newWatchService();
+                    }
+                    parentKeys.put(parent.toPath().register(service, StandardWatchEventKinds.ENTRY_CREATE), dir);
+                }
+            }
+        } catch (IOException e) {
+            if (service != null) {
+                service.close();
+            }
+            throw e;
+        }
+        if (service == null) {
+            return;
+        }
+        this.watcher = service;
+        WatchService watchService = service;
+        Thread thread = new Thread(() -> run(watchService, keys, parentKeys), "item-index-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        this.logger.debug("Watching items directories {}", this.itemsDirs);
+    }
+
+    /**
+     * Stops watching the items directories.
+     */
+    @Override
+    public synchronized void close () throws IOException {
+        if (this.watcher != null) {
+            this.watcher.close();
+            this.watcher = null;
+        }
+    }
+
+    /**
+     * Registers an items directory to the specified watch service. The service is
+     * the one of the watcher thread rather than the field, which is cleared by
+     * {@link #close()} : a directory created while the index is closed is not
+     * registered to a new service that would never be closed.
+     */
+    private static WatchKey register (final File dir, final WatchService service) throws IOException {
+        return dir.toPath().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Lists the items directories and replaces the content of the index.
+     */
+    private void scan () {
+        Set<String> found = new HashSet<>();
+        for (File dir : this.itemsDirs) {
+            File[] files = dir.listFiles(f -> f.isFile() && f.getName().endsWith(EXTENSION));
+            if (files != null) {
+                for (File file : files) {
+                    found.add(toItemId(file.getName()));
+                }
+            }
+        }
+        this.ids.retainAll(found);
+        this.ids.addAll(found);
+        this.logger.debug("{} items indexed in {}", this.ids.size(), this.itemsDirs);
+    }
+
+    /**
+     * Tells if one of the items directories contains the specified file.
+     */
+    private boolean existsInAnyDir (final String fileName) {
+        for (File dir : this.itemsDirs) {
+            if (new File(dir, fileName).isFile()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Processes the events of the watch service until it is closed.
+     * 
+     * @param service
+     *            The watch service of the items directories.
+     * @param keys
+     *            The watched directory of each key.
+     * @param parentKeys
+     *            The missing directory waited for by each key of a parent
+     *            directory.
+     */
+    private void run (final WatchService service, final HashMap<WatchKey, File> keys,
+            final HashMap<WatchKey, File> parentKeys) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                File missing = parentKeys.get(key);
+                if (missing != null) {
+                    key.pollEvents();
+                    if (missing.isDirectory()) {
+                        key.cancel();
+                        parentKeys.remove(key);
+                        keys.put(register(missing, service), missing);
+                        indexCreated(missing);
+                    } else if (!key.reset()) {
+                        parentKeys.remove(key);
+                    }
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events have been lost
+                        scan();
+                        continue;
+                    }
+                    String fileName = ((Path) event.context()).getFileName().toString();
+                    if (!fileName.endsWith(EXTENSION)) {
+                        continue;
+                    }
+                    String itemId = toItemId(fileName);
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        this.logger.debug("Item added : {}", itemId);
+                        this.ids.add(itemId);
+                        this.changeListener.accept(itemId);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        // The item of the story is used again if the instance removes its own
+                        if (!existsInAnyDir(fileName)) {
+                            this.logger.debug("Item removed : {}", itemId);
+                            this.ids.remove(itemId);
+                        }
+                        this.changeListener.accept(itemId);
+                    } else {
+                        this.logger.debug("Item modified : {}", itemId);
+                        this.changeListener.accept(itemId);
+                    }
+                }
+                if (!key.reset()) {
+                    this.logger.warn("Items directory {} is no longer watched", keys.get(key));
+                    keys.remove(key);
+                    scan();
+                    if (keys.isEmpty() && parentKeys.isEmpty()) {
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Index closed
+        } catch (IOException e) {
+            this.logger.error("Cannot watch the items directories {}", this.itemsDirs, e);
+        }
+    }
+
+    /**
+     * Indexes the items of a directory created while its parent was watched. Its
+     * files may have been created before the directory was registered.
+     */
+    private void indexCreated (final File dir) {
+        this.logger.debug("Items directory created : {}", dir);
+        File[] files = dir.listFiles(f -> f.isFile() && f.getName().endsWith(EXTENSION));
+        if (files != null) {
+            for (File file : files) {
+                String itemId = toItemId(file.getName());
+                this.ids.add(itemId);
+                this.changeListener.accept(itemId);
+            }
+        }
+    }
+
+    private static String toItemId (final String fileName) {
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+}
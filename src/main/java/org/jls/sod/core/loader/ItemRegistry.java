@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jls.sod.core.model.item.Item;
+
+/**
+ * Registry of the item prototypes of a game instance.
+ * <p>
+ * Each item is read once from its {@link ItemSource} and the same immutable
+ * {@link Item} instance is then shared by all the rooms and inventories
+ * containing it : the memory used and the loading time depend on the number of
+ * distinct items, not on the number of places they are put in. The state of a
+ * placement (the quantity for instance) is kept by the
+ * {@link org.jls.sod.core.model.inventory.ItemSlot}.
+ * </p>
+ * <p>
+ * The registry is thread-safe so that the rooms of a zone can be loaded in
+ * parallel.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class ItemRegistry {
+
+    /**
+     * Reads an item from the game data.
+     */
+    @FunctionalInterface
+    public interface ItemSource {
+
+        /**
+         * Reads the specified item.
+         * 
+         * @param itemId
+         *            Unique identifier of the item.
+         * @return New instance of {@link Item}.
+         * @throws IOException
+         *             If an error occurred reading the item.
+         */
+        Item read (String itemId) throws IOException;
+    }
+
+    private final ItemSource source;
+    private final ConcurrentHashMap<String, Item> prototypes;
+
+    /**
+     * Instantiates an empty registry.
+     * 
+     * @param source
+     *            The source used to read the items that are not registered yet.
+     */
+    public ItemRegistry(final ItemSource source) {
+        this.source = source;
+        this.prototypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the prototype of the specified item, reading it from the source the
+     * first time it is requested.
+     * 
+     * @param itemId
+     *            Unique identifier of the item.
+     * @return The shared instance of {@link Item}.
+     * @throws IOException
+     *             If an error occurred reading the item.
+     */
+    public Item get (final String itemId) throws IOException {
+        Item item = this.prototypes.get(itemId);
+        if (item == null) {
+            // The source is not called under the map's lock : two threads may read
+            // the same item but only the first registered instance is kept
+            Item read = this.source.read(itemId);
+            item = this.prototypes.putIfAbsent(itemId, read);
+            if (item == null) {
+                item = read;
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Tells if the specified item has already been read.
+     * 
+     * @param itemId
+     *            Unique identifier of the item.
+     * @return <code>true</code> if the item is registered, <code>false</code>
+     *         otherwise.
+     */
+    public boolean isRegistered (final String itemId) {
+        return this.prototypes.containsKey(itemId);
+    }
+
+    /**
+     * Removes the specified item from the registry so that it is read again from
+     * the source the next time it is requested.
+     * 
+     * @param itemId
+     *            Unique identifier of the item.
+     */
+    public void invalidate (final String itemId) {
+        this.prototypes.remove(itemId);
+    }
+
+    /**
+     * Returns the number of registered items.
+     * 
+     * @return Number of distinct items read from the source.
+     */
+    public int size () {
+        return this.prototypes.size();
+    }
+}
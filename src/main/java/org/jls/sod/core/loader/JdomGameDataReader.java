@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.character.Ability;
+import org.jls.sod.core.model.character.AbilityScores;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.character.Monster;
+import org.jls.sod.core.model.character.ScoreComponent;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.item.ItemType;
+import org.jls.toolbox.util.xml.XMLParser;
+
+/**
+ * {@link GameDataReader} building the JDOM document of each file.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class JdomGameDataReader implements GameDataReader {
+
+    @Override
+    public Story readStory (final File file) throws IOException {
+        AreaData area = readArea(file);
+        return new Story(area.getId(), area.getName(), area.getDescription(), area.getEntryPoint());
+    }
+
+    @Override
+    public AreaData readArea (final File file) throws IOException {
+        Element root = parse(file);
+        String id = XMLParser.getAttributeValue(root, "id");
+        String name = XMLParser.getAttributeValue(root, "name");
+        String description = root.getChildTextNormalize("Description").replace("\\n", "\n");
+        String entryId = XMLParser.getAttributeValue(root.getChild("EntryPoint"), "id");
+        return new AreaData(id, name, description, entryId);
+    }
+
+    @Override
+    public RoomData readRoom (final File file, final StringPool pool) throws IOException {
+        Element root = parse(file);
+        String id = XMLParser.getAttributeValue(root, "id");
+        String name = XMLParser.getAttributeValue(root, "name");
+        String shortDesc = root.getChildTextNormalize("ShortDescription").replace("\\n", "\n");
+        String longDesc = root.getChildTextNormalize("LongDescription").replace("\\n", "\n");
+        RoomData room = new RoomData(intern(pool, id), intern(pool, name), intern(pool, shortDesc),
+                intern(pool, longDesc));
+
+        // Iterates over all the directions to get the neighbors
+        for (Element elmt : root.getChild("Directions").getChildren()) {
+            // If next room ID is specified
+            String nextRoomId = elmt.getAttributeValue("id");
+            if (nextRoomId != null) {
+                Direction direction = Direction.valueOf(elmt.getName().toUpperCase());
+                room.putNeighbor(direction, intern(pool, nextRoomId), intern(pool, elmt.getTextNormalize()));
+            }
+        }
+
+        // Senses descriptions
+        for (Element elmt : root.getChild("Senses").getChildren()) {
+            // If description is not empty
+            if (!elmt.getValue().isEmpty()) {
+                room.putSenseDescription(Sense.parseValue(elmt.getName()), intern(pool, elmt.getTextNormalize()));
+            }
+        }
+
+        // Items
+        if (root.getChild("Items") != null) {
+            for (Element elmt : root.getChild("Items").getChildren()) {
+                room.addItem(intern(pool, elmt.getAttributeValue("id")),
+                        Integer.parseInt(elmt.getAttributeValue("quantity")));
+            }
+        }
+        return room;
+    }
+
+    @Override
+    public Item readItem (final File file) throws IOException {
+        Element root = parse(file);
+        Element description = root.getChild("Description");
+
+        String id = XMLParser.getAttributeValue(root, "id");
+        String name = XMLParser.getAttributeValue(root, "name");
+        String shortDesc = description.getChildTextNormalize("Short").replace("\\n", "\n");
+        String longDesc = description.getChildTextNormalize("Long").replace("\\n", "\n");
+        ItemType type = ItemType.valueOf(root.getAttributeValue("type").toUpperCase());
+
+        boolean isCarriable = Boolean.valueOf(root.getAttributeValue("isCarriable"));
+        boolean isStackable = Boolean.valueOf(root.getAttributeValue("isStackable"));
+        // Senses descriptions
+        EnumMap<Sense, String> senses = new EnumMap<>(Sense.class);
+        for (Element elmt : root.getChild("Senses").getChildren()) {
+            if (!elmt.getValue().isEmpty()) {
+                senses.put(Sense.parseValue(elmt.getName()), elmt.getTextNormalize());
+            }
+        }
+        return new Item(id, name, type, shortDesc, longDesc, isCarriable, isStackable, senses);
+    }
+
+    @Override
+    public Monster readMonster (final File file) throws IOException {
+        Element root = parse(file);
+        Element description = root.getChild("Description");
+        Element statistics = root.getChild("Statistics");
+
+        String id = XMLParser.getAttributeValue(root, "id");
+        String name = XMLParser.getAttributeValue(root, "name");
+        String shortDesc = description.getChildTextNormalize("Short").replace("\\n", "\n");
+        String longDesc = description.getChildTextNormalize("Long").replace("\\n", "\n");
+        String type = statistics.getChildTextNormalize("Type");
+        int armorClass = Integer.parseInt(statistics.getChildTextNormalize("ArmorClass"));
+        int hitPoints = Integer.parseInt(statistics.getChildTextNormalize("HitPoints"));
+        float challenge = Monster.parseChallenge(statistics.getChildTextNormalize("Challenge"));
+
+        // Abilities
+        int[] scores = new int[Ability.COUNT];
+        int[] modifiers = new int[Ability.COUNT];
+        for (Element elmt : root.getChild("Abilities").getChildren()) {
+            int index = Ability.parseValue(elmt.getName()).ordinal();
+            scores[index] = Integer.parseInt(elmt.getChildTextNormalize("BaseScore"));
+            modifiers[index] = Integer.parseInt(elmt.getChildTextNormalize("Modifier"));
+        }
+        return new Monster(id, name, type, shortDesc, longDesc, armorClass, hitPoints, challenge, scores,
+                modifiers);
+    }
+
+    @Override
+    public Character readCharacter (final File file) throws IOException {
+        Element root = parse(file);
+        String id = XMLParser.getAttributeValue(root, "id");
+        String name = XMLParser.getAttributeValue(root, "name");
+
+        // Abilities
+        AbilityScores abilities = new AbilityScores();
+        for (Element elmt : root.getChild("Abilities").getChildren()) {
+            Ability ability = Ability.parseValue(elmt.getName());
+            for (Element component : elmt.getChildren()) {
+                abilities.set(ability, ScoreComponent.parseValue(component.getName()),
+                        Integer.parseInt(component.getTextNormalize()));
+            }
+        }
+        return new Character(id, name, abilities);
+    }
+
+    /**
+     * Returns the pooled instance of the specified text, or the text itself if
+     * there is no pool.
+     */
+    private static String intern (final StringPool pool, final String text) {
+        return pool != null ? pool.intern(text) : text;
+    }
+
+    /**
+     * Parses the specified file and returns its root element.
+     * 
+     * @param file
+     *            The XML file to parse.
+     * @return The root element of the document.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    private static Element parse (final File file) throws IOException {
+        try {
+            return XMLParser.parseXML(file).getRootElement();
+        } catch (JDOMException e) {
+            throw new GameDataException("Malformed XML file : " + file.getAbsolutePath(), e);
+        }
+    }
+}
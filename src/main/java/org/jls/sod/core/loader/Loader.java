@@ -26,29 +26,40 @@ package org.jls.sod.core.loader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jls.sod.core.model.Direction;
 import org.jls.sod.core.model.Sense;
 import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.character.Monster;
 import org.jls.sod.core.model.inventory.Inventory;
 import org.jls.sod.core.model.inventory.NotCarriableException;
 import org.jls.sod.core.model.item.Item;
-import org.jls.sod.core.model.item.ItemType;
+import org.jls.sod.core.model.world.PathIndex;
 import org.jls.sod.core.model.world.Region;
 import org.jls.sod.core.model.world.Room;
 import org.jls.sod.core.model.world.World;
 import org.jls.sod.core.model.world.Zone;
-import org.jls.toolbox.util.xml.XMLParser;
-import org.jdom2.Document;
-import org.jdom2.Element;
-import org.jdom2.JDOMException;
 
 /**
  * Loader that parses the XML files available in the data resources of the game
  * and returns plain old objects used by the game controller.
+ * <p>
+ * The files are read through a {@link GameDataReader}, by default the streaming
+ * {@link StaxGameDataReader}.
+ * </p>
  * 
  * @author LE SAUCE Julien
  * @date Sep 3, 2015
@@ -60,38 +71,191 @@ public class Loader {
      */
     private static Loader INSTANCE = null;
 
+    /**
+     * Reader used when none is specified.
+     */
+    private static final GameDataReader DEFAULT_READER = new StaxGameDataReader();
+
     private final Logger logger;
-    private final File instanceDir;
-    private final File worldsDir;
-    private final File itemsDir;
+    private final InstanceOverlay files;
+    private final GameDataReader reader;
+    private final StoryImage image;
+    private final ItemRegistry items;
+    private final ItemIndex itemIndex;
+    private final MonsterRegistry monsters;
+    private final StringPool strings;
 
     /**
      * Instantiates the game loader.
      * 
+     * @param files
+     *            Resolves the files of the game instance.
+     * @param reader
+     *            The reader used to parse the game data files.
+     * @param image
+     *            The compiled story image used instead of the XML files, or
+     *            <code>null</code> to parse the XML files.
+     * @param strings
+     *            The pool sharing the identical texts of the game data.
+     */
+    private Loader(final InstanceOverlay files, final GameDataReader reader, final StoryImage image,
+            final StringPool strings) {
+        this.logger = LogManager.getLogger();
+        this.files = files;
+        this.reader = reader;
+        this.image = image;
+        this.strings = strings;
+        this.items = new ItemRegistry(this::readItem);
+        this.itemIndex = image == null ? new ItemIndex(files.getAllLayers("items"), this.items::invalidate) : null;
+        this.monsters = new MonsterRegistry(this::readMonster);
+    }
+
+    /**
+     * Builds the unique instance of this class using the default
+     * {@link GameDataReader}.
+     * <p>
+     * If the instance directory contains a compiled {@link StoryImage} (see
+     * {@link StoryCompiler}) up to date with the XML files, the game data are
+     * loaded from this image instead of the XML files, unless the instance
+     * overrides some of the game data.
+     * </p>
+     * 
      * @param instanceDirectory
      *            Specifies the instance directory containing all the files of the
      *            game instance.
+     * @return Unique instance of this class.
+     * @throws IOException
+     *             If the items directory cannot be watched.
      */
-    private Loader(final File instanceDirectory) {
-        this.logger = LogManager.getLogger();
-        this.instanceDir = instanceDirectory;
-        this.worldsDir = new File(this.instanceDir, "worlds");
-        this.itemsDir = new File(this.instanceDir, "items");
+    public final static Loader build (final File instanceDirectory) throws IOException {
+        return build(instanceDirectory, null, DEFAULT_READER);
     }
 
     /**
-     * Builds the unique instance of this class.
+     * Builds the unique instance of this class for a game instance layered over
+     * its story, using the default {@link GameDataReader}.
+     * <p>
+     * The files of the instance directory hide the files of the story directory
+     * (see {@link InstanceOverlay}) : the instance directory only contains what
+     * differs from the story.
+     * </p>
+     * 
+     * @param instanceDirectory
+     *            Specifies the instance directory containing the files specific
+     *            to the game instance.
+     * @param storyDirectory
+     *            Specifies the read-only story directory, or <code>null</code> if
+     *            the instance directory contains all the files.
+     * @return Unique instance of this class.
+     * @throws IOException
+     *             If the items directory cannot be watched.
+     */
+    public final static Loader build (final File instanceDirectory, final File storyDirectory) throws IOException {
+        return build(instanceDirectory, storyDirectory, DEFAULT_READER);
+    }
+
+    /**
+     * Builds the unique instance of this class using the specified
+     * {@link GameDataReader}.
+     * <p>
+     * If the instance directory contains a compiled {@link StoryImage} (see
+     * {@link StoryCompiler}) up to date with the XML files, the game data are
+     * loaded from this image instead of the XML files, unless the instance
+     * overrides some of the game data. Otherwise the items directory is indexed
+     * and watched so that the existence of an item is checked without accessing
+     * the file system.
+     * </p>
+     * <p>
+     * The instance previously built, if any, is closed.
+     * </p>
      * 
      * @param instanceDirectory
      *            Specifies the instance directory containing all the files of the
      *            game instance.
+     * @param reader
+     *            The reader used to parse the game data files.
      * @return Unique instance of this class.
+     * @throws IOException
+     *             If the items directory cannot be watched.
      */
-    public final static Loader build (final File instanceDirectory) {
-        Loader.INSTANCE = new Loader(instanceDirectory);
+    public final static Loader build (final File instanceDirectory, final GameDataReader reader)
+            throws IOException {
+        return build(instanceDirectory, null, reader);
+    }
+
+    /**
+     * Builds the unique instance of this class for a game instance layered over
+     * its story, using the specified {@link GameDataReader}.
+     * 
+     * @param instanceDirectory
+     *            Specifies the instance directory containing the files specific
+     *            to the game instance.
+     * @param storyDirectory
+     *            Specifies the read-only story directory, or <code>null</code> if
+     *            the instance directory contains all the files.
+     * @param reader
+     *            The reader used to parse the game data files.
+     * @return Unique instance of this class.
+     * @throws IOException
+     *             If the items directory cannot be watched.
+     * @see #build(File, GameDataReader)
+     */
+    public final static Loader build (final File instanceDirectory, final File storyDirectory,
+            final GameDataReader reader) throws IOException {
+        InstanceOverlay files = new InstanceOverlay(instanceDirectory, storyDirectory);
+        StringPool strings = new StringPool();
+        StoryImage image = openImage(files, strings);
+        Loader loader = new Loader(files, reader, image, strings);
+        if (loader.itemIndex != null) {
+            loader.itemIndex.watch();
+        }
+        if (Loader.INSTANCE != null) {
+            Loader.INSTANCE.close();
+        }
+        Loader.INSTANCE = loader;
         return Loader.INSTANCE;
     }
 
+    /**
+     * Opens the story image of the specified instance if it is up to date with
+     * the XML files of its story directory. The image is ignored if the instance
+     * directory overrides any of the compiled game data, as the zones and items
+     * would otherwise be loaded without the overrides.
+     * 
+     * @param files
+     *            The layers of the game instance.
+     * @param strings
+     *            The pool sharing the texts decoded from the image.
+     * @return The mapped image, or <code>null</code> if the XML files must be
+     *         parsed instead.
+     */
+    private static StoryImage openImage (final InstanceOverlay files, final StringPool strings) {
+        File imageFile = files.resolve(StoryImage.FILENAME);
+        if (!imageFile.exists()) {
+            return null;
+        }
+        Logger logger = LogManager.getLogger();
+        try {
+            for (String path : StoryImage.SOURCES) {
+                if (files.hasOverride(path)) {
+                    logger.warn("Instance {} overrides {}, ignoring story image {}", files.getInstanceDir(), path,
+                            imageFile);
+                    return null;
+                }
+            }
+            StoryImage image = StoryImage.open(imageFile, strings);
+            if (image.getFingerprint() != StoryImage.fingerprint(imageFile.getParentFile())) {
+                logger.warn("Story image {} is outdated, loading the XML files", imageFile);
+                return null;
+            }
+            logger.info("Loading game data from story image {}", imageFile);
+            return image;
+        } catch (IOException e) {
+            logger.warn("Cannot open story image {}, loading the XML files", imageFile, e);
+            return null;
+        }
+    }
+
     /**
      * Returns the unique instance of this class.
      * 
@@ -104,38 +268,73 @@ public class Loader {
         return Loader.INSTANCE;
     }
 
+    /**
+     * Releases the resources held by this loader (the watcher of the items
+     * directory).
+     * 
+     * @throws IOException
+     *             If an I/O error occurs.
+     */
+    public void close () throws IOException {
+        if (this.itemIndex != null) {
+            this.itemIndex.close();
+        }
+    }
+
+    /**
+     * Returns the reader used when none is specified.
+     * 
+     * @return The default {@link GameDataReader}.
+     */
+    public static GameDataReader getDefaultReader () {
+        return DEFAULT_READER;
+    }
+
     /**
      * Loads the {@link Story} from the instance directory.
      * 
      * @param storyFile
      *            The XML file containing the story.
      * @return New instance of {@link Story} created from the file <i>story.xml</i>.
-     * @throws JDOMException
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    public static Story loadStory (final File storyFile) throws JDOMException, IOException {
-        Document doc = XMLParser.parseXML(storyFile);
-        Element root = doc.getRootElement();
-        String id = XMLParser.getAttributeValue(root, "id");
-        String name = XMLParser.getAttributeValue(root, "name");
-        String description = root.getChildTextNormalize("Description").replace("\\n", "\n");
-        String world = XMLParser.getAttributeValue(root.getChild("EntryPoint"), "id");
-        return new Story(id, name, description, world);
+    public static Story loadStory (final File storyFile) throws IOException {
+        return DEFAULT_READER.readStory(storyFile);
+    }
+
+    /**
+     * Loads the player's {@link Character} from the specified template.
+     * 
+     * @param templateFile
+     *            The XML file containing the player template.
+     * @return New instance of {@link Character} whose ability scores are
+     *         initialized from the template.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    public static Character loadCharacter (final File templateFile) throws IOException {
+        return DEFAULT_READER.readCharacter(templateFile);
     }
 
     /**
      * Loads the {@link Story} from the instance directory.
      * 
      * @return New instance of {@link Story} created from the file <i>story.xml</i>.
-     * @throws JDOMException
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    public Story loadStory () throws JDOMException, IOException {
-        return loadStory(new File(this.instanceDir, "story.xml"));
+    public Story loadStory () throws IOException {
+        if (this.image != null) {
+            return this.image.loadStory();
+        }
+        return this.reader.readStory(this.files.resolve("story.xml"));
     }
 
     /**
@@ -148,41 +347,36 @@ public class Loader {
      *            path specified in the description files :
      *            {world}.{region}.{zone}.{room}.
      * @return New instance of {@link World} loaded from the associated file.
-     * @throws JDOMException
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    public World loadWorld (final String worldId, final String... entryPoints) throws JDOMException, IOException {
+    public World loadWorld (final String worldId, final String... entryPoints) throws IOException {
         // Checks input
         if (worldId == null || worldId.isEmpty()) {
             throw new IllegalArgumentException("World's identifier cannot be null or empty");
         }
+        if (this.image != null) {
+            World world = this.image.loadWorld(worldId, entryPoints);
+            this.logger.info("Texts loaded : {}", this.strings);
+            return world;
+        }
 
-        File worldDir = new File(this.worldsDir, worldId);
-        if (worldDir.exists()) {
-            File worldFile = new File(worldDir, "world.xml");
-            if (worldFile.exists()) {
-                // Loads the world
-                Document doc = XMLParser.parseXML(worldFile);
-                Element root = doc.getRootElement();
-                String id = XMLParser.getAttributeValue(root, "id");
-                String name = XMLParser.getAttributeValue(root, "name");
-                this.logger.info("Loading world {id={}, name={}}", id, name);
-                String description = root.getChildTextNormalize("Description").replace("\\n", "\n");
-                // Loads the entry point
-                String defEntryId = XMLParser.getAttributeValue(root.getChild("EntryPoint"), "id");
-                String entryId = entryPoints.length >= 2 ? entryPoints[1] : defEntryId;
-                File entryDir = new File(worldDir, entryId);
-                World world = new World(id, name, description);
-                Region entry = loadRegion(entryDir, world, entryPoints);
-                world.setEntryPoint(entry);
-                return world;
-            } else {
-                throw new IllegalArgumentException("World file not found :" + worldDir.getAbsolutePath());
-            }
+        File worldFile = this.files.resolve("worlds", worldId, "world.xml");
+        if (worldFile.exists()) {
+            // Loads the world
+            AreaData data = this.reader.readArea(worldFile);
+            this.logger.info("Loading world {id={}, name={}}", data.getId(), data.getName());
+            // Loads the entry point
+            String entryId = entryPoints.length >= 2 ? entryPoints[1] : data.getEntryPoint();
+            World world = new World(data.getId(), data.getName(), data.getDescription());
+            Region entry = loadRegion(worldId, entryId, world, entryPoints);
+            world.setEntryPoint(entry);
+            this.logger.info("Texts loaded : {}", this.strings);
+            return world;
         } else {
-            throw new IllegalArgumentException("World directory not found :" + worldDir.getAbsolutePath());
+            throw new IllegalArgumentException("World file not found :" + worldFile.getAbsolutePath());
         }
     }
 
@@ -191,81 +385,264 @@ public class Loader {
      * 
      * @param itemId
      *            Unique identifier of the item.
-     * @return New instance of {@link Item} loaded from the associated file.
-     * @throws JDOMException
+     * @return The shared instance of {@link Item}, read from the associated file
+     *         the first time it is requested.
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    public Item loadItem (final String itemId) throws JDOMException, IOException {
+    public Item loadItem (final String itemId) throws IOException {
         // Checks input
         if (itemId == null || itemId.isEmpty()) {
             throw new IllegalArgumentException("Item's identifier cannot be null or empty");
         }
+        return this.items.get(itemId);
+    }
+
+    /**
+     * Returns the pool sharing the identical texts of the loaded game data.
+     * 
+     * @return The pool of the loaded texts.
+     */
+    public StringPool getStringPool () {
+        return this.strings;
+    }
+
+    /**
+     * Reads the specified room file without building the room, its texts being
+     * shared with the identical texts already loaded.
+     * 
+     * @param roomFile
+     *            The XML file containing the room.
+     * @return The description of the room.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    public RoomData readRoom (final File roomFile) throws IOException {
+        return this.reader.readRoom(roomFile, this.strings);
+    }
+
+    /**
+     * Returns the overlay resolving the files of the game instance.
+     * 
+     * @return The files of the game instance.
+     */
+    public InstanceOverlay getFiles () {
+        return this.files;
+    }
+
+    /**
+     * Returns the registry of the items loaded by this loader.
+     * 
+     * @return The {@link ItemRegistry} of the game instance.
+     */
+    public ItemRegistry getItemRegistry () {
+        return this.items;
+    }
+
+    /**
+     * Reads the specified item from the story image or from its XML file.
+     * 
+     * @param itemId
+     *            Unique identifier of the item.
+     * @return New instance of {@link Item}.
+     * @throws GameDataException
+     *             If the associated XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the associated file.
+     */
+    private Item readItem (final String itemId) throws IOException {
+        this.logger.debug("Reading item {}", itemId);
+        if (this.image != null) {
+            return this.image.loadItem(itemId);
+        }
 
-        File itemFile = new File(this.itemsDir, itemId + ".xml");
+        File itemFile = this.files.resolve("items", itemId + ".xml");
         if (itemFile.exists()) {
-            // Loads the item
-            Document doc = XMLParser.parseXML(itemFile);
-            Element root = doc.getRootElement();
-            Element description = root.getChild("Description");
-
-            String id = XMLParser.getAttributeValue(root, "id");
-            String name = XMLParser.getAttributeValue(root, "name");
-            String shortDesc = description.getChildTextNormalize("Short").replace("\\n", "\n");
-            String longDesc = description.getChildTextNormalize("Long").replace("\\n", "\n");
-            ItemType type = ItemType.valueOf(root.getAttributeValue("type").toUpperCase());
-            boolean isCarriable = Boolean.valueOf(root.getAttributeValue("isCarriable"));
-            boolean isStackable = Boolean.valueOf(root.getAttributeValue("isStackable"));
-            HashMap<Sense, String> sensesDesc = loadSenses(root.getChild("Senses"));
-
-            Item item = new Item(id, name, type, shortDesc, longDesc);
-            item.setCarriable(isCarriable);
-            item.setStackable(isStackable);
-            item.putAllSensesDescription(sensesDesc);
-            return item;
+            return internItem(this.reader.readItem(itemFile));
         } else {
             throw new IllegalArgumentException("Item file not found :" + itemFile.getAbsolutePath());
         }
     }
 
     /**
-     * Checks the existence of the specified item.
+     * Returns a copy of the specified item whose texts are shared with the
+     * identical texts already loaded.
+     * 
+     * @param item
+     *            The item read from its file.
+     * @return The pooled copy of the item.
+     */
+    private Item internItem (final Item item) {
+        EnumMap<Sense, String> senses = new EnumMap<>(Sense.class);
+        for (Sense sense : Sense.values()) {
+            if (item.hasSense(sense)) {
+                senses.put(sense, this.strings.intern(item.getSenseDescription(sense)));
+            }
+        }
+        return new Item(this.strings.intern(item.getId()), this.strings.intern(item.getName()), item.getType(),
+                this.strings.intern(item.getShortDescription()), this.strings.intern(item.getLongDescrition()),
+                item.isCarriable(), item.isStackable(), senses);
+    }
+
+    /**
+     * Loads the specified monster.
+     * 
+     * @param monsterId
+     *            Unique identifier of the monster.
+     * @return The shared prototype of the monster, read from the associated file
+     *         the first time it is requested. Use {@link Monster#spawn()} to
+     *         create a monster in the game.
+     * @throws GameDataException
+     *             If the associated XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the associated file.
+     */
+    public Monster loadMonster (final String monsterId) throws IOException {
+        // Checks input
+        if (monsterId == null || monsterId.isEmpty()) {
+            throw new IllegalArgumentException("Monster's identifier cannot be null or empty");
+        }
+        return this.monsters.get(monsterId);
+    }
+
+    /**
+     * Returns the registry of the monsters loaded by this loader.
+     * 
+     * @return The {@link MonsterRegistry} of the game instance.
+     */
+    public MonsterRegistry getMonsterRegistry () {
+        return this.monsters;
+    }
+
+    /**
+     * Reads the specified monster from its XML file. The monsters are not
+     * compiled in the story image, they are always read from the XML files.
+     * 
+     * @param monsterId
+     *            Unique identifier of the monster.
+     * @return New instance of {@link Monster}.
+     * @throws GameDataException
+     *             If the associated XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the associated file.
+     */
+    private Monster readMonster (final String monsterId) throws IOException {
+        this.logger.debug("Reading monster {}", monsterId);
+        File monsterFile = this.files.resolve("monsters", monsterId + ".xml");
+        if (monsterFile.exists()) {
+            return this.reader.readMonster(monsterFile);
+        } else {
+            throw new IllegalArgumentException("Monster file not found :" + monsterFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Checks the existence of the specified item. The items are indexed in
+     * memory, the file system is not accessed.
      * 
      * @param itemId
      *            Unique item identifier.
      * @return <code>true</code> if the item exists, <code>false</code> otherwise.
      */
     public boolean itemExists (final String itemId) {
-        File itemFile = new File(this.itemsDir, itemId + ".xml");
-        return itemFile.exists();
+        if (this.image != null) {
+            return this.image.itemExists(itemId);
+        }
+        return this.itemIndex.contains(itemId);
+    }
+
+    /**
+     * Loads the specified region of a world already loaded, without its zones.
+     * The region is added to the regions of the world.
+     * 
+     * @param world
+     *            The parent world.
+     * @param regionId
+     *            Unique identifier of the region in the world.
+     * @return New instance of {@link Region} loaded from the associated file.
+     * @throws GameDataException
+     *             If the associated XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the associated file.
+     */
+    public Region loadRegion (final World world, final String regionId) throws IOException {
+        // Checks input
+        if (regionId == null || regionId.isEmpty()) {
+            throw new IllegalArgumentException("Region's identifier cannot be null or empty");
+        }
+        if (this.image != null) {
+            return this.image.loadRegion(world, regionId);
+        }
+
+        File regionFile = this.files.resolve("worlds", world.getId(), regionId, "region.xml");
+        if (regionFile.exists()) {
+            return createRegion(this.reader.readArea(regionFile), world);
+        } else {
+            throw new IllegalArgumentException("Region file not found :" + regionFile.getAbsolutePath());
+        }
     }
 
     /**
-     * Loads the senses' descriptions from the Senses element.
+     * Loads the specified zone of a region already loaded, with all its rooms.
+     * The zone is added to the zones of the region and its entry point is the
+     * default one specified in the description file.
      * 
-     * @param sensesElmt
-     *            XML element containing the senses' descriptions.
-     * @return {@link HashMap} containing the provided senses' descriptions.
+     * @param region
+     *            The parent region.
+     * @param zoneId
+     *            Unique identifier of the zone in the region.
+     * @return New instance of {@link Zone} loaded from the associated files.
+     * @throws GameDataException
+     *             If one of the XML files is malformed or if two rooms of the
+     *             zone have the same identifier.
+     * @throws IOException
+     *             If an error occurred reading one of the files.
      */
-    private static HashMap<Sense, String> loadSenses (final Element sensesElmt) {
-        HashMap<Sense, String> senses = new HashMap<>();
-        // Iterates over the senses description
-        for (Element elmt : sensesElmt.getChildren()) {
-            Sense sense = Sense.parseValue(elmt.getName());
-            // If description is not empty
-            if (!elmt.getValue().isEmpty()) {
-                senses.put(sense, elmt.getTextNormalize());
-            }
+    public Zone loadZone (final Region region, final String zoneId) throws IOException {
+        // Checks input
+        if (zoneId == null || zoneId.isEmpty()) {
+            throw new IllegalArgumentException("Zone's identifier cannot be null or empty");
         }
-        return senses;
+        if (this.image != null) {
+            return this.image.loadZone(region, zoneId);
+        }
+
+        File zoneFile = this.files.resolve("worlds", region.getWorld().getId(), region.getId(), zoneId, "zone.xml");
+        if (zoneFile.exists()) {
+            return loadZone(region.getWorld().getId(), region.getId(), zoneId, region);
+        } else {
+            throw new IllegalArgumentException("Zone file not found :" + zoneFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Creates the region described by the specified data and adds it to the
+     * regions of the world.
+     * 
+     * @param data
+     *            Description of the region.
+     * @param world
+     *            Specifies the parent world.
+     * @return New instance of {@link Region}.
+     */
+    private Region createRegion (final AreaData data, final World world) {
+        this.logger.info("Loading region {id={}, name={}}", data.getId(), data.getName());
+        Region region = new Region(data.getId(), data.getName(), data.getDescription(), world);
+        world.getRegions().put(region.getId(), region);
+        return region;
     }
 
     /**
      * Loads the region instance from the specified directory.
      * 
-     * @param dir
-     *            Directory containing the region description.
+     * @param worldId
+     *            Name of the world directory.
+     * @param regionId
+     *            Name of the region directory.
      * @param world
      *            Specifies the parent world.
      * @param entryPoints
@@ -273,34 +650,37 @@ public class Loader {
      *            path specified in the description files :
      *            {world}.{region}.{zone}.{room}.
      * @return New instance of {@link Region} loaded from the specified file.
-     * @throws JDOMException
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    private Region loadRegion (final File dir, final World world, final String... entryPoints)
-            throws JDOMException, IOException {
-        Document doc = XMLParser.parseXML(new File(dir, "region.xml"));
-        Element root = doc.getRootElement();
-        String id = XMLParser.getAttributeValue(root, "id");
-        String name = XMLParser.getAttributeValue(root, "name");
-        this.logger.info("Loading region {id={}, name={}}", id, name);
-        String description = root.getChildTextNormalize("Description").replace("\\n", "\n");
+    private Region loadRegion (final String worldId, final String regionId, final World world,
+            final String... entryPoints) throws IOException {
+        AreaData data = this.reader.readArea(this.files.resolve("worlds", worldId, regionId, "region.xml"));
+        Region region = createRegion(data, world);
         // Loads the entry point
-        String defEntryId = XMLParser.getAttributeValue(root.getChild("EntryPoint"), "id");
-        String entryId = entryPoints.length >= 3 ? entryPoints[2] : defEntryId;
-        File entryDir = new File(dir, entryId);
-        Region region = new Region(id, name, description, world);
-        Zone entry = loadZone(entryDir, region, entryPoints);
+        String entryId = entryPoints.length >= 3 ? entryPoints[2] : data.getEntryPoint();
+        Zone entry = loadZone(worldId, regionId, entryId, region, entryPoints);
         region.setEntryPoint(entry);
         return region;
     }
 
     /**
      * Loads the zone instance from the specified directory.
+     * <p>
+     * The rooms are loaded in two phases : all the room files of the zone are
+     * first parsed in parallel, then the neighbors are linked using the table of
+     * the parsed rooms. Thus the loading time scales with the number of cores and
+     * does not depend on the shape of the rooms graph.
+     * </p>
      * 
-     * @param dir
-     *            Directory containing the zone description.
+     * @param worldId
+     *            Name of the world directory.
+     * @param regionId
+     *            Name of the region directory.
+     * @param zoneId
+     *            Name of the zone directory.
      * @param region
      *            Specifies the parent region.
      * @param entryPoints
@@ -308,129 +688,191 @@ public class Loader {
      *            path specified in the description files :
      *            {world}.{region}.{zone}.{room}.
      * @return New instance of {@link Zone} loaded from the specified file.
-     * @throws JDOMException
-     *             If the associated XML file is malformed.
+     * @throws GameDataException
+     *             If the associated XML file is malformed or if two rooms of the
+     *             zone have the same identifier.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    private Zone loadZone (final File dir, final Region region, final String... entryPoints)
-            throws JDOMException, IOException {
-        Document doc = XMLParser.parseXML(new File(dir, "zone.xml"));
-        Element root = doc.getRootElement();
-        String id = XMLParser.getAttributeValue(root, "id");
-        String name = XMLParser.getAttributeValue(root, "name");
-        this.logger.info("Loading zone {id={}, name={}}", id, name);
-        String description = root.getChildTextNormalize("Description").replace("\\n", "\n");
+    private Zone loadZone (final String worldId, final String regionId, final String zoneId, final Region region,
+            final String... entryPoints) throws IOException {
+        AreaData data = this.reader.readArea(this.files.resolve("worlds", worldId, regionId, zoneId, "zone.xml"));
+        this.logger.info("Loading zone {id={}, name={}}", data.getId(), data.getName());
         // Loads the entry point
-        String defEntryId = XMLParser.getAttributeValue(root.getChild("EntryPoint"), "id");
-        String entryId = entryPoints.length >= 4 ? entryPoints[3] : defEntryId;
-        File entryDir = new File(dir, "rooms");
-        File entryFile = new File(entryDir, entryId + ".xml");
-        Zone zone = new Zone(id, name, description, region);
-        Room entry = loadRoom(entryFile, zone);
+        String entryId = entryPoints.length >= 4 ? entryPoints[3] : data.getEntryPoint();
+        Zone zone = new Zone(data.getId(), data.getName(), data.getDescription(), region);
+        region.getZones().put(zone.getId(), zone);
+
+        // Phase one : parses all the rooms of the zone
+        List<ParsedRoom> parsedRooms = parseRooms(
+                this.files.listFiles(".xml", "worlds", worldId, regionId, zoneId, "rooms"), zone);
+        HashMap<String, File> roomFiles = new HashMap<>();
+        for (ParsedRoom parsed : parsedRooms) {
+            File other = roomFiles.putIfAbsent(parsed.room.getId(), parsed.file);
+            if (other != null) {
+                // The parsed rooms are already registered in the room table
+                for (ParsedRoom room : parsedRooms) {
+                    region.getWorld().getRoomTable().remove(room.room);
+                }
+                region.getZones().remove(zone.getId());
+                throw new GameDataException("In the zone '" + zone.getId() + "' : duplicate room '"
+                        + parsed.room.getId() + "' in " + other.getName() + " and " + parsed.file.getName());
+            }
+        }
+        for (ParsedRoom parsed : parsedRooms) {
+            zone.putRoom(parsed.room);
+        }
+        // Phase two : links the neighbors
+        for (ParsedRoom parsed : parsedRooms) {
+            linkNeighbors(parsed, zone);
+        }
+
+        Room entry = zone.getRoom(entryId);
+        if (entry == null) {
+            throw new IllegalArgumentException(
+                    "In the zone '" + zone.getId() + "' : entry room '" + entryId + "' not found");
+        }
         zone.setEntryPoint(entry);
         return zone;
     }
 
     /**
-     * Loads the room instance from the specified file (the other accessible rooms
-     * are recursively loaded from room to room).
+     * Parses in parallel all the specified room files.
+     * 
+     * @param files
+     *            The room files of the zone, or <code>null</code> if the rooms
+     *            directory does not exist.
+     * @param zone
+     *            Specifies the parent zone.
+     * @return The parsed rooms whose neighbors are not linked yet.
+     * @throws GameDataException
+     *             If one of the XML files is malformed.
+     * @throws IOException
+     *             If an error occurred reading one of the files.
+     */
+    private List<ParsedRoom> parseRooms (final File[] files, final Zone zone) throws IOException {
+        if (files == null) {
+            throw new IllegalArgumentException("Rooms directory not found in zone " + zone.getId());
+        }
+
+        List<Callable<ParsedRoom>> tasks = new ArrayList<>(files.length);
+        for (File file : files) {
+            tasks.add(() -> parseRoom(file, zone));
+        }
+        List<ParsedRoom> parsedRooms = new ArrayList<>(files.length);
+        try {
+            for (Future<ParsedRoom> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                parsedRooms.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading the rooms of " + zone.getId());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Cannot load the rooms of " + zone.getId(), cause);
+        }
+        return parsedRooms;
+    }
+
+    /**
+     * Parses the room instance from the specified file. The neighbors are only
+     * referenced by their identifier, they are linked once all the rooms of the
+     * zone are parsed.
      * 
      * @param file
      *            XML file containing the room description.
      * @param zone
      *            Specifies the parent zone.
-     * @return New instance of {@link Room} loaded from the specified file.
-     * @throws JDOMException
+     * @return The parsed room.
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    private Room loadRoom (final File file, final Zone zone) throws JDOMException, IOException {
-        Document doc = XMLParser.parseXML(file);
-        Element root = doc.getRootElement();
-        String id = XMLParser.getAttributeValue(root, "id");
-        String name = XMLParser.getAttributeValue(root, "name");
-        this.logger.info("Loading room {id={}, name={}}", id, name);
-        String shortDesc = root.getChildTextNormalize("ShortDescription").replace("\\n", "\n");
-        String longDesc = root.getChildTextNormalize("LongDescription").replace("\\n", "\n");
-
-        Room room = new Room(id, name, shortDesc, longDesc, zone);
-        // Puts the room in the zone map
-        zone.putRoom(room);
+    private ParsedRoom parseRoom (final File file, final Zone zone) throws IOException {
+        RoomData data = readRoom(file);
+        this.logger.info("Loading room {id={}, name={}}", data.getId(), data.getName());
 
-        // Iterates over all the directions to load the neighbors
-        HashMap<Direction, Room> neighbors = new HashMap<>();
-        HashMap<Direction, String> neighborsDesc = new HashMap<>();
-        for (Element elmt : root.getChild("Directions").getChildren()) {
-            // If next room ID is specified
-            String nextRoomId = elmt.getAttributeValue("id");
-            if (nextRoomId != null) {
-                Direction direction = Direction.valueOf(elmt.getName().toUpperCase());
-
-                // Gets the next room description
-                neighborsDesc.put(direction, elmt.getTextNormalize());
-
-                // Loads the next room
-                File nextRoomFile = new File(file.getParent(), nextRoomId + ".xml");
-                // If the next room exist
-                if (nextRoomFile.exists()) {
-                    this.logger.debug("Adding neighbor to {} room {direction={}, id={}}", name, direction, nextRoomId);
-                    // If the room is not already loaded
-                    if (!zone.getRooms().containsKey(nextRoomId)) {
-                        // Loads the next room
-                        Room nextRoom = loadRoom(nextRoomFile, zone);
-                        neighbors.put(direction, nextRoom);
-                    } else { // Else just add the room to the neighbors
-                        neighbors.put(direction, zone.getRoom(nextRoomId));
-                    }
-                } else {
-                    throw new IllegalStateException("In the room '" + id + "' : '" + nextRoomId + "' room not found");
-                }
-            }
-        }
-        // Updates neighbors
-        room.putAllNeighbors(neighbors);
-        room.putAllNeighborsDescription(neighborsDesc);
-
-        // Loads senses descriptions
-        HashMap<Sense, String> senses = loadSenses(root.getChild("Senses"));
-        room.putAllSensesDescription(senses);
+        Room room = new Room(data.getId(), data.getName(), data.getShortDescription(), data.getLongDescription(),
+                zone);
+        room.putAllNeighborsDescription(data.getNeighborsDescription());
+        room.putAllSensesDescription(data.getSensesDescription());
 
         // Loads items
-        if (root.getChild("Items") != null) {
-            Inventory items = loadItems(root.getChild("Items"));
+        if (!data.getItems().isEmpty()) {
+            Inventory items = loadItems(data.getItems());
             room.importInventory(items);
         }
 
-        return room;
+        return new ParsedRoom(file, room, data);
+    }
+
+    /**
+     * Links the parsed room to its neighbors. The exits leaving the zone are kept
+     * as links, resolved when they are traversed.
+     * 
+     * @param parsed
+     *            The parsed room.
+     * @param zone
+     *            The zone containing all the parsed rooms.
+     */
+    private void linkNeighbors (final ParsedRoom parsed, final Zone zone) {
+        Room room = parsed.room;
+        HashMap<Direction, Room> neighbors = new HashMap<>();
+        HashMap<Direction, String> links = new HashMap<>();
+        for (Entry<Direction, String> entry : parsed.data.getNeighbors().entrySet()) {
+            String[] target = PathIndex.qualify(zone, entry.getValue());
+            if (target == null) {
+                throw new IllegalStateException(
+                        "In the room '" + room.getId() + "' : malformed exit target '" + entry.getValue() + "'");
+            }
+            if (!PathIndex.isInZone(target, zone)) {
+                // Resolved when the exit is traversed, the zone is not loaded now
+                this.logger.debug("Adding link to {} room {direction={}, path={}}", room.getName(), entry.getKey(),
+                        PathIndex.join(target));
+                links.put(entry.getKey(), PathIndex.join(target));
+                continue;
+            }
+            Room nextRoom = zone.getRoom(target[3]);
+            if (nextRoom == null) {
+                throw new IllegalStateException(
+                        "In the room '" + room.getId() + "' : '" + entry.getValue() + "' room not found");
+            }
+            this.logger.debug("Adding neighbor to {} room {direction={}, id={}}", room.getName(), entry.getKey(),
+                    entry.getValue());
+            neighbors.put(entry.getKey(), nextRoom);
+        }
+        room.putAllNeighbors(neighbors);
+        room.putAllLinks(links);
     }
 
     /**
-     * Loads the items from the Item element.
+     * Loads the specified items.
      * 
-     * @param itemElmt
-     *            XML element containing the items.
+     * @param items
+     *            The items as (identifier, quantity) pairs.
      * @return Local {@link Inventory} containing the provided items.
-     * @throws JDOMException
+     * @throws GameDataException
      *             If the associated XML file is malformed.
      * @throws IOException
      *             If an error occurred reading the associated file.
      */
-    private Inventory loadItems (final Element itemElmt) throws JDOMException, IOException {
+    private Inventory loadItems (final List<Entry<String, Integer>> items) throws IOException {
         Inventory localInventory = new Inventory();
         // Iterates over the items
-        for (Element elmt : itemElmt.getChildren()) {
-            String itemId = elmt.getAttributeValue("id");
-            int itemQty = Integer.parseInt(elmt.getAttributeValue("quantity"));
-
+        for (Entry<String, Integer> entry : items) {
             // Loads item
-            Item item = loadItem(itemId);
+            Item item = loadItem(entry.getKey());
 
             // Update local inventory
             if (item.isCarriable()) {
                 try {
-                    localInventory.addItem(item, itemQty);
+                    localInventory.addItem(item, entry.getValue());
                 } catch (NotCarriableException e) {
                     this.logger.error("An error occurred adding an item to the local inventory", e);
                 }
@@ -438,4 +880,21 @@ public class Loader {
         }
         return localInventory;
     }
+
+    /**
+     * Room parsed during the first loading phase of a zone, with its neighbors
+     * referenced by identifier.
+     */
+    private static class ParsedRoom {
+
+        private final File file;
+        private final Room room;
+        private final RoomData data;
+
+        private ParsedRoom(final File file, final Room room, final RoomData data) {
+            this.file = file;
+            this.room = room;
+            this.data = data;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text kept as a reference to its UTF-8 bytes in a memory-mapped segment, such
+ * as the string data of a {@link StoryImage}.
+ * <p>
+ * The text is decoded each time it is requested ({@link #toString()}), it is
+ * never kept on the heap : the long descriptions, that are only read when the
+ * player looks at a room or an item, only cost this reference until they are
+ * displayed. The other methods of {@link CharSequence} decode the text too.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+final class MappedText implements CharSequence {
+
+    private final ByteBuffer segment;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Instantiates a new reference.
+     * 
+     * @param segment
+     *            The mapped segment containing the text, shared by all the
+     *            references and never modified.
+     * @param offset
+     *            Position of the first byte of the text in the segment.
+     * @param length
+     *            Number of bytes of the text.
+     */
+    MappedText(final ByteBuffer segment, final int offset, final int length) {
+        this.segment = segment;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length () {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt (final int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence (final int start, final int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString () {
+        ByteBuffer slice = this.segment.duplicate();
+        slice.position(this.offset);
+        slice.limit(this.offset + this.length);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jls.sod.core.model.character.Monster;
+
+/**
+ * Registry of the monster prototypes of a game instance.
+ * <p>
+ * Each monster is read once from its {@link MonsterSource} and the same
+ * immutable {@link Monster} is then shared by all the spawned monsters of this
+ * type (see {@link org.jls.sod.core.model.character.MonsterInstance}).
+ * </p>
+ * <p>
+ * The registry is thread-safe so that the rooms of a zone can be loaded in
+ * parallel.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class MonsterRegistry {
+
+    /**
+     * Reads a monster from the game data.
+     */
+    @FunctionalInterface
+    public interface MonsterSource {
+
+        /**
+         * Reads the specified monster.
+         * 
+         * @param monsterId
+         *            Unique identifier of the monster.
+         * @return New instance of {@link Monster}.
+         * @throws IOException
+         *             If an error occurred reading the monster.
+         */
+        Monster read (String monsterId) throws IOException;
+    }
+
+    private final MonsterSource source;
+    private final ConcurrentHashMap<String, Monster> prototypes;
+
+    /**
+     * Instantiates an empty registry.
+     * 
+     * @param source
+     *            The source used to read the monsters that are not registered yet.
+     */
+    public MonsterRegistry(final MonsterSource source) {
+        this.source = source;
+        this.prototypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the prototype of the specified monster, reading it from the source the
+     * first time it is requested.
+     * 
+     * @param monsterId
+     *            Unique identifier of the monster.
+     * @return The shared instance of {@link Monster}.
+     * @throws IOException
+     *             If an error occurred reading the monster.
+     */
+    public Monster get (final String monsterId) throws IOException {
+        Monster monster = this.prototypes.get(monsterId);
+        if (monster == null) {
+            // The source is not called under the map's lock : two threads may read
+            // the same monster but only the first registered instance is kept
+            Monster read = this.source.read(monsterId);
+            monster = this.prototypes.putIfAbsent(monsterId, read);
+            if (monster == null) {
+                monster = read;
+            }
+        }
+        return monster;
+    }
+
+    /**
+     * Tells if the specified monster has already been read.
+     * 
+     * @param monsterId
+     *            Unique identifier of the monster.
+     * @return <code>true</code> if the monster is registered, <code>false</code>
+     *         otherwise.
+     */
+    public boolean isRegistered (final String monsterId) {
+        return this.prototypes.containsKey(monsterId);
+    }
+
+    /**
+     * Removes the specified monster from the registry so that it is read again from
+     * the source the next time it is requested.
+     * 
+     * @param monsterId
+     *            Unique identifier of the monster.
+     */
+    public void invalidate (final String monsterId) {
+        this.prototypes.remove(monsterId);
+    }
+
+    /**
+     * Returns the number of registered monsters.
+     * 
+     * @return Number of distinct monsters read from the source.
+     */
+    public int size () {
+        return this.prototypes.size();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+
+/**
+ * Plain description of a room as read from its description file. The neighbors
+ * and the items are only referenced by their identifier.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class RoomData {
+
+    private final String id;
+    private final String name;
+    private final String shortDescription;
+    private final String longDescription;
+    private final EnumMap<Direction, String> neighbors;
+    private final EnumMap<Direction, String> neighborsDescription;
+    private final EnumMap<Sense, String> sensesDescription;
+    private final List<Entry<String, Integer>> items;
+
+    /**
+     * Instantiates a new room description.
+     * 
+     * @param id
+     *            The room identifier.
+     * @param name
+     *            The room name.
+     * @param shortDesc
+     *            The short description of the room.
+     * @param longDesc
+     *            The long description of the room.
+     */
+    public RoomData(final String id, final String name, final String shortDesc, final String longDesc) {
+        this.id = id;
+        this.name = name;
+        this.shortDescription = shortDesc;
+        this.longDescription = longDesc;
+        this.neighbors = new EnumMap<>(Direction.class);
+        this.neighborsDescription = new EnumMap<>(Direction.class);
+        this.sensesDescription = new EnumMap<>(Sense.class);
+        this.items = new ArrayList<>();
+    }
+
+    /**
+     * Adds an exit to the room.
+     * 
+     * @param direction
+     *            Direction of the exit.
+     * @param roomId
+     *            Identifier of the next room.
+     * @param desc
+     *            Description of the exit.
+     */
+    public void putNeighbor (final Direction direction, final String roomId, final String desc) {
+        this.neighbors.put(direction, roomId);
+        this.neighborsDescription.put(direction, desc);
+    }
+
+    /**
+     * Specifies the description of the room for the specified sense.
+     * 
+     * @param sense
+     *            The sense used by the player.
+     * @param desc
+     *            The associated description.
+     */
+    public void putSenseDescription (final Sense sense, final String desc) {
+        this.sensesDescription.put(sense, desc);
+    }
+
+    /**
+     * Adds the specified items to the room.
+     * 
+     * @param itemId
+     *            Identifier of the item.
+     * @param quantity
+     *            Quantity of items.
+     */
+    public void addItem (final String itemId, final int quantity) {
+        this.items.add(new SimpleImmutableEntry<>(itemId, quantity));
+    }
+
+    public String getId () {
+        return this.id;
+    }
+
+    public String getName () {
+        return this.name;
+    }
+
+    public String getShortDescription () {
+        return this.shortDescription;
+    }
+
+    public String getLongDescription () {
+        return this.longDescription;
+    }
+
+    /**
+     * Returns the identifiers of the next rooms indexed by direction.
+     * 
+     * @return The identifiers of the next rooms.
+     */
+    public EnumMap<Direction, String> getNeighbors () {
+        return this.neighbors;
+    }
+
+    public EnumMap<Direction, String> getNeighborsDescription () {
+        return this.neighborsDescription;
+    }
+
+    public EnumMap<Sense, String> getSensesDescription () {
+        return this.sensesDescription;
+    }
+
+    /**
+     * Returns the items placed in the room as (identifier, quantity) pairs in
+     * their declaration order.
+     * 
+     * @return The items placed in the room.
+     */
+    public List<Entry<String, Integer>> getItems () {
+        return this.items;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Catalog of the saved games.
+ * <p>
+ * The metadata of the saved games (story, last position, last played time and
+ * size) are kept in an append-only index file : each update of a saved game
+ * appends a small record instead of rewriting the index, and listing the saved
+ * games is a single sequential read of the index, no <i>instance.xml</i> file
+ * is opened. The index is compacted when it contains twice as many records as
+ * saved games.
+ * </p>
+ * <p>
+ * The saved games directory is only listed when it was modified after the
+ * index (a saved game copied or deleted by hand) : the missing saved games are
+ * then read from their files and the deleted ones removed from the index.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class SavedGameCatalog {
+
+    /**
+     * Magic number identifying an index file.
+     */
+    static final int MAGIC = 0x534f4453;
+    /**
+     * Version of the index format.
+     */
+    static final int VERSION = 1;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final Logger logger;
+    private final File savedDir;
+    private final File indexFile;
+    private final HashMap<String, SavedGameInfo> games;
+
+    /**
+     * Number of records in the index file.
+     */
+    private int records;
+
+    /**
+     * Instantiates an empty catalog, use {@link #open(File, File)} to read an
+     * existing index.
+     * 
+     * @param savedDir
+     *            The directory containing the saved games.
+     * @param indexFile
+     *            The file persisting the metadata of the saved games.
+     */
+    public SavedGameCatalog(final File savedDir, final File indexFile) {
+        this.logger = LogManager.getLogger();
+        this.savedDir = savedDir;
+        this.indexFile = indexFile;
+        this.games = new HashMap<>();
+        this.records = 0;
+    }
+
+    /**
+     * Opens the catalog of the specified saved games directory.
+     * 
+     * @param savedDir
+     *            The directory containing the saved games.
+     * @param indexFile
+     *            The file persisting the metadata of the saved games.
+     * @return The catalog.
+     * @throws IOException
+     *             If the saved games cannot be listed.
+     */
+    public static SavedGameCatalog open (final File savedDir, final File indexFile) throws IOException {
+        SavedGameCatalog catalog = new SavedGameCatalog(savedDir, indexFile);
+        catalog.readIndex();
+        if (savedDir.isDirectory() && savedDir.lastModified() > indexFile.lastModified()) {
+            catalog.reconcile();
+        }
+        return catalog;
+    }
+
+    /**
+     * Returns the metadata of the specified saved game.
+     * 
+     * @param name
+     *            Name of the saved game.
+     * @return The metadata of the saved game or <code>null</code> if it is not
+     *         listed.
+     */
+    public synchronized SavedGameInfo get (final String name) {
+        return this.games.get(name);
+    }
+
+    /**
+     * Returns the metadata of all the saved games, in no particular order.
+     * 
+     * @return Unmodifiable list of the saved games.
+     */
+    public synchronized List<SavedGameInfo> getSavedGames () {
+        return Collections.unmodifiableList(new ArrayList<>(this.games.values()));
+    }
+
+    /**
+     * Returns the number of saved games.
+     * 
+     * @return Number of saved games.
+     */
+    public synchronized int size () {
+        return this.games.size();
+    }
+
+    /**
+     * Adds or updates the metadata of a saved game.
+     * 
+     * @param info
+     *            The metadata of the saved game.
+     * @throws IOException
+     *             If the index cannot be written.
+     */
+    public synchronized void put (final SavedGameInfo info) throws IOException {
+        this.games.put(info.getName(), info);
+        append(PUT, info.getName(), info);
+    }
+
+    /**
+     * Removes a saved game from the catalog.
+     * 
+     * @param name
+     *            Name of the saved game.
+     * @throws IOException
+     *             If the index cannot be written.
+     */
+    public synchronized void remove (final String name) throws IOException {
+        if (this.games.remove(name) != null) {
+            append(REMOVE, name, null);
+        }
+    }
+
+    /**
+     * Computes the size of the specified saved game directory.
+     * 
+     * @param dir
+     *            The saved game directory.
+     * @return Size of all the files of the directory, in bytes.
+     * @throws IOException
+     *             If the directory cannot be walked.
+     */
+    public static long sizeOf (final File dir) throws IOException {
+        long[] size = new long[1];
+        Files.walkFileTree(dir.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile (final Path file, final BasicFileAttributes attrs) {
+                size[0] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size[0];
+    }
+
+    /**
+     * Synchronizes the catalog with the content of the saved games directory :
+     * the missing saved games are read in parallel from their files and the
+     * deleted ones are removed.
+     * 
+     * @throws IOException
+     *             If the saved games directory cannot be listed.
+     */
+    public synchronized void reconcile () throws IOException {
+        File[] dirs = this.savedDir.listFiles(File::isDirectory);
+        if (dirs == null) {
+            throw new IOException("Cannot list saved games directory : " + this.savedDir.getAbsolutePath());
+        }
+        HashMap<String, SavedGameInfo> previous = new HashMap<>(this.games);
+        List<Callable<SavedGameInfo>> tasks = new ArrayList<>();
+        this.games.clear();
+        for (File dir : dirs) {
+            SavedGameInfo info = previous.get(dir.getName());
+            if (info != null) {
+                this.games.put(info.getName(), info);
+            } else {
+                tasks.add(() -> {
+                    try {
+                        return scan(dir);
+                    } catch (IOException e) {
+                        this.logger.error("Cannot read saved game {}", dir.getAbsolutePath(), e);
+                        return null;
+                    }
+                });
+            }
+        }
+        try {
+            for (Future<SavedGameInfo> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                SavedGameInfo info = future.get();
+                if (info != null) {
+                    this.games.put(info.getName(), info);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while listing the saved games");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot list the saved games", e.getCause());
+        }
+        this.logger.info("Saved games catalog reconciled : {} saved games, {} read from their files",
+                this.games.size(), tasks.size());
+        compact();
+    }
+
+    /**
+     * Reads the metadata of a saved game from its files.
+     * 
+     * @param dir
+     *            The saved game directory.
+     * @return The metadata of the saved game.
+     * @throws IOException
+     *             If the saved game cannot be read.
+     */
+    private static SavedGameInfo scan (final File dir) throws IOException {
+        File instanceFile = new File(dir, "instance.xml");
+        String storyId = null;
+        String position = null;
+        if (instanceFile.isFile()) {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            try (InputStream in = new FileInputStream(instanceFile)) {
+                XMLStreamReader reader = factory.createXMLStreamReader(in);
+                try {
+                    while (reader.hasNext()) {
+                        if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                            if ("storyId".equals(reader.getLocalName())) {
+                                storyId = reader.getElementText().trim();
+                            } else if ("path".equals(reader.getLocalName())) {
+                                position = reader.getElementText().trim();
+                            }
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new GameDataException("Malformed XML file : " + instanceFile.getAbsolutePath(), e);
+            }
+        }
+        long lastPlayed = instanceFile.isFile() ? instanceFile.lastModified() : dir.lastModified();
+        return new SavedGameInfo(dir.getName(), storyId, position, lastPlayed, sizeOf(dir));
+    }
+
+    /**
+     * Replays the records of the index file. A record truncated by a crash ends
+     * the replay and the index is compacted.
+     */
+    private synchronized void readIndex () {
+        this.games.clear();
+        this.records = 0;
+        if (!this.indexFile.isFile()) {
+            return;
+        }
+        boolean truncated = false;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(this.indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                this.logger.warn("Ignoring saved games index of unknown format {}", this.indexFile);
+                return;
+            }
+            while (true) {
+                int op = in.read();
+                if (op < 0) {
+                    break;
+                }
+                String name = in.readUTF();
+                if (op == PUT) {
+                    this.games.put(name,
+                            new SavedGameInfo(name, in.readUTF(), in.readUTF(), in.readLong(), in.readLong()));
+                } else if (op == REMOVE) {
+                    this.games.remove(name);
+                } else {
+                    throw new IOException("Unknown record " + op);
+                }
+                this.records++;
+            }
+        } catch (EOFException e) {
+            truncated = true;
+        } catch (IOException e) {
+            // The index is only a cache, it is rebuilt from the saved games
+            this.logger.warn("Cannot read saved games index {}", this.indexFile, e);
+            this.games.clear();
+            this.indexFile.delete();
+            return;
+        }
+        if (truncated) {
+            this.logger.warn("Saved games index {} is truncated, compacting it", this.indexFile);
+            try {
+                compact();
+            } catch (IOException e) {
+                this.logger.warn("Cannot compact saved games index {}", this.indexFile, e);
+            }
+        }
+    }
+
+    /**
+     * Appends a record to the index file, compacting it when it contains too many
+     * obsolete records.
+     */
+    private void append (final byte op, final String name, final SavedGameInfo info) throws IOException {
+        if (!this.indexFile.isFile() || this.records >= 2 * Math.max(this.games.size(), 16)) {
+            compact();
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(this.indexFile, true)))) {
+            writeRecord(out, op, name, info);
+        }
+        this.records++;
+    }
+
+    /**
+     * Rewrites the index file atomically with one record per saved game.
+     */
+    private void compact () throws IOException {
+        File tmpFile = new File(this.indexFile.getParentFile(), this.indexFile.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (SavedGameInfo info : this.games.values()) {
+                writeRecord(out, PUT, info.getName(), info);
+            }
+        }
+        Files.move(tmpFile.toPath(), this.indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        this.records = this.games.size();
+    }
+
+    private static void writeRecord (final DataOutputStream out, final byte op, final String name,
+            final SavedGameInfo info) throws IOException {
+        out.writeByte(op);
+        out.writeUTF(name);
+        if (op == PUT) {
+            out.writeUTF(info.getStoryId());
+            out.writeUTF(info.getPosition());
+            out.writeLong(info.getLastPlayed());
+            out.writeLong(info.getSize());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+/**
+ * Metadata of a saved game, as listed by the {@link SavedGameCatalog}.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class SavedGameInfo {
+
+    private final String name;
+    private final String storyId;
+    private final String position;
+    private final long lastPlayed;
+    private final long size;
+
+    /**
+     * Instantiates the metadata of a saved game.
+     * 
+     * @param name
+     *            Name of the saved game, that is the name of its directory.
+     * @param storyId
+     *            Identifier of the story of the game.
+     * @param position
+     *            Path of the last position of the player :
+     *            {world}.{region}.{zone}.{room}, empty if the game has never been
+     *            played.
+     * @param lastPlayed
+     *            Time the game was last played, in milliseconds since the epoch.
+     * @param size
+     *            Size of the saved game on disk, in bytes.
+     */
+    public SavedGameInfo(final String name, final String storyId, final String position, final long lastPlayed,
+            final long size) {
+        this.name = name;
+        this.storyId = storyId != null ? storyId : "";
+        this.position = position != null ? position : "";
+        this.lastPlayed = lastPlayed;
+        this.size = size;
+    }
+
+    /**
+     * Returns a copy of this saved game at another position.
+     * 
+     * @param newPosition
+     *            Path of the new position of the player.
+     * @param time
+     *            Time the game was played.
+     * @return New instance of {@link SavedGameInfo}.
+     */
+    public SavedGameInfo withPosition (final String newPosition, final long time) {
+        return new SavedGameInfo(this.name, this.storyId, newPosition, time, this.size);
+    }
+
+    /**
+     * Returns a copy of this saved game with another size.
+     * 
+     * @param newSize
+     *            Size of the saved game on disk, in bytes.
+     * @return New instance of {@link SavedGameInfo}.
+     */
+    public SavedGameInfo withSize (final long newSize) {
+        return new SavedGameInfo(this.name, this.storyId, this.position, this.lastPlayed, newSize);
+    }
+
+    @Override
+    public String toString () {
+        return "SavedGameInfo [name=" + name + ", storyId=" + storyId + ", position=" + position + ", lastPlayed="
+                + lastPlayed + ", size=" + size + "]";
+    }
+
+    public String getName () {
+        return this.name;
+    }
+
+    public String getStoryId () {
+        return this.storyId;
+    }
+
+    public String getPosition () {
+        return this.position;
+    }
+
+    public long getLastPlayed () {
+        return this.lastPlayed;
+    }
+
+    public long getSize () {
+        return this.size;
+    }
+}
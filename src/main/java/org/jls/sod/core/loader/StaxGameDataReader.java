@@ -0,0 +1,473 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.character.Ability;
+import org.jls.sod.core.model.character.AbilityScores;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.character.Monster;
+import org.jls.sod.core.model.character.ScoreComponent;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.item.ItemType;
+
+/**
+ * {@link GameDataReader} streaming the files with a StAX pull-parser : only the
+ * attributes and texts used by the game are extracted, no document tree is
+ * built.
+ * <p>
+ * The texts are normalized the same way as {@link JdomGameDataReader} does
+ * (leading and trailing whitespaces removed, internal whitespaces collapsed), so
+ * both readers produce the same model objects.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StaxGameDataReader implements GameDataReader {
+
+    /**
+     * Property of the JDK implementation allowing a factory to reset and reuse its
+     * last stream reader (and its internal buffers) instead of allocating a new
+     * one for each file.
+     */
+    private static final String REUSE_INSTANCE = "reuse-instance";
+
+    /**
+     * One factory per thread as the reused stream reader cannot be shared by the
+     * threads loading the rooms in parallel.
+     */
+    private final ThreadLocal<XMLInputFactory> factory;
+
+    /**
+     * Instantiates a new reader.
+     */
+    public StaxGameDataReader() {
+        this.factory = ThreadLocal.withInitial(StaxGameDataReader::createFactory);
+    }
+
+    private static XMLInputFactory createFactory () {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        if (factory.isPropertySupported(REUSE_INSTANCE)) {
+            factory.setProperty(REUSE_INSTANCE, true);
+        }
+        return factory;
+    }
+
+    @Override
+    public Story readStory (final File file) throws IOException {
+        AreaData area = readArea(file);
+        return new Story(area.getId(), area.getName(), area.getDescription(), area.getEntryPoint());
+    }
+
+    @Override
+    public AreaData readArea (final File file) throws IOException {
+        return parse(file, reader -> {
+            String id = reader.getAttributeValue(null, "id");
+            String name = reader.getAttributeValue(null, "name");
+            String description = null;
+            String entryId = null;
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Description":
+                        description = unescape(normalize(reader.getElementText()));
+                        break;
+                    case "EntryPoint":
+                        entryId = reader.getAttributeValue(null, "id");
+                        skipElement(reader);
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            }
+            return new AreaData(id, name, description, entryId);
+        });
+    }
+
+    @Override
+    public RoomData readRoom (final File file, final StringPool pool) throws IOException {
+        return parse(file, reader -> {
+            String id = reader.getAttributeValue(null, "id");
+            String name = reader.getAttributeValue(null, "name");
+            String shortDesc = null;
+            String longDesc = null;
+            EnumMap<Direction, String> neighbors = new EnumMap<>(Direction.class);
+            EnumMap<Direction, String> neighborsDesc = new EnumMap<>(Direction.class);
+            EnumMap<Sense, String> senses = null;
+            ArrayList<String> itemIds = new ArrayList<>();
+            ArrayList<Integer> itemQuantities = new ArrayList<>();
+
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "ShortDescription":
+                        shortDesc = unescape(normalize(reader.getElementText()));
+                        break;
+                    case "LongDescription":
+                        longDesc = unescape(normalize(reader.getElementText()));
+                        break;
+                    case "Directions":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            Direction direction = Direction.valueOf(reader.getLocalName().toUpperCase());
+                            String nextRoomId = reader.getAttributeValue(null, "id");
+                            String desc = normalize(reader.getElementText());
+                            // If next room ID is specified
+                            if (nextRoomId != null) {
+                                neighbors.put(direction, nextRoomId);
+                                neighborsDesc.put(direction, desc);
+                            }
+                        }
+                        break;
+                    case "Senses":
+                        senses = readSenses(reader);
+                        break;
+                    case "Items":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            itemIds.add(reader.getAttributeValue(null, "id"));
+                            itemQuantities.add(Integer.parseInt(reader.getAttributeValue(null, "quantity")));
+                            skipElement(reader);
+                        }
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            }
+
+            RoomData room = new RoomData(intern(pool, id), intern(pool, name), intern(pool, shortDesc),
+                    intern(pool, longDesc));
+            for (Direction direction : neighbors.keySet()) {
+                room.putNeighbor(direction, intern(pool, neighbors.get(direction)),
+                        intern(pool, neighborsDesc.get(direction)));
+            }
+            if (senses != null) {
+                for (Sense sense : senses.keySet()) {
+                    room.putSenseDescription(sense, intern(pool, senses.get(sense)));
+                }
+            }
+            for (int i = 0; i < itemIds.size(); i++) {
+                room.addItem(intern(pool, itemIds.get(i)), itemQuantities.get(i));
+            }
+            return room;
+        });
+    }
+
+    @Override
+    public Item readItem (final File file) throws IOException {
+        return parse(file, reader -> {
+            String id = reader.getAttributeValue(null, "id");
+            String name = reader.getAttributeValue(null, "name");
+            ItemType type = ItemType.valueOf(reader.getAttributeValue(null, "type").toUpperCase());
+            boolean isCarriable = Boolean.valueOf(reader.getAttributeValue(null, "isCarriable"));
+            boolean isStackable = Boolean.valueOf(reader.getAttributeValue(null, "isStackable"));
+            String shortDesc = null;
+            String longDesc = null;
+            EnumMap<Sense, String> senses = null;
+
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Description":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            if ("Short".equals(reader.getLocalName())) {
+                                shortDesc = unescape(normalize(reader.getElementText()));
+                            } else if ("Long".equals(reader.getLocalName())) {
+                                longDesc = unescape(normalize(reader.getElementText()));
+                            } else {
+                                skipElement(reader);
+                            }
+                        }
+                        break;
+                    case "Senses":
+                        senses = readSenses(reader);
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            }
+
+            return new Item(id, name, type, shortDesc, longDesc, isCarriable, isStackable,
+                    senses != null ? senses : Collections.emptyMap());
+        });
+    }
+
+    @Override
+    public Monster readMonster (final File file) throws IOException {
+        return parse(file, reader -> {
+            String id = reader.getAttributeValue(null, "id");
+            String name = reader.getAttributeValue(null, "name");
+            String shortDesc = null;
+            String longDesc = null;
+            String type = null;
+            int armorClass = 0;
+            int hitPoints = 0;
+            float challenge = 0;
+            int[] scores = new int[Ability.COUNT];
+            int[] modifiers = new int[Ability.COUNT];
+
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Description":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            if ("Short".equals(reader.getLocalName())) {
+                                shortDesc = unescape(normalize(reader.getElementText()));
+                            } else if ("Long".equals(reader.getLocalName())) {
+                                longDesc = unescape(normalize(reader.getElementText()));
+                            } else {
+                                skipElement(reader);
+                            }
+                        }
+                        break;
+                    case "Statistics":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            String stat = reader.getLocalName();
+                            String value = normalize(reader.getElementText());
+                            switch (stat) {
+                                case "Type":
+                                    type = value;
+                                    break;
+                                case "ArmorClass":
+                                    armorClass = Integer.parseInt(value);
+                                    break;
+                                case "HitPoints":
+                                    hitPoints = Integer.parseInt(value);
+                                    break;
+                                case "Challenge":
+                                    challenge = Monster.parseChallenge(value);
+                                    break;
+                                default:
+                                    break;
+                            }
+                        }
+                        break;
+                    case "Abilities":
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            int index = Ability.parseValue(reader.getLocalName()).ordinal();
+                            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                                if ("BaseScore".equals(reader.getLocalName())) {
+                                    scores[index] = Integer.parseInt(normalize(reader.getElementText()));
+                                } else if ("Modifier".equals(reader.getLocalName())) {
+                                    modifiers[index] = Integer.parseInt(normalize(reader.getElementText()));
+                                } else {
+                                    skipElement(reader);
+                                }
+                            }
+                        }
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            }
+
+            return new Monster(id, name, type, shortDesc, longDesc, armorClass, hitPoints, challenge, scores,
+                    modifiers);
+        });
+    }
+
+    @Override
+    public Character readCharacter (final File file) throws IOException {
+        return parse(file, reader -> {
+            String id = reader.getAttributeValue(null, "id");
+            String name = reader.getAttributeValue(null, "name");
+            AbilityScores abilities = new AbilityScores();
+
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if ("Abilities".equals(reader.getLocalName())) {
+                    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                        Ability ability = Ability.parseValue(reader.getLocalName());
+                        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                            ScoreComponent component = ScoreComponent.parseValue(reader.getLocalName());
+                            abilities.set(ability, component, Integer.parseInt(normalize(reader.getElementText())));
+                        }
+                    }
+                } else {
+                    skipElement(reader);
+                }
+            }
+            return new Character(id, name, abilities);
+        });
+    }
+
+    /**
+     * Reads the senses' descriptions from the Senses element. The reader must be
+     * positioned on the start of the element and is left on its end.
+     * 
+     * @param reader
+     *            The XML stream reader.
+     * @return The provided senses' descriptions.
+     * @throws XMLStreamException
+     *             If the XML stream is malformed.
+     */
+    private static EnumMap<Sense, String> readSenses (final XMLStreamReader reader) throws XMLStreamException {
+        EnumMap<Sense, String> senses = new EnumMap<>(Sense.class);
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            Sense sense = Sense.parseValue(reader.getLocalName());
+            String text = reader.getElementText();
+            // If description is not empty
+            if (!text.isEmpty()) {
+                senses.put(sense, normalize(text));
+            }
+        }
+        return senses;
+    }
+
+    /**
+     * Parses the specified file.
+     * 
+     * @param file
+     *            The XML file to parse.
+     * @param handler
+     *            The handler reading the document, called with the reader
+     *            positioned on the root element.
+     * @return The object created by the handler.
+     * @throws GameDataException
+     *             If the XML file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the file.
+     */
+    private <T> T parse (final File file, final ElementHandler<T> handler) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            XMLStreamReader reader = this.factory.get().createXMLStreamReader(in);
+            try {
+                // Skips the prolog (declaration, DOCTYPE, comments...)
+                while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    if (!reader.hasNext()) {
+                        throw new GameDataException("No root element in " + file.getAbsolutePath());
+                    }
+                }
+                return handler.read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new GameDataException("Malformed XML file : " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Returns the pooled instance of the specified text, or the text itself if
+     * there is no pool.
+     */
+    private static String intern (final StringPool pool, final String text) {
+        return pool != null ? pool.intern(text) : text;
+    }
+
+    /**
+     * Skips the current element and all its content. The reader must be
+     * positioned on the start of the element and is left on its end.
+     * 
+     * @param reader
+     *            The XML stream reader.
+     * @throws XMLStreamException
+     *             If the XML stream is malformed.
+     */
+    private static void skipElement (final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Removes the leading and trailing whitespaces of the specified text and
+     * replaces each sequence of internal whitespaces by a single space.
+     * 
+     * @param text
+     *            The text to normalize.
+     * @return The normalized text.
+     */
+    static String normalize (final String text) {
+        int length = text.length();
+        StringBuilder sb = null;
+        boolean space = false;
+        int start = 0;
+        int end = length;
+        while (start < length && isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                // Only allocates a builder if the text really has to be modified
+                if (sb == null && (c != ' ' || isWhitespace(text.charAt(i + 1)))) {
+                    sb = new StringBuilder(end - start);
+                    sb.append(text, start, i);
+                }
+                space = true;
+            } else {
+                if (sb != null) {
+                    if (space) {
+                        sb.append(' ');
+                    }
+                    sb.append(c);
+                }
+                space = false;
+            }
+        }
+        if (sb != null) {
+            return sb.toString();
+        }
+        return start == 0 && end == length ? text : text.substring(start, end);
+    }
+
+    private static String unescape (final String text) {
+        return text.replace("\\n", "\n");
+    }
+
+    private static boolean isWhitespace (final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Reads an element from the XML stream.
+     */
+    @FunctionalInterface
+    private interface ElementHandler<T> {
+        T read (XMLStreamReader reader) throws XMLStreamException, IOException;
+    }
+}
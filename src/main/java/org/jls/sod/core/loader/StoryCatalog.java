@@ -0,0 +1,342 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.Story;
+
+/**
+ * Catalog of the installed stories.
+ * <p>
+ * The metadata of the stories (name, description, default world, number of
+ * rooms and items) are persisted in a small index file. Each entry is
+ * fingerprinted with the modification times of the story directory, of its
+ * <i>story.xml</i> file and of its items directory : at startup only the
+ * stories whose fingerprint changed, and the new ones, are read again, in
+ * parallel. The other stories are listed without opening any of their files.
+ * </p>
+ * <p>
+ * A room added to an existing zone does not change the fingerprint, so the
+ * number of rooms is only refreshed when one of the fingerprinted files is
+ * modified.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StoryCatalog {
+
+    /**
+     * Magic number identifying an index file.
+     */
+    static final int MAGIC = 0x534f4443;
+    /**
+     * Version of the index format.
+     */
+    static final int VERSION = 1;
+
+    private final Logger logger;
+    private final File storiesDir;
+    private final File indexFile;
+    private final GameDataReader reader;
+    private final TreeMap<String, StoryInfo> stories;
+
+    /**
+     * Instantiates an empty catalog, use {@link #refresh()} to list the stories.
+     * 
+     * @param storiesDir
+     *            The directory containing the stories.
+     * @param indexFile
+     *            The file persisting the metadata of the stories.
+     * @param reader
+     *            The reader used to parse the story files.
+     */
+    public StoryCatalog(final File storiesDir, final File indexFile, final GameDataReader reader) {
+        this.logger = LogManager.getLogger();
+        this.storiesDir = storiesDir;
+        this.indexFile = indexFile;
+        this.reader = reader;
+        this.stories = new TreeMap<>();
+    }
+
+    /**
+     * Opens the catalog of the specified stories directory using the default
+     * {@link GameDataReader}.
+     * 
+     * @param storiesDir
+     *            The directory containing the stories.
+     * @param indexFile
+     *            The file persisting the metadata of the stories.
+     * @return The refreshed catalog.
+     * @throws IOException
+     *             If the stories cannot be listed.
+     */
+    public static StoryCatalog open (final File storiesDir, final File indexFile) throws IOException {
+        StoryCatalog catalog = new StoryCatalog(storiesDir, indexFile, Loader.getDefaultReader());
+        catalog.refresh();
+        return catalog;
+    }
+
+    /**
+     * Lists the installed stories : the stories whose fingerprint did not change
+     * are taken from the index file, the other ones are read in parallel. The
+     * index file is rewritten if any story changed.
+     * 
+     * @throws IOException
+     *             If the stories directory cannot be listed.
+     */
+    public synchronized void refresh () throws IOException {
+        if (!this.storiesDir.isDirectory()) {
+            throw new IllegalStateException("Stories directory not found : " + this.storiesDir.getAbsolutePath());
+        }
+        long start = System.nanoTime();
+        Map<String, StoryInfo> indexed = readIndex();
+        File[] dirs = this.storiesDir.listFiles(File::isDirectory);
+        if (dirs == null) {
+            throw new IOException("Cannot list stories directory : " + this.storiesDir.getAbsolutePath());
+        }
+
+        // Reads the new and modified stories in parallel
+        List<StoryInfo> infos = new ArrayList<>(dirs.length);
+        List<Callable<StoryInfo>> tasks = new ArrayList<>();
+        for (File dir : dirs) {
+            StoryInfo info = indexed.get(dir.getName());
+            if (info != null && Arrays.equals(info.getFingerprint(), fingerprint(dir))) {
+                infos.add(info);
+            } else {
+                tasks.add(() -> scan(dir));
+            }
+        }
+        try {
+            for (Future<StoryInfo> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                StoryInfo info = future.get();
+                if (info != null) {
+                    infos.add(info);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while listing the stories");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot list the stories", e.getCause());
+        }
+
+        this.stories.clear();
+        for (StoryInfo info : infos) {
+            this.stories.put(info.getId(), info);
+        }
+        if (!tasks.isEmpty() || indexed.size() != this.stories.size()) {
+            writeIndex();
+        }
+        this.logger.info("Listed {} stories in {} ms ({} read from the story files)", this.stories.size(),
+                (System.nanoTime() - start) / 1_000_000, tasks.size());
+    }
+
+    /**
+     * Returns the metadata of the specified story.
+     * 
+     * @param storyId
+     *            Identifier of the story, that is the name of its directory.
+     * @return The metadata of the story or <code>null</code> if it is not
+     *         installed.
+     */
+    public synchronized StoryInfo get (final String storyId) {
+        return this.stories.get(storyId);
+    }
+
+    /**
+     * Returns the metadata of all the installed stories sorted by identifier.
+     * 
+     * @return Unmodifiable list of the stories.
+     */
+    public synchronized List<StoryInfo> getStories () {
+        return Collections.unmodifiableList(new ArrayList<>(this.stories.values()));
+    }
+
+    /**
+     * Returns the number of installed stories.
+     * 
+     * @return Number of stories.
+     */
+    public synchronized int size () {
+        return this.stories.size();
+    }
+
+    /**
+     * Reads the metadata of the specified story from its files.
+     * 
+     * @param dir
+     *            The story directory.
+     * @return The metadata of the story or <code>null</code> if the directory
+     *         does not contain a valid story.
+     */
+    private StoryInfo scan (final File dir) {
+        long[] fingerprint = fingerprint(dir);
+        File storyFile = new File(dir, "story.xml");
+        if (!storyFile.isFile()) {
+            this.logger.warn("Story file not found : {}", storyFile.getAbsolutePath());
+            return null;
+        }
+        Story story;
+        try {
+            story = this.reader.readStory(storyFile);
+        } catch (IOException e) {
+            this.logger.error("Cannot read story file {}", storyFile.getAbsolutePath(), e);
+            return null;
+        }
+
+        // Counts the rooms of all the zones : worlds/{world}/{region}/{zone}/rooms
+        int roomCount = 0;
+        for (File world : listDirs(new File(dir, "worlds"))) {
+            for (File region : listDirs(world)) {
+                for (File zone : listDirs(region)) {
+                    roomCount += countXmlFiles(new File(zone, "rooms"));
+                }
+            }
+        }
+        int itemCount = countXmlFiles(new File(dir, "items"));
+        return new StoryInfo(dir, story, roomCount, itemCount, fingerprint);
+    }
+
+    /**
+     * Returns the modification times of the files the metadata of a story are
+     * read from.
+     */
+    private static long[] fingerprint (final File dir) {
+        return new long[] { dir.lastModified(), new File(dir, "story.xml").lastModified(),
+                new File(dir, "items").lastModified() };
+    }
+
+    private static File[] listDirs (final File dir) {
+        File[] dirs = dir.listFiles(File::isDirectory);
+        return dirs != null ? dirs : new File[0];
+    }
+
+    private static int countXmlFiles (final File dir) {
+        String[] names = dir.list((d, name) -> name.endsWith(".xml"));
+        return names != null ? names.length : 0;
+    }
+
+    /**
+     * Reads the index file.
+     * 
+     * @return The indexed stories, empty if the index does not exist or cannot be
+     *         read.
+     */
+    private Map<String, StoryInfo> readIndex () {
+        Map<String, StoryInfo> indexed = new HashMap<>();
+        if (!this.indexFile.isFile()) {
+            return indexed;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(this.indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                this.logger.warn("Ignoring story index of unknown format {}", this.indexFile);
+                return indexed;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                File dir = new File(this.storiesDir, in.readUTF());
+                Story story = new Story(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+                int roomCount = in.readInt();
+                int itemCount = in.readInt();
+                long[] fingerprint = new long[in.readInt()];
+                for (int j = 0; j < fingerprint.length; j++) {
+                    fingerprint[j] = in.readLong();
+                }
+                indexed.put(dir.getName(), new StoryInfo(dir, story, roomCount, itemCount, fingerprint));
+            }
+        } catch (IOException e) {
+            // The index is only a cache, all the stories are read again
+            this.logger.warn("Cannot read story index {}", this.indexFile, e);
+            indexed.clear();
+        }
+        return indexed;
+    }
+
+    /**
+     * Writes the index file atomically so that a crash never leaves a truncated
+     * index.
+     */
+    private void writeIndex () {
+        File tmpFile = new File(this.indexFile.getParentFile(), this.indexFile.getName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(this.stories.size());
+                for (StoryInfo info : this.stories.values()) {
+                    Story story = info.getStory();
+                    out.writeUTF(info.getId());
+                    out.writeUTF(nonNull(story.getId()));
+                    out.writeUTF(nonNull(story.getName()));
+                    out.writeUTF(nonNull(story.getDescription()));
+                    out.writeUTF(nonNull(story.getDefaultWorld()));
+                    out.writeInt(info.getRoomCount());
+                    out.writeInt(info.getItemCount());
+                    out.writeInt(info.getFingerprint().length);
+                    for (long time : info.getFingerprint()) {
+                        out.writeLong(time);
+                    }
+                }
+            }
+            Files.move(tmpFile.toPath(), this.indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The catalog still works without its index
+            this.logger.warn("Cannot write story index {}", this.indexFile, e);
+            tmpFile.delete();
+        }
+    }
+
+    private static String nonNull (final String value) {
+        return value != null ? value : "";
+    }
+}
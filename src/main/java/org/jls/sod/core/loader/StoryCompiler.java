@@ -0,0 +1,416 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.world.PathIndex;
+
+/**
+ * Compiles the XML files of a story directory into a single binary
+ * {@link StoryImage} that can be memory-mapped by the {@link Loader} instead of
+ * parsing the XML files each time a game instance is loaded.
+ * <p>
+ * Usage : <code>StoryCompiler &lt;storyDir&gt; [imageFile]</code>
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StoryCompiler {
+
+    private final Logger logger;
+    private final GameDataReader reader;
+    private final LinkedHashMap<String, Integer> strings;
+    private final HashMap<String, Integer> itemsIndex;
+    private final ArrayList<int[]> worlds;
+    private final ArrayList<int[]> regions;
+    private final ArrayList<int[]> zones;
+    private final ArrayList<int[]> rooms;
+    private final ArrayList<int[]> items;
+    private final ArrayList<int[]> roomItems;
+
+    private int[] story;
+
+    /**
+     * Instantiates a new compiler.
+     */
+    private StoryCompiler() {
+        this.logger = LogManager.getLogger();
+        this.reader = Loader.getDefaultReader();
+        this.strings = new LinkedHashMap<>();
+        this.itemsIndex = new HashMap<>();
+        this.worlds = new ArrayList<>();
+        this.regions = new ArrayList<>();
+        this.zones = new ArrayList<>();
+        this.rooms = new ArrayList<>();
+        this.items = new ArrayList<>();
+        this.roomItems = new ArrayList<>();
+        this.story = null;
+    }
+
+    public static void main (final String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StoryCompiler <storyDir> [imageFile]");
+            System.exit(1);
+        }
+        File storyDir = new File(args[0]);
+        File imageFile = args.length >= 2 ? new File(args[1]) : new File(storyDir, StoryImage.FILENAME);
+        compile(storyDir, imageFile);
+    }
+
+    /**
+     * Compiles the specified story directory into the specified image file.
+     * 
+     * @param storyDir
+     *            The story directory containing the file <i>story.xml</i>.
+     * @param imageFile
+     *            The image file to generate.
+     * @throws GameDataException
+     *             If one of the XML files is malformed or if two rooms of a zone
+     *             have the same identifier.
+     * @throws IOException
+     *             If an error occurred reading the story or writing the image.
+     */
+    public static void compile (final File storyDir, final File imageFile) throws IOException {
+        if (!storyDir.isDirectory()) {
+            throw new IllegalArgumentException("Story directory not found : " + storyDir.getAbsolutePath());
+        }
+        StoryCompiler compiler = new StoryCompiler();
+        compiler.logger.info("Compiling story {} into {}", storyDir, imageFile);
+        long start = System.nanoTime();
+        // Taken first, so that the files modified while compiling outdate the image
+        long fingerprint = StoryImage.fingerprint(storyDir);
+        long fullFingerprint = StoryImage.fullFingerprint(storyDir);
+        compiler.compileStory(storyDir);
+        compiler.write(imageFile, fingerprint, fullFingerprint);
+        compiler.logger.info("Story compiled in {} ms {rooms={}, items={}, strings={}}",
+                (System.nanoTime() - start) / 1_000_000, compiler.rooms.size(), compiler.items.size(),
+                compiler.strings.size());
+    }
+
+    /**
+     * Parses the whole story directory into the compiler's tables.
+     * 
+     * @param storyDir
+     *            The story directory.
+     * @throws GameDataException
+     *             If one of the XML files is malformed.
+     * @throws IOException
+     *             If an error occurred reading one of the files.
+     */
+    private void compileStory (final File storyDir) throws IOException {
+        Story s = this.reader.readStory(new File(storyDir, "story.xml"));
+        this.story = new int[] { string(s.getId()), string(s.getName()), string(s.getDescription()),
+                string(s.getDefaultWorld()) };
+
+        // Items first so that the rooms can reference them
+        for (File itemFile : listFiles(new File(storyDir, "items"), false)) {
+            compileItem(this.reader.readItem(itemFile));
+        }
+
+        for (File worldDir : listFiles(new File(storyDir, "worlds"), true)) {
+            File worldFile = new File(worldDir, "world.xml");
+            if (worldFile.exists()) {
+                compileWorld(worldDir, worldFile);
+            }
+        }
+    }
+
+    private void compileItem (final Item item) {
+        int[] record = new int[StoryImage.ITEM_INTS];
+        record[0] = string(item.getId());
+        record[1] = string(item.getName());
+        record[2] = string(item.getShortDescription());
+        record[3] = string(item.getLongDescrition());
+        record[4] = item.getType().ordinal();
+        record[5] = (item.isCarriable() ? StoryImage.FLAG_CARRIABLE : 0)
+                | (item.isStackable() ? StoryImage.FLAG_STACKABLE : 0);
+        for (Sense sense : Sense.values()) {
+            record[6 + sense.ordinal()] = string(item.getSenseDescription(sense));
+        }
+        this.itemsIndex.put(item.getId(), this.items.size());
+        this.items.add(record);
+    }
+
+    private void compileWorld (final File worldDir, final File worldFile) throws IOException {
+        AreaData data = this.reader.readArea(worldFile);
+        int world = this.worlds.size();
+        this.worlds.add(new int[] { string(data.getId()), string(data.getName()), string(data.getDescription()),
+                string(data.getEntryPoint()) });
+
+        for (File regionDir : listFiles(worldDir, true)) {
+            File regionFile = new File(regionDir, "region.xml");
+            if (regionFile.exists()) {
+                compileRegion(regionDir, regionFile, world, data.getId());
+            }
+        }
+    }
+
+    private void compileRegion (final File regionDir, final File regionFile, final int world,
+            final String worldId) throws IOException {
+        AreaData data = this.reader.readArea(regionFile);
+        int region = this.regions.size();
+        this.regions.add(new int[] { string(data.getId()), string(data.getName()), string(data.getDescription()),
+                string(data.getEntryPoint()), world });
+
+        for (File zoneDir : listFiles(regionDir, true)) {
+            File zoneFile = new File(zoneDir, "zone.xml");
+            if (zoneFile.exists()) {
+                compileZone(zoneDir, zoneFile, region, worldId, data.getId());
+            }
+        }
+    }
+
+    private void compileZone (final File zoneDir, final File zoneFile, final int region, final String worldId,
+            final String regionId) throws IOException {
+        AreaData data = this.reader.readArea(zoneFile);
+        int zone = this.zones.size();
+        int firstRoom = this.rooms.size();
+
+        // Parses the rooms of the zone, the neighbors are resolved once all the rooms
+        // are known
+        HashMap<String, Integer> roomsIndex = new HashMap<>();
+        HashMap<String, File> roomFiles = new HashMap<>();
+        ArrayList<String> roomIds = new ArrayList<>();
+        ArrayList<String[]> pendingNeighbors = new ArrayList<>();
+        for (File roomFile : listFiles(new File(zoneDir, "rooms"), false)) {
+            RoomData room = this.reader.readRoom(roomFile);
+            File other = roomFiles.putIfAbsent(room.getId(), roomFile);
+            if (other != null) {
+                throw new GameDataException("In the zone '" + data.getId() + "' : duplicate room '" + room.getId()
+                        + "' in " + other.getName() + " and " + roomFile.getName());
+            }
+            roomsIndex.put(room.getId(), this.rooms.size());
+            roomIds.add(room.getId());
+            pendingNeighbors.add(compileRoom(room, zone));
+        }
+        for (int i = 0; i < pendingNeighbors.size(); i++) {
+            int[] record = this.rooms.get(firstRoom + i);
+            String[] neighbors = pendingNeighbors.get(i);
+            for (int d = 0; d < StoryImage.NB_DIRECTIONS; d++) {
+                if (neighbors[d] != null) {
+                    String[] target = PathIndex.qualify(worldId, regionId, data.getId(), neighbors[d]);
+                    if (target == null) {
+                        throw new IllegalStateException("In the room '" + roomIds.get(i)
+                                + "' : malformed exit target '" + neighbors[d] + "'");
+                    }
+                    if (!target[0].equals(worldId) || !target[1].equals(regionId)
+                            || !target[2].equals(data.getId())) {
+                        // Exit to another zone, stored as the path of its target
+                        record[5 + d] = StoryImage.LINK_BASE - string(PathIndex.join(target));
+                        continue;
+                    }
+                    Integer next = roomsIndex.get(target[3]);
+                    if (next == null) {
+                        throw new IllegalStateException(
+                                "In the room '" + roomIds.get(i) + "' : '" + neighbors[d] + "' room not found");
+                    }
+                    record[5 + d] = next;
+                }
+            }
+        }
+
+        this.zones.add(new int[] { string(data.getId()), string(data.getName()), string(data.getDescription()),
+                string(data.getEntryPoint()), region, firstRoom, this.rooms.size() - firstRoom });
+    }
+
+    /**
+     * Adds the specified room to the rooms table.
+     * 
+     * @param room
+     *            The parsed room.
+     * @param zone
+     *            Index of the parent zone.
+     * @return Identifiers of the neighbors indexed by direction.
+     */
+    private String[] compileRoom (final RoomData room, final int zone) {
+        int[] record = new int[StoryImage.ROOM_INTS];
+        Arrays.fill(record, -1);
+        record[0] = string(room.getId());
+        record[1] = string(room.getName());
+        record[2] = string(room.getShortDescription());
+        record[3] = string(room.getLongDescription());
+        record[4] = zone;
+
+        String[] neighbors = new String[StoryImage.NB_DIRECTIONS];
+        for (Entry<Direction, String> entry : room.getNeighbors().entrySet()) {
+            Direction direction = entry.getKey();
+            neighbors[direction.ordinal()] = entry.getValue();
+            record[5 + StoryImage.NB_DIRECTIONS + direction.ordinal()] = string(
+                    room.getNeighborsDescription().get(direction));
+        }
+
+        for (Entry<Sense, String> entry : room.getSensesDescription().entrySet()) {
+            record[5 + 2 * StoryImage.NB_DIRECTIONS + entry.getKey().ordinal()] = string(entry.getValue());
+        }
+
+        int firstItem = this.roomItems.size();
+        for (Entry<String, Integer> entry : room.getItems()) {
+            Integer item = this.itemsIndex.get(entry.getKey());
+            if (item == null) {
+                throw new IllegalArgumentException("Item not found : " + entry.getKey());
+            }
+            this.roomItems.add(new int[] { item, entry.getValue() });
+        }
+        record[5 + 2 * StoryImage.NB_DIRECTIONS + StoryImage.NB_SENSES] = firstItem;
+        record[6 + 2 * StoryImage.NB_DIRECTIONS + StoryImage.NB_SENSES] = this.roomItems.size() - firstItem;
+
+        this.rooms.add(record);
+        return neighbors;
+    }
+
+    /**
+     * Writes the compiled tables into the specified image file. The image is
+     * written into a temporary file that replaces the image atomically, since the
+     * previous image may be mapped by a running game.
+     * 
+     * @param imageFile
+     *            The image file to generate.
+     * @param fingerprint
+     *            The fingerprint of the story directory.
+     * @param fullFingerprint
+     *            The fingerprint of the compiled XML files.
+     * @throws IOException
+     *             If an error occurred writing the file.
+     */
+    private void write (final File imageFile, final long fingerprint, final long fullFingerprint)
+            throws IOException {
+        // Encodes the string table
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] offsets = new int[this.strings.size() + 1];
+        int i = 0;
+        for (String str : this.strings.keySet()) {
+            offsets[i++] = data.size();
+            data.writeBytes(str.getBytes(StandardCharsets.UTF_8));
+        }
+        offsets[i] = data.size();
+
+        File tmpFile = new File(imageFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                // Header
+                out.writeInt(StoryImage.MAGIC);
+                out.writeInt(StoryImage.VERSION);
+                out.writeInt(StoryImage.NB_DIRECTIONS);
+                out.writeInt(StoryImage.NB_SENSES);
+                out.writeInt(this.strings.size());
+                out.writeInt(data.size());
+                out.writeInt(this.worlds.size());
+                out.writeInt(this.regions.size());
+                out.writeInt(this.zones.size());
+                out.writeInt(this.rooms.size());
+                out.writeInt(this.items.size());
+                out.writeInt(this.roomItems.size());
+                out.writeLong(fingerprint);
+                out.writeLong(fullFingerprint);
+                writeRecord(out, this.story);
+                // String table
+                writeRecord(out, offsets);
+                data.writeTo(out);
+                // Tables
+                for (ArrayList<int[]> table : Arrays.asList(this.worlds, this.regions, this.zones, this.rooms,
+                        this.items, this.roomItems)) {
+                    for (int[] record : table) {
+                        writeRecord(out, record);
+                    }
+                }
+            }
+            Files.move(tmpFile.toPath(), imageFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // Leaves no partial image next to the story
+            Files.deleteIfExists(tmpFile.toPath());
+            throw e;
+        }
+    }
+
+    private static void writeRecord (final DataOutputStream out, final int[] record) throws IOException {
+        for (int value : record) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Returns the index of the specified string in the string table, adding it if
+     * needed.
+     * 
+     * @param str
+     *            The string to index.
+     * @return Index of the string or <code>-1</code> if the string is
+     *         <code>null</code>.
+     */
+    private int string (final String str) {
+        if (str == null) {
+            return -1;
+        }
+        Integer index = this.strings.get(str);
+        if (index == null) {
+            index = this.strings.size();
+            this.strings.put(str, index);
+        }
+        return index;
+    }
+
+    /**
+     * Lists the content of the specified directory sorted by name so that the
+     * generated image does not depend on the file system.
+     * 
+     * @param dir
+     *            The directory to list.
+     * @param folders
+     *            <code>true</code> to list the sub-directories, <code>false</code>
+     *            to list the XML files.
+     * @return The sorted files, empty if the directory does not exist.
+     */
+    private static File[] listFiles (final File dir, final boolean folders) {
+        File[] files = dir.listFiles(f -> folders ? f.isDirectory() : f.isFile() && f.getName().endsWith(".xml"));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files);
+        return files;
+    }
+}
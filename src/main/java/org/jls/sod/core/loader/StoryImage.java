@@ -0,0 +1,695 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumMap;
+import java.util.HashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.inventory.Inventory;
+import org.jls.sod.core.model.inventory.NotCarriableException;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.core.model.item.ItemType;
+import org.jls.sod.core.model.world.Region;
+import org.jls.sod.core.model.world.Room;
+import org.jls.sod.core.model.world.World;
+import org.jls.sod.core.model.world.Zone;
+
+/**
+ * Read-only view of a compiled story image (see {@link StoryCompiler}).
+ * <p>
+ * The image file is memory-mapped and the game data model is built directly
+ * from its fixed-size tables, so no XML file is parsed when a game instance is
+ * loaded. All the integers are big-endian, the strings are referenced by their
+ * index in the string table and <code>-1</code> stands for "no value".
+ * </p>
+ * 
+ * <pre>
+ * Header        20 ints : magic, version, nb directions, nb senses,
+ *                         nb strings, string data length, nb worlds,
+ *                         nb regions, nb zones, nb rooms, nb items,
+ *                         nb room items, fingerprint (long),
+ *                         full fingerprint (long),
+ *                         story {id, name, desc, world}
+ * String table  (nb strings + 1) ints offsets, followed by the UTF-8 data
+ * Worlds        {id, name, desc, entry region}
+ * Regions       {id, name, desc, entry zone, world}
+ * Zones         {id, name, desc, entry room, region, first room, nb rooms}
+ * Rooms         {id, name, short, long, zone, neighbors[9],
+ *                neighbors desc[9], senses[6], first item, nb items},
+ *                a neighbor being the index of a room of the zone, -1
+ *                or LINK_BASE - the string index of the path of a room
+ *                of another zone
+ * Items         {id, name, short, long, type, flags, senses[6]}
+ * Room items    {item, quantity}
+ * </pre>
+ * <p>
+ * Two fingerprints identify the XML files the image has been compiled from.
+ * The {@link #fingerprint(File)} of the story directory is checked each time
+ * the image is opened by the loader. It only reads the attributes of the
+ * directories and of the area descriptors, so it does not depend on the
+ * number of rooms. The {@link #fullFingerprint(File)} reads the attributes of
+ * every file; it is only checked by the {@link StoryValidator}, which also
+ * catches a room or item file modified in place.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public final class StoryImage {
+
+    /**
+     * Default name of the image file in a story or instance directory.
+     */
+    public static final String FILENAME = "story.img";
+    /**
+     * Paths, relative to the story directory, of the game data compiled in an
+     * image.
+     */
+    static final String[] SOURCES = { "story.xml", "items", "worlds" };
+
+    static final int MAGIC = 0x534F4449;
+    static final int VERSION = 4;
+    static final int NB_DIRECTIONS = Direction.values().length;
+    static final int NB_SENSES = Sense.values().length;
+
+    static final int HEADER_INTS = 20;
+    static final int WORLD_INTS = 4;
+    static final int REGION_INTS = 5;
+    static final int ZONE_INTS = 7;
+    static final int ROOM_INTS = 7 + 2 * NB_DIRECTIONS + NB_SENSES;
+    static final int ITEM_INTS = 6 + NB_SENSES;
+    static final int ROOM_ITEM_INTS = 2;
+
+    static final int FLAG_CARRIABLE = 0x1;
+    static final int FLAG_STACKABLE = 0x2;
+
+    /**
+     * Offset of the neighbors referencing the path of a room of another zone.
+     */
+    static final int LINK_BASE = -2;
+
+    private final Logger logger;
+    private final MappedByteBuffer buffer;
+    private final StringPool strings;
+
+    private final long fingerprint;
+    private final long fullFingerprint;
+    private final int nbStrings;
+    private final int nbWorlds;
+    private final int nbRegions;
+    private final int nbZones;
+    private final int nbRooms;
+    private final int nbItems;
+
+    private final int stringOffsetsPos;
+    private final int stringDataPos;
+    private final int worldsPos;
+    private final int regionsPos;
+    private final int zonesPos;
+    private final int roomsPos;
+    private final int itemsPos;
+    private final int roomItemsPos;
+
+    private final HashMap<String, Integer> itemsIndex;
+
+    /**
+     * Items already built from the image, indexed like the items table : the
+     * items being immutable, each item is built once and shared by all the rooms.
+     */
+    private final Item[] items;
+
+    /**
+     * Maps the specified image and checks its header.
+     * 
+     * @param buffer
+     *            The mapped image.
+     * @param strings
+     *            The pool sharing the texts decoded from the image.
+     * @throws IOException
+     *             If the image is malformed or has been compiled by an
+     *             incompatible version of the game.
+     */
+    private StoryImage(final MappedByteBuffer buffer, final StringPool strings) throws IOException {
+        this.logger = LogManager.getLogger();
+        this.buffer = buffer;
+        this.strings = strings;
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a story image");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported story image version : " + buffer.getInt(4));
+        }
+        if (buffer.getInt(8) != NB_DIRECTIONS || buffer.getInt(12) != NB_SENSES) {
+            throw new IOException("Story image compiled with another set of directions or senses");
+        }
+        this.nbStrings = buffer.getInt(16);
+        int stringDataLength = buffer.getInt(20);
+        this.nbWorlds = buffer.getInt(24);
+        this.nbRegions = buffer.getInt(28);
+        this.nbZones = buffer.getInt(32);
+        this.nbRooms = buffer.getInt(36);
+        this.nbItems = buffer.getInt(40);
+        int nbRoomItems = buffer.getInt(44);
+        this.fingerprint = buffer.getLong(48);
+        this.fullFingerprint = buffer.getLong(56);
+
+        this.stringOffsetsPos = HEADER_INTS * Integer.BYTES;
+        this.stringDataPos = this.stringOffsetsPos + (this.nbStrings + 1) * Integer.BYTES;
+        this.worldsPos = this.stringDataPos + stringDataLength;
+        this.regionsPos = this.worldsPos + this.nbWorlds * WORLD_INTS * Integer.BYTES;
+        this.zonesPos = this.regionsPos + this.nbRegions * REGION_INTS * Integer.BYTES;
+        this.roomsPos = this.zonesPos + this.nbZones * ZONE_INTS * Integer.BYTES;
+        this.itemsPos = this.roomsPos + this.nbRooms * ROOM_INTS * Integer.BYTES;
+        this.roomItemsPos = this.itemsPos + this.nbItems * ITEM_INTS * Integer.BYTES;
+        if (this.roomItemsPos + nbRoomItems * ROOM_ITEM_INTS * Integer.BYTES != buffer.capacity()) {
+            throw new IOException("Truncated or corrupted story image");
+        }
+
+        this.itemsIndex = new HashMap<>();
+        for (int i = 0; i < this.nbItems; i++) {
+            this.itemsIndex.put(getString(itemField(i, 0)), i);
+        }
+        this.items = new Item[this.nbItems];
+    }
+
+    /**
+     * Opens the specified story image.
+     * 
+     * @param file
+     *            The image file generated by the {@link StoryCompiler}.
+     * @param strings
+     *            The pool sharing the texts decoded from the image.
+     * @return The mapped story image.
+     * @throws IOException
+     *             If an error occurred mapping the file or if the image is
+     *             malformed.
+     */
+    public static StoryImage open (final File file, final StringPool strings) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new StoryImage(buffer, strings);
+        }
+    }
+
+    /**
+     * Loads the {@link Story} stored in the image.
+     * 
+     * @return New instance of {@link Story}.
+     */
+    public Story loadStory () {
+        return new Story(getString(header(16)), getString(header(17)), getString(header(18)),
+                getString(header(19)));
+    }
+
+    /**
+     * Returns the fingerprint of the story directory the image has been compiled
+     * from.
+     * 
+     * @return The fingerprint of the directories.
+     * @see #fingerprint(File)
+     */
+    public long getFingerprint () {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of all the XML files the image has been compiled
+     * from.
+     * 
+     * @return The fingerprint of the files.
+     * @see #fullFingerprint(File)
+     */
+    public long getFullFingerprint () {
+        return this.fullFingerprint;
+    }
+
+    /**
+     * Computes the fingerprint of a story directory from the path and the
+     * modification time of its directories, and from the path, size and
+     * modification time of the files they contain, except the room files and
+     * the item files. Adding, removing or replacing a file changes the
+     * modification time of its directory, hence the fingerprint, but a room or
+     * item file modified in place does not : see {@link #fullFingerprint(File)}.
+     * 
+     * @param storyDir
+     *            The story directory.
+     * @return The fingerprint of the story directories.
+     * @throws IOException
+     *             If an error occurred listing the directories.
+     */
+    public static long fingerprint (final File storyDir) throws IOException {
+        Path root = storyDir.toPath();
+        Path itemsDir = root.resolve("items");
+        long[] fingerprint = { 0 };
+        SimpleFileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory (final Path dir, final BasicFileAttributes attrs) {
+                fingerprint[0] += mix(root.relativize(dir), attrs);
+                // The rooms and items directories may hold millions of files
+                if (dir.equals(itemsDir) || dir.getFileName().toString().equals("rooms")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile (final Path file, final BasicFileAttributes attrs) {
+                if (file.getFileName().toString().endsWith(".xml")) {
+                    fingerprint[0] += mix(root.relativize(file), attrs);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        };
+        walkSources(root, visitor);
+        return fingerprint[0];
+    }
+
+    /**
+     * Computes the fingerprint of all the XML files of a story directory, from
+     * their path, size and modification time. Modifying, adding or removing one
+     * of the files changes the fingerprint. All the files are read, so it is
+     * only checked when validating the story.
+     * 
+     * @param storyDir
+     *            The story directory.
+     * @return The fingerprint of the story files.
+     * @throws IOException
+     *             If an error occurred listing the files.
+     */
+    public static long fullFingerprint (final File storyDir) throws IOException {
+        Path root = storyDir.toPath();
+        long[] fingerprint = { 0 };
+        SimpleFileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile (final Path file, final BasicFileAttributes attrs) {
+                if (file.getFileName().toString().endsWith(".xml")) {
+                    fingerprint[0] += mix(root.relativize(file), attrs);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        };
+        walkSources(root, visitor);
+        return fingerprint[0];
+    }
+
+    private static void walkSources (final Path root, final SimpleFileVisitor<Path> visitor) throws IOException {
+        for (String name : SOURCES) {
+            Path start = root.resolve(name);
+            if (Files.exists(start)) {
+                Files.walkFileTree(start, visitor);
+            }
+        }
+    }
+
+    /**
+     * Mixes the attributes of a file into a term of the order-independent sum of
+     * the fingerprints.
+     */
+    private static long mix (final Path path, final BasicFileAttributes attrs) {
+        long h = path.toString().hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= attrs.lastModifiedTime().toMillis() * 0xC2B2AE3D27D4EB4FL;
+        h ^= attrs.isDirectory() ? 0 : attrs.size();
+        h ^= h >>> 31;
+        return h * 0xBF58476D1CE4E5B9L + 1;
+    }
+
+    /**
+     * Loads the specified world instance.
+     * 
+     * @param worldId
+     *            Unique identifier of the world.
+     * @param entryPoints
+     *            Allows to specify the entry points path instead of the default
+     *            path specified in the image : {world}.{region}.{zone}.{room}.
+     * @return New instance of {@link World} loaded from the image.
+     */
+    public World loadWorld (final String worldId, final String... entryPoints) {
+        int w = findWorld(worldId);
+        World world = new World(getString(worldField(w, 0)), getString(worldField(w, 1)),
+                getString(worldField(w, 2)));
+        this.logger.info("Loading world {id={}, name={}}", world.getId(), world.getName());
+
+        // Loads the entry region
+        String regionId = entryPoints.length >= 2 ? entryPoints[1] : getString(worldField(w, 3));
+        int r = findRegion(w, regionId);
+        Region region = loadRegion(r, world);
+        world.setEntryPoint(region);
+
+        // Loads the entry zone
+        String zoneId = entryPoints.length >= 3 ? entryPoints[2] : getString(regionField(r, 3));
+        int z = findZone(r, zoneId);
+        String roomId = entryPoints.length >= 4 ? entryPoints[3] : getString(zoneField(z, 3));
+        Zone zone = loadZone(z, region, roomId);
+        region.setEntryPoint(zone);
+        return world;
+    }
+
+    /**
+     * Loads the specified region of a world already loaded, without its zones.
+     * The region is added to the regions of the world.
+     * 
+     * @param world
+     *            The parent world.
+     * @param regionId
+     *            Unique identifier of the region in the world.
+     * @return New instance of {@link Region} loaded from the image.
+     */
+    public Region loadRegion (final World world, final String regionId) {
+        int w = findWorld(world.getId());
+        return loadRegion(findRegion(w, regionId), world);
+    }
+
+    /**
+     * Loads the specified zone of a region already loaded, with its default entry
+     * room. The zone is added to the zones of the region.
+     * 
+     * @param region
+     *            The parent region.
+     * @param zoneId
+     *            Unique identifier of the zone in the region.
+     * @return New instance of {@link Zone} loaded from the image.
+     */
+    public Zone loadZone (final Region region, final String zoneId) {
+        int w = findWorld(region.getWorld().getId());
+        int z = findZone(findRegion(w, region.getId()), zoneId);
+        return loadZone(z, region, getString(zoneField(z, 3)));
+    }
+
+    /**
+     * Loads the specified item instance.
+     * 
+     * @param itemId
+     *            Unique identifier of the item.
+     * @return The shared instance of {@link Item} loaded from the image.
+     */
+    public Item loadItem (final String itemId) {
+        Integer index = this.itemsIndex.get(itemId);
+        if (index == null) {
+            throw new IllegalArgumentException("Item not found in story image : " + itemId);
+        }
+        return loadItem(index);
+    }
+
+    /**
+     * Checks the existence of the specified item.
+     * 
+     * @param itemId
+     *            Unique item identifier.
+     * @return <code>true</code> if the item exists, <code>false</code> otherwise.
+     */
+    public boolean itemExists (final String itemId) {
+        return this.itemsIndex.containsKey(itemId);
+    }
+
+    /**
+     * Builds the region from the image, without its zones.
+     * 
+     * @param r
+     *            Index of the region in the regions table.
+     * @param world
+     *            Specifies the parent world.
+     * @return New instance of {@link Region}.
+     */
+    private Region loadRegion (final int r, final World world) {
+        Region region = new Region(getString(regionField(r, 0)), getString(regionField(r, 1)),
+                getString(regionField(r, 2)), world);
+        this.logger.info("Loading region {id={}, name={}}", region.getId(), region.getName());
+        world.getRegions().put(region.getId(), region);
+        return region;
+    }
+
+    /**
+     * Builds the zone and all its rooms from the image.
+     * 
+     * @param z
+     *            Index of the zone in the zones table.
+     * @param region
+     *            Specifies the parent region.
+     * @param entryId
+     *            Identifier of the entry room.
+     * @return New instance of {@link Zone}.
+     */
+    private Zone loadZone (final int z, final Region region, final String entryId) {
+        Zone zone = new Zone(getString(zoneField(z, 0)), getString(zoneField(z, 1)), getString(zoneField(z, 2)),
+                region);
+        this.logger.info("Loading zone {id={}, name={}}", zone.getId(), zone.getName());
+        region.getZones().put(zone.getId(), zone);
+        int firstRoom = zoneField(z, 5);
+        int nbZoneRooms = zoneField(z, 6);
+
+        // First pass : creates the rooms
+        Room[] rooms = new Room[nbZoneRooms];
+        for (int i = 0; i < nbZoneRooms; i++) {
+            int room = firstRoom + i;
+            rooms[i] = new Room(getString(roomField(room, 0)), getString(roomField(room, 1)),
+                    getString(roomField(room, 2)), getText(roomField(room, 3)), zone);
+            zone.putRoom(rooms[i]);
+        }
+
+        // Second pass : links the neighbors and loads the senses and the items
+        Direction[] directions = Direction.values();
+        for (int i = 0; i < nbZoneRooms; i++) {
+            int room = firstRoom + i;
+            EnumMap<Direction, Room> neighbors = new EnumMap<>(Direction.class);
+            EnumMap<Direction, String> links = new EnumMap<>(Direction.class);
+            EnumMap<Direction, String> neighborsDesc = new EnumMap<>(Direction.class);
+            for (int d = 0; d < NB_DIRECTIONS; d++) {
+                int neighbor = roomField(room, 5 + d);
+                if (neighbor >= 0) {
+                    neighbors.put(directions[d], rooms[neighbor - firstRoom]);
+                } else if (neighbor <= LINK_BASE) {
+                    links.put(directions[d], getString(LINK_BASE - neighbor));
+                } else {
+                    continue;
+                }
+                neighborsDesc.put(directions[d], getString(roomField(room, 5 + NB_DIRECTIONS + d)));
+            }
+            rooms[i].putAllNeighbors(neighbors);
+            rooms[i].putAllLinks(links);
+            rooms[i].putAllNeighborsDescription(neighborsDesc);
+            rooms[i].putAllSensesDescription(readSenses(roomFieldPos(room, 5 + 2 * NB_DIRECTIONS)));
+
+            int firstItem = roomField(room, 5 + 2 * NB_DIRECTIONS + NB_SENSES);
+            int nbRoomItems = roomField(room, 6 + 2 * NB_DIRECTIONS + NB_SENSES);
+            if (nbRoomItems > 0) {
+                rooms[i].importInventory(loadRoomItems(firstItem, nbRoomItems));
+            }
+        }
+
+        Room entry = zone.getRoom(entryId);
+        if (entry == null) {
+            throw new IllegalArgumentException("Room not found in story image : " + entryId);
+        }
+        zone.setEntryPoint(entry);
+        return zone;
+    }
+
+    /**
+     * Loads the items placed in a room.
+     * 
+     * @param first
+     *            Index of the first entry in the room items table.
+     * @param count
+     *            Number of entries.
+     * @return Local {@link Inventory} containing the items.
+     */
+    private Inventory loadRoomItems (final int first, final int count) {
+        Inventory localInventory = new Inventory();
+        for (int i = first; i < first + count; i++) {
+            int pos = this.roomItemsPos + i * ROOM_ITEM_INTS * Integer.BYTES;
+            Item item = loadItem(this.buffer.getInt(pos));
+            if (item.isCarriable()) {
+                try {
+                    localInventory.addItem(item, this.buffer.getInt(pos + Integer.BYTES));
+                } catch (NotCarriableException e) {
+                    this.logger.error("An error occurred adding an item to the local inventory", e);
+                }
+            }
+        }
+        return localInventory;
+    }
+
+    /**
+     * Returns the item stored at the specified index, building it the first time
+     * it is requested.
+     * 
+     * @param i
+     *            Index of the item in the items table.
+     * @return The shared instance of {@link Item}.
+     */
+    private Item loadItem (final int i) {
+        Item item = this.items[i];
+        if (item == null) {
+            // Items are immutable, concurrent builds only waste an instance
+            item = buildItem(i);
+            this.items[i] = item;
+        }
+        return item;
+    }
+
+    private Item buildItem (final int i) {
+        int flags = itemField(i, 5);
+        return new Item(getString(itemField(i, 0)), getString(itemField(i, 1)), ItemType.values()[itemField(i, 4)],
+                getString(itemField(i, 2)), getText(itemField(i, 3)), (flags & FLAG_CARRIABLE) != 0,
+                (flags & FLAG_STACKABLE) != 0, readSenses(this.itemsPos + (i * ITEM_INTS + 6) * Integer.BYTES));
+    }
+
+    /**
+     * Reads a senses table.
+     * 
+     * @param pos
+     *            Position of the table in the image.
+     * @return The senses descriptions that are provided, resolved when they are
+     *         requested.
+     */
+    private EnumMap<Sense, CharSequence> readSenses (final int pos) {
+        EnumMap<Sense, CharSequence> senses = new EnumMap<>(Sense.class);
+        Sense[] values = Sense.values();
+        for (int s = 0; s < NB_SENSES; s++) {
+            int str = this.buffer.getInt(pos + s * Integer.BYTES);
+            if (str >= 0) {
+                senses.put(values[s], getText(str));
+            }
+        }
+        return senses;
+    }
+
+    private int findWorld (final String worldId) {
+        for (int w = 0; w < this.nbWorlds; w++) {
+            if (getString(worldField(w, 0)).equals(worldId)) {
+                return w;
+            }
+        }
+        throw new IllegalArgumentException("World not found in story image : " + worldId);
+    }
+
+    private int findRegion (final int world, final String regionId) {
+        for (int r = 0; r < this.nbRegions; r++) {
+            if (regionField(r, 4) == world && getString(regionField(r, 0)).equals(regionId)) {
+                return r;
+            }
+        }
+        throw new IllegalArgumentException("Region not found in story image : " + regionId);
+    }
+
+    private int findZone (final int region, final String zoneId) {
+        for (int z = 0; z < this.nbZones; z++) {
+            if (zoneField(z, 4) == region && getString(zoneField(z, 0)).equals(zoneId)) {
+                return z;
+            }
+        }
+        throw new IllegalArgumentException("Zone not found in story image : " + zoneId);
+    }
+
+    /**
+     * Returns a reference to the specified string of the string table, decoded
+     * only when it is requested. Used for the long descriptions, that are rarely
+     * displayed.
+     * 
+     * @param index
+     *            Index of the string in the table.
+     * @return The reference to the string or <code>null</code> if the index is
+     *         negative.
+     */
+    CharSequence getText (final int index) {
+        if (index < 0) {
+            return null;
+        }
+        if (index >= this.nbStrings) {
+            throw new IllegalStateException("String index out of bounds : " + index);
+        }
+        int start = this.buffer.getInt(this.stringOffsetsPos + index * Integer.BYTES);
+        int end = this.buffer.getInt(this.stringOffsetsPos + (index + 1) * Integer.BYTES);
+        return new MappedText(this.buffer, this.stringDataPos + start, end - start);
+    }
+
+    /**
+     * Decodes the specified string from the string table.
+     * 
+     * @param index
+     *            Index of the string in the table.
+     * @return The decoded string or <code>null</code> if the index is negative.
+     */
+    String getString (final int index) {
+        if (index < 0) {
+            return null;
+        }
+        if (index >= this.nbStrings) {
+            throw new IllegalStateException("String index out of bounds : " + index);
+        }
+        int start = this.buffer.getInt(this.stringOffsetsPos + index * Integer.BYTES);
+        int end = this.buffer.getInt(this.stringOffsetsPos + (index + 1) * Integer.BYTES);
+        ByteBuffer slice = this.buffer.duplicate();
+        slice.position(this.stringDataPos + start);
+        slice.limit(this.stringDataPos + end);
+        return this.strings.intern(StandardCharsets.UTF_8.decode(slice).toString());
+    }
+
+    private int header (final int field) {
+        return this.buffer.getInt(field * Integer.BYTES);
+    }
+
+    private int worldField (final int w, final int field) {
+        return this.buffer.getInt(this.worldsPos + (w * WORLD_INTS + field) * Integer.BYTES);
+    }
+
+    private int regionField (final int r, final int field) {
+        return this.buffer.getInt(this.regionsPos + (r * REGION_INTS + field) * Integer.BYTES);
+    }
+
+    private int zoneField (final int z, final int field) {
+        return this.buffer.getInt(this.zonesPos + (z * ZONE_INTS + field) * Integer.BYTES);
+    }
+
+    private int roomFieldPos (final int room, final int field) {
+        return this.roomsPos + (room * ROOM_INTS + field) * Integer.BYTES;
+    }
+
+    private int roomField (final int room, final int field) {
+        return this.buffer.getInt(roomFieldPos(room, field));
+    }
+
+    private int itemField (final int i, final int field) {
+        return this.buffer.getInt(this.itemsPos + (i * ITEM_INTS + field) * Integer.BYTES);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+
+import org.jls.sod.core.model.Story;
+
+/**
+ * Metadata of an installed story, as listed by the {@link StoryCatalog}.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StoryInfo {
+
+    private final File directory;
+    private final Story story;
+    private final int roomCount;
+    private final int itemCount;
+
+    /**
+     * Modification times of the files the metadata are read from.
+     */
+    private final long[] fingerprint;
+
+    /**
+     * Instantiates the metadata of a story.
+     * 
+     * @param directory
+     *            The story directory.
+     * @param story
+     *            The story description.
+     * @param roomCount
+     *            Number of rooms of the story.
+     * @param itemCount
+     *            Number of items of the story.
+     * @param fingerprint
+     *            Modification times of the files the metadata are read from.
+     */
+    StoryInfo(final File directory, final Story story, final int roomCount, final int itemCount,
+            final long[] fingerprint) {
+        this.directory = directory;
+        this.story = story;
+        this.roomCount = roomCount;
+        this.itemCount = itemCount;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public String toString () {
+        return "StoryInfo [id=" + getId() + ", name=" + getName() + ", rooms=" + roomCount + ", items=" + itemCount
+                + "]";
+    }
+
+    /**
+     * Returns the identifier of the story in the catalog, that is the name of its
+     * directory.
+     * 
+     * @return The story identifier.
+     */
+    public String getId () {
+        return this.directory.getName();
+    }
+
+    public File getDirectory () {
+        return this.directory;
+    }
+
+    public Story getStory () {
+        return this.story;
+    }
+
+    public String getName () {
+        return this.story.getName();
+    }
+
+    public String getDescription () {
+        return this.story.getDescription();
+    }
+
+    public String getDefaultWorld () {
+        return this.story.getDefaultWorld();
+    }
+
+    public int getRoomCount () {
+        return this.roomCount;
+    }
+
+    public int getItemCount () {
+        return this.itemCount;
+    }
+
+    long[] getFingerprint () {
+        return this.fingerprint;
+    }
+}
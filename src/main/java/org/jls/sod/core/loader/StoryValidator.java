@@ -0,0 +1,390 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.world.PathIndex;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Validates all the game data files of a story before it is loaded, so that a
+ * bad story fails fast instead of being half-loaded.
+ * <p>
+ * Each file is first validated against its compiled {@link GameDataSchema},
+ * the files being validated in parallel. Then the references between the files
+ * are checked : entry points, neighbors of the rooms and items placed in the
+ * rooms. Last, a compiled {@link StoryImage} of the story must match all the
+ * XML files, which the loader only checks cheaply. All the errors are
+ * reported, not only the first one.
+ * </p>
+ * <p>
+ * Usage : <code>StoryValidator &lt;storyDir&gt; [storyDir...]</code>
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StoryValidator {
+
+    private final Logger logger;
+    private final GameDataReader reader;
+
+    /**
+     * Instantiates a validator using the default {@link GameDataReader}.
+     */
+    public StoryValidator() {
+        this(Loader.getDefaultReader());
+    }
+
+    /**
+     * Instantiates a validator.
+     * 
+     * @param reader
+     *            The reader used to check the references between the files.
+     */
+    public StoryValidator(final GameDataReader reader) {
+        this.logger = LogManager.getLogger();
+        this.reader = reader;
+    }
+
+    public static void main (final String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StoryValidator <storyDir> [storyDir...]");
+            System.exit(1);
+        }
+        StoryValidator validator = new StoryValidator();
+        int nbErrors = 0;
+        for (String arg : args) {
+            List<ValidationError> errors = validator.validate(new File(arg));
+            for (ValidationError error : errors) {
+                System.err.println(error);
+            }
+            System.out.println(arg + " : " + (errors.isEmpty() ? "valid" : errors.size() + " error(s)"));
+            nbErrors += errors.size();
+        }
+        System.exit(nbErrors == 0 ? 0 : 2);
+    }
+
+    /**
+     * Validates the specified story and throws an exception if it contains
+     * errors.
+     * 
+     * @param storyDir
+     *            The story directory containing the file <i>story.xml</i>.
+     * @throws StoryValidationException
+     *             If the story contains errors.
+     * @throws IOException
+     *             If an error occurred reading the files.
+     */
+    public void check (final File storyDir) throws IOException {
+        List<ValidationError> errors = validate(storyDir);
+        if (!errors.isEmpty()) {
+            throw new StoryValidationException(
+                    "Story " + storyDir.getName() + " contains " + errors.size() + " error(s)", errors);
+        }
+    }
+
+    /**
+     * Validates all the game data files of the specified story.
+     * 
+     * @param storyDir
+     *            The story directory containing the file <i>story.xml</i>.
+     * @return All the errors found in the story, empty if the story is valid.
+     * @throws IOException
+     *             If an error occurred reading the files.
+     */
+    public List<ValidationError> validate (final File storyDir) throws IOException {
+        if (!storyDir.isDirectory()) {
+            throw new IllegalArgumentException("Story directory not found : " + storyDir.getAbsolutePath());
+        }
+        long start = System.nanoTime();
+
+        // Lists the files to validate
+        List<Callable<FileReport>> tasks = new ArrayList<>();
+        tasks.add(task(new File(storyDir, "story.xml"), GameDataSchema.STORY));
+        for (File itemFile : listFiles(new File(storyDir, "items"), false)) {
+            tasks.add(task(itemFile, GameDataSchema.ITEM));
+        }
+        for (File monsterFile : listFiles(new File(storyDir, "monsters"), false)) {
+            tasks.add(task(monsterFile, GameDataSchema.MONSTER));
+        }
+        for (File worldDir : listFiles(new File(storyDir, "worlds"), true)) {
+            tasks.add(task(new File(worldDir, "world.xml"), GameDataSchema.WORLD));
+            for (File regionDir : listFiles(worldDir, true)) {
+                tasks.add(task(new File(regionDir, "region.xml"), GameDataSchema.REGION));
+                for (File zoneDir : listFiles(regionDir, true)) {
+                    tasks.add(task(new File(zoneDir, "zone.xml"), GameDataSchema.ZONE));
+                    for (File roomFile : listFiles(new File(zoneDir, "rooms"), false)) {
+                        tasks.add(task(roomFile, GameDataSchema.ROOM));
+                    }
+                }
+            }
+        }
+
+        // Validates the files in parallel
+        List<FileReport> reports = new ArrayList<>(tasks.size());
+        try {
+            for (Future<FileReport> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                reports.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating " + storyDir);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Cannot validate " + storyDir, cause);
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        for (FileReport report : reports) {
+            errors.addAll(report.errors);
+        }
+        checkReferences(storyDir, reports, errors);
+        checkImage(storyDir, errors);
+        this.logger.info("Story {} validated in {} ms : {} files, {} error(s)", storyDir.getName(),
+                (System.nanoTime() - start) / 1_000_000, reports.size(), errors.size());
+        return errors;
+    }
+
+    /**
+     * Checks that the story image of the story, if any, has been compiled from
+     * the current XML files.
+     * 
+     * @param storyDir
+     *            The story directory.
+     * @param errors
+     *            The list receiving the errors.
+     * @throws IOException
+     *             If an error occurred listing the files of the story.
+     */
+    private void checkImage (final File storyDir, final List<ValidationError> errors) throws IOException {
+        File imageFile = new File(storyDir, StoryImage.FILENAME);
+        if (!imageFile.isFile()) {
+            return;
+        }
+        long fingerprint = StoryImage.fullFingerprint(storyDir);
+        try {
+            StoryImage image = StoryImage.open(imageFile, new StringPool());
+            if (image.getFullFingerprint() != fingerprint) {
+                errors.add(new ValidationError(imageFile, "Story image is outdated, compile the story again"));
+            }
+        } catch (IOException e) {
+            errors.add(new ValidationError(imageFile, "Cannot read story image : " + e.getMessage()));
+        }
+    }
+
+    private Callable<FileReport> task (final File file, final GameDataSchema schema) {
+        return () -> validateFile(file, schema);
+    }
+
+    /**
+     * Validates the specified file against its schema, then reads it if it is
+     * valid so that the references can be checked.
+     */
+    private FileReport validateFile (final File file, final GameDataSchema schema) throws IOException {
+        FileReport report = new FileReport(file, schema);
+        if (!file.isFile()) {
+            report.errors.add(new ValidationError(file, "File not found"));
+            return report;
+        }
+
+        // The validators are not thread-safe, one is created for each file
+        Validator validator = schema.getSchema().newValidator();
+        try {
+            validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            validator.setErrorHandler(new ErrorHandler() {
+                @Override
+                public void warning (final SAXParseException e) {
+                    // Warnings are not reported
+                }
+
+                @Override
+                public void error (final SAXParseException e) {
+                    report.errors.add(new ValidationError(file, e.getLineNumber(), e.getColumnNumber(),
+                            e.getMessage()));
+                }
+
+                @Override
+                public void fatalError (final SAXParseException e) {
+                    error(e);
+                }
+            });
+            validator.validate(new StreamSource(file));
+        } catch (SAXParseException e) {
+            // Already reported by the error handler
+        } catch (SAXException e) {
+            report.errors.add(new ValidationError(file, e.getMessage()));
+        }
+
+        if (report.errors.isEmpty()) {
+            if (schema == GameDataSchema.ROOM) {
+                report.room = this.reader.readRoom(file);
+            } else if (schema != GameDataSchema.ITEM && schema != GameDataSchema.MONSTER) {
+                report.area = this.reader.readArea(file);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Checks the references between the valid files of the story.
+     */
+    private void checkReferences (final File storyDir, final List<FileReport> reports,
+            final List<ValidationError> errors) {
+        Set<String> items = new HashSet<>();
+        HashMap<File, Set<String>> zonesRooms = new HashMap<>();
+        for (FileReport report : reports) {
+            if (report.schema == GameDataSchema.ITEM) {
+                String name = report.file.getName();
+                items.add(name.substring(0, name.length() - ".xml".length()));
+            } else if (report.schema == GameDataSchema.ROOM) {
+                File zoneDir = report.file.getParentFile().getParentFile();
+                Set<String> rooms = zonesRooms.computeIfAbsent(zoneDir, k -> new HashSet<>());
+                if (report.room == null) {
+                    // Invalid room, assumes its identifier is its file name to avoid
+                    // reporting its neighbors as well
+                    String name = report.file.getName();
+                    rooms.add(name.substring(0, name.length() - ".xml".length()));
+                } else if (!rooms.add(report.room.getId())) {
+                    errors.add(new ValidationError(report.file, "Duplicate room '" + report.room.getId() + "'"));
+                }
+            }
+        }
+
+        for (FileReport report : reports) {
+            if (report.area != null) {
+                // The entry point is a directory next to the file, except for the zones
+                // and the story
+                String entry = report.area.getEntryPoint();
+                File dir = report.file.getParentFile();
+                boolean found;
+                switch (report.schema) {
+                    case STORY:
+                        found = new File(new File(storyDir, "worlds"), entry).isDirectory();
+                        break;
+                    case ZONE:
+                        found = zonesRooms.getOrDefault(dir, new HashSet<>()).contains(entry);
+                        break;
+                    default:
+                        found = new File(dir, entry).isDirectory();
+                }
+                if (!found) {
+                    errors.add(new ValidationError(report.file, "Entry point '" + entry + "' not found"));
+                }
+            } else if (report.room != null) {
+                File zoneDir = report.file.getParentFile().getParentFile();
+                File regionDir = zoneDir.getParentFile();
+                File worldDir = regionDir.getParentFile();
+                for (String neighbor : report.room.getNeighbors().values()) {
+                    // The exits leaving the zone are checked against the rooms of their
+                    // target zone
+                    String[] target = PathIndex.qualify(worldDir.getName(), regionDir.getName(), zoneDir.getName(),
+                            neighbor);
+                    if (target == null) {
+                        errors.add(new ValidationError(report.file, "Malformed neighbor '" + neighbor + "'"));
+                        continue;
+                    }
+                    File targetDir = new File(new File(new File(worldDir.getParentFile(), target[0]), target[1]),
+                            target[2]);
+                    if (!zonesRooms.getOrDefault(targetDir, new HashSet<>()).contains(target[3])) {
+                        errors.add(new ValidationError(report.file, "Neighbor room '" + neighbor + "' not found"));
+                    }
+                }
+                for (Entry<String, Integer> item : report.room.getItems()) {
+                    if (!items.contains(item.getKey())) {
+                        errors.add(new ValidationError(report.file, "Item '" + item.getKey() + "' not found"));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the content of the specified directory sorted by name so that the
+     * errors are always reported in the same order.
+     * 
+     * @param dir
+     *            The directory to list.
+     * @param folders
+     *            <code>true</code> to list the sub-directories, <code>false</code>
+     *            to list the XML files.
+     * @return The sorted files, empty if the directory does not exist.
+     */
+    private static File[] listFiles (final File dir, final boolean folders) {
+        File[] files = dir.listFiles(f -> folders ? f.isDirectory() : f.isFile() && f.getName().endsWith(".xml"));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files);
+        return files;
+    }
+
+    /**
+     * Result of the validation of a file.
+     */
+    private static class FileReport {
+
+        private final File file;
+        private final GameDataSchema schema;
+        private final List<ValidationError> errors;
+        private AreaData area;
+        private RoomData room;
+
+        private FileReport(final File file, final GameDataSchema schema) {
+            this.file = file;
+            this.schema = schema;
+            this.errors = new ArrayList<>();
+            this.area = null;
+            this.room = null;
+        }
+    }
+}
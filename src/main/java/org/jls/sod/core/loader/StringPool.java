@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of the texts loaded from the game data, so that identical texts (the
+ * generic sense descriptions repeated in every room, the identifiers of the
+ * neighbors...) share a single instance across the whole world.
+ * <p>
+ * The texts are weakly referenced : a text only used by zones unloaded by the
+ * {@link WorldPager} is released by the garbage collector. The pool counts the
+ * duplicates it has replaced and estimates the memory they would have used.
+ * </p>
+ * <p>
+ * The rooms of a zone are parsed in parallel, each thread interning all the
+ * texts of its rooms. The pool is thus split in {@link #NB_STRIPES} maps
+ * chosen by the hash of the text, each one guarded by its own lock, and the
+ * counters are {@link LongAdder}s : the threads only contend when they intern
+ * texts of the same stripe at the same time.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class StringPool {
+
+    /**
+     * Number of independently locked maps of the pool.
+     */
+    static final int NB_STRIPES = 64;
+
+    private static final int STRIPE_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(NB_STRIPES);
+
+    private final WeakHashMap<String, WeakReference<String>>[] stripes;
+
+    private final LongAdder lookups;
+    private final LongAdder duplicates;
+    private final LongAdder savedBytes;
+
+    /**
+     * Instantiates a new empty pool.
+     */
+    @SuppressWarnings("unchecked")
+    public StringPool() {
+        this.stripes = new WeakHashMap[NB_STRIPES];
+        for (int i = 0; i < NB_STRIPES; i++) {
+            this.stripes[i] = new WeakHashMap<>();
+        }
+        this.lookups = new LongAdder();
+        this.duplicates = new LongAdder();
+        this.savedBytes = new LongAdder();
+    }
+
+    /**
+     * Returns the pooled instance of the specified text. The text is added to the
+     * pool if it does not contain an identical text yet.
+     * 
+     * @param text
+     *            The text to pool, may be <code>null</code>.
+     * @return The pooled instance of the text, or <code>null</code> if the text is
+     *         <code>null</code>.
+     */
+    public String intern (final String text) {
+        if (text == null) {
+            return null;
+        }
+        this.lookups.increment();
+        WeakHashMap<String, WeakReference<String>> stripe = stripe(text);
+        String pooled;
+        synchronized (stripe) {
+            WeakReference<String> ref = stripe.get(text);
+            pooled = ref != null ? ref.get() : null;
+            if (pooled == null) {
+                stripe.put(text, new WeakReference<>(text));
+                return text;
+            }
+        }
+        if (pooled != text) {
+            this.duplicates.increment();
+            this.savedBytes.add(sizeOf(text));
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the number of texts currently in the pool.
+     * 
+     * @return Number of distinct texts.
+     */
+    public int size () {
+        int size = 0;
+        for (WeakHashMap<String, WeakReference<String>> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of texts submitted to the pool.
+     * 
+     * @return Number of lookups.
+     */
+    public long getLookups () {
+        return this.lookups.sum();
+    }
+
+    /**
+     * Returns the number of duplicated texts replaced by their pooled instance.
+     * 
+     * @return Number of duplicates.
+     */
+    public long getDuplicates () {
+        return this.duplicates.sum();
+    }
+
+    /**
+     * Returns an estimation of the memory saved by replacing the duplicates, in
+     * bytes.
+     * 
+     * @return Estimated number of bytes saved.
+     */
+    public long getSavedBytes () {
+        return this.savedBytes.sum();
+    }
+
+    @Override
+    public String toString () {
+        return size() + " texts, " + getDuplicates() + " duplicates out of " + getLookups() + " lookups, "
+                + getSavedBytes() + " bytes saved";
+    }
+
+    /**
+     * Returns the map holding the specified text, chosen by the high bits of its
+     * mixed hash so that the maps still spread their texts over all their
+     * buckets.
+     */
+    private WeakHashMap<String, WeakReference<String>> stripe (final String text) {
+        return this.stripes[(text.hashCode() * 0x9E3779B9) >>> STRIPE_SHIFT];
+    }
+
+    /**
+     * Estimates the memory used by a string : the object header and fields, plus
+     * its array of one byte per character, or two if a character is not Latin-1.
+     */
+    private static long sizeOf (final String text) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xff) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + align(16 + (long) text.length() * bytesPerChar);
+    }
+
+    private static long align (final long size) {
+        return (size + 7) & ~7L;
+    }
+}
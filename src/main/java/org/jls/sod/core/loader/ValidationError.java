@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.File;
+
+/**
+ * Error found in a game data file by the {@link StoryValidator}.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class ValidationError {
+
+    private final File file;
+    private final int line;
+    private final int column;
+    private final String message;
+
+    /**
+     * Instantiates a new error.
+     * 
+     * @param file
+     *            The file containing the error.
+     * @param line
+     *            Line of the error, or <code>-1</code> if unknown.
+     * @param column
+     *            Column of the error, or <code>-1</code> if unknown.
+     * @param message
+     *            Description of the error.
+     */
+    public ValidationError(final File file, final int line, final int column, final String message) {
+        this.file = file;
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    /**
+     * Instantiates a new error whose location in the file is unknown.
+     * 
+     * @param file
+     *            The file containing the error.
+     * @param message
+     *            Description of the error.
+     */
+    public ValidationError(final File file, final String message) {
+        this(file, -1, -1, message);
+    }
+
+    @Override
+    public String toString () {
+        if (this.line < 0) {
+            return this.file.getPath() + ": " + this.message;
+        }
+        return this.file.getPath() + ":" + this.line + ":" + this.column + ": " + this.message;
+    }
+
+    public File getFile () {
+        return file;
+    }
+
+    public int getLine () {
+        return line;
+    }
+
+    public int getColumn () {
+        return column;
+    }
+
+    public String getMessage () {
+        return message;
+    }
+}
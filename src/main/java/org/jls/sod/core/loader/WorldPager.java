@@ -0,0 +1,326 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.world.PathIndex;
+import org.jls.sod.core.model.world.Region;
+import org.jls.sod.core.model.world.Room;
+import org.jls.sod.core.model.world.World;
+import org.jls.sod.core.model.world.Zone;
+import org.jls.sod.util.PersistenceService;
+
+/**
+ * Keeps in memory the zones of a world that are actually used.
+ * <p>
+ * The regions and the zones are loaded on demand, when the player crosses into
+ * them. The number of resident rooms is bounded by a memory budget : once the
+ * budget is exceeded, the zones that have not been used recently are unloaded,
+ * their state being saved by the {@link ZoneStateStore} if it has been
+ * modified. The state is restored when the zone is loaded again. The zone where
+ * the player stands is never unloaded.
+ * </p>
+ * <p>
+ * The zones are unloaded while the player moves, on the Swing thread : the
+ * state of a zone is serialized there but written to the disk by the
+ * {@link PersistenceService}, and a zone loaded again waits for the pending
+ * write of its own state only.
+ * </p>
+ * <p>
+ * The pager resolves the exits leading to another zone of the world : the zone
+ * of their target is loaded when they are traversed, never when the zone of the
+ * exit is loaded.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class WorldPager {
+
+    private final Logger logger;
+    private final Loader loader;
+    private final World world;
+    private final ZoneStateStore store;
+    private final PersistenceService persistence;
+    private final int maxRooms;
+
+    /**
+     * First error that occurred writing a state since the last
+     * {@link #sync()}.
+     */
+    private final AtomicReference<IOException> writeError;
+
+    /**
+     * Resident zones in least recently used order.
+     */
+    private final LinkedHashMap<String, Zone> zones;
+
+    private int residentRooms;
+    private Zone currentZone;
+
+    /**
+     * Instantiates a pager for the specified world. The zones already loaded in
+     * the world become resident and their saved state is restored.
+     * 
+     * @param loader
+     *            The loader used to load the regions and the zones.
+     * @param world
+     *            The world to page.
+     * @param store
+     *            The store used to save and restore the state of the zones.
+     * @param persistence
+     *            The service writing the state of the zones.
+     * @param maxRooms
+     *            The maximum number of rooms to keep in memory.
+     * @throws GameDataException
+     *             If a state file is malformed.
+     * @throws IOException
+     *             If an error occurred reading a state file.
+     */
+    public WorldPager(final Loader loader, final World world, final ZoneStateStore store,
+            final PersistenceService persistence, final int maxRooms) throws IOException {
+        if (maxRooms <= 0) {
+            throw new IllegalArgumentException("Rooms budget must be a positive integer : " + maxRooms);
+        }
+        this.logger = LogManager.getLogger();
+        this.loader = loader;
+        this.world = world;
+        this.store = store;
+        this.persistence = persistence;
+        this.maxRooms = maxRooms;
+        this.writeError = new AtomicReference<>();
+        this.zones = new LinkedHashMap<>(16, 0.75f, true);
+        this.residentRooms = 0;
+        this.currentZone = null;
+        for (Region region : world.getRegions().values()) {
+            for (Zone zone : new ArrayList<>(region.getZones().values())) {
+                restore(zone);
+                register(zone);
+            }
+        }
+        world.getRoomTable().setLinkResolver(this::resolveLink);
+    }
+
+    /**
+     * Returns the specified zone, loading it and its region if they are not
+     * resident. Loading a zone may unload the least recently used ones.
+     * 
+     * @param regionId
+     *            Unique identifier of the region in the world.
+     * @param zoneId
+     *            Unique identifier of the zone in the region.
+     * @return The resident zone.
+     * @throws GameDataException
+     *             If one of the XML files is malformed.
+     * @throws IOException
+     *             If an error occurred reading the zone or its state.
+     */
+    public synchronized Zone getZone (final String regionId, final String zoneId) throws IOException {
+        Zone zone = this.zones.get(key(regionId, zoneId));
+        if (zone == null) {
+            Region region = this.world.getRegions().get(regionId);
+            if (region == null) {
+                region = this.loader.loadRegion(this.world, regionId);
+            }
+            zone = this.loader.loadZone(region, zoneId);
+            restore(zone);
+            register(zone);
+            evict(zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Specifies the zone where the player stands : it becomes the most recently
+     * used zone and cannot be unloaded.
+     * 
+     * @param zone
+     *            The zone of the player.
+     */
+    public synchronized void setCurrentZone (final Zone zone) {
+        if (this.zones.get(key(zone.getRegion().getId(), zone.getId())) == null) {
+            register(zone);
+        }
+        this.currentZone = zone;
+    }
+
+    /**
+     * Saves the state of all the resident zones that have been modified. The
+     * states are written in background, use {@link #sync()} to wait for them.
+     */
+    public synchronized void flush () {
+        for (Zone zone : this.zones.values()) {
+            if (zone.isDirty()) {
+                save(zone);
+            }
+        }
+    }
+
+    /**
+     * Waits until the states saved so far are written.
+     * 
+     * @throws IOException
+     *             The first error that occurred writing a state since the last
+     *             call.
+     */
+    public void sync () throws IOException {
+        this.persistence.flush();
+        IOException error = this.writeError.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the store used to save the state of the zones.
+     * 
+     * @return The state store.
+     */
+    public ZoneStateStore getStateStore () {
+        return this.store;
+    }
+
+    /**
+     * Returns the number of rooms currently in memory.
+     * 
+     * @return Number of resident rooms.
+     */
+    public synchronized int getResidentRooms () {
+        return this.residentRooms;
+    }
+
+    /**
+     * Returns the number of zones currently in memory.
+     * 
+     * @return Number of resident zones.
+     */
+    public synchronized int getResidentZones () {
+        return this.zones.size();
+    }
+
+    /**
+     * Returns the target of an exit leading to another zone, loading its zone if
+     * it is not resident.
+     * 
+     * @param path
+     *            The path <i>world.region.zone.room</i> of the target.
+     * @return The target or <code>null</code> if it belongs to another world or
+     *         if it cannot be loaded.
+     */
+    private Room resolveLink (final String path) {
+        String[] tokens = PathIndex.split(path);
+        if (tokens == null || !tokens[0].equals(this.world.getId())) {
+            this.logger.warn("Exit to {} leaves the world {}", path, this.world.getId());
+            return null;
+        }
+        try {
+            Room room = getZone(tokens[1], tokens[2]).getRoom(tokens[3]);
+            if (room == null) {
+                this.logger.error("Exit target {} not found", path);
+            }
+            return room;
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            this.logger.error("Cannot load the exit target {}", path, e);
+            return null;
+        }
+    }
+
+    private void register (final Zone zone) {
+        this.zones.put(key(zone.getRegion().getId(), zone.getId()), zone);
+        this.residentRooms += zone.getRooms().size();
+    }
+
+    /**
+     * Unloads the least recently used zones until the rooms budget is respected.
+     * 
+     * @param requested
+     *            The zone that has just been requested, which is not unloaded.
+     */
+    private void evict (final Zone requested) {
+        Iterator<Zone> it = this.zones.values().iterator();
+        while (this.residentRooms > this.maxRooms && it.hasNext()) {
+            Zone zone = it.next();
+            if (zone == requested || zone == this.currentZone) {
+                continue;
+            }
+            if (zone.isDirty()) {
+                save(zone);
+            }
+            it.remove();
+            this.residentRooms -= zone.getRooms().size();
+            // The indexes of the rooms are reused by the next loaded rooms, and
+            // their identifiers are no longer resolved
+            for (Room room : zone.getRooms().values()) {
+                this.world.getRoomTable().remove(room);
+                this.world.getPathIndex().remove(room);
+            }
+            Region region = zone.getRegion();
+            region.getZones().remove(zone.getId());
+            if (region.getEntryPoint() == zone) {
+                region.setEntryPoint(null);
+            }
+            this.logger.info("Zone {} unloaded ({} rooms resident)", zone.getId(), this.residentRooms);
+        }
+    }
+
+    /**
+     * Serializes the state of the specified zone and submits its write.
+     */
+    private void save (final Zone zone) {
+        byte[] state = this.store.serialize(zone);
+        this.persistence.submit(writeKey(zone), () -> {
+            try {
+                this.store.write(zone, state);
+            } catch (IOException e) {
+                this.writeError.compareAndSet(null, e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Restores the state of the specified zone once its pending write, if any,
+     * has been performed.
+     */
+    private void restore (final Zone zone) throws IOException {
+        this.persistence.flush(writeKey(zone));
+        this.store.restore(zone, this.loader);
+    }
+
+    private static String writeKey (final Zone zone) {
+        return "zone/" + key(zone.getRegion().getId(), zone.getId());
+    }
+
+    private static String key (final String regionId, final String zoneId) {
+        return regionId + '/' + zoneId;
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Map.Entry;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.inventory.Inventory;
+import org.jls.sod.core.model.inventory.ItemSlot;
+import org.jls.sod.core.model.inventory.NotCarriableException;
+import org.jls.sod.core.model.world.PathIndex;
+import org.jls.sod.core.model.world.Region;
+import org.jls.sod.core.model.world.Room;
+import org.jls.sod.core.model.world.Zone;
+
+/**
+ * Stores the mutable state of a game instance, separated from the static data
+ * of the story : the state of the zones (the visited rooms and the items lying
+ * in the rooms) so that a zone can be unloaded and loaded again later without
+ * losing the player's progress, and the inventory of the character.
+ * <p>
+ * The states are saved in a versioned binary format. Only the rooms modified
+ * since they have been loaded from the story are saved, so that saving and
+ * restoring a zone costs time proportional to what the player changed, not to
+ * the size of the zone. The state of a zone is saved in the file
+ * <i>{stateDir}/{world}/{region}/{zone}.bin</i> :
+ * </p>
+ * 
+ * <pre>
+ * int     magic
+ * int     version
+ * UTF     zone identifier
+ * int     number of rooms
+ * rooms   { UTF id, boolean visited, inventory }
+ * </pre>
+ * <p>
+ * An inventory is written as the number of slots followed by the identifier and
+ * the quantity of each item. The inventory of the character is saved the same
+ * way in the file <i>{stateDir}/character.bin</i>.
+ * </p>
+ * <p>
+ * The state files are only written when a zone is unloaded and when the game
+ * is saved. Between two saves, each change of a room or of the inventory is
+ * also appended to the {@link GameJournal} of the instance, encoded the same
+ * way, and the journaled states are replayed over the state files when a zone
+ * or the character is restored : a crash only loses the last change.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class ZoneStateStore {
+
+    /**
+     * Magic number identifying a zone state file.
+     */
+    static final int ZONE_MAGIC = 0x534f445a;
+    /**
+     * Magic number identifying a character state file.
+     */
+    static final int CHARACTER_MAGIC = 0x534f4443;
+    /**
+     * Version of the state files format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Name of the file containing the state of the character.
+     */
+    public static final String CHARACTER_FILENAME = "character.bin";
+
+    /**
+     * Prefix of the journal keys of the rooms, followed by the path of the room.
+     */
+    public static final String ROOM_KEY_PREFIX = "room/";
+    /**
+     * Journal key of the inventory of the character.
+     */
+    public static final String INVENTORY_KEY = "inventory";
+
+    private final Logger logger;
+    private final File stateDir;
+    private final GameJournal journal;
+
+    /**
+     * Instantiates a new store without journal.
+     * 
+     * @param stateDir
+     *            The directory containing the states, created when the first
+     *            state is saved.
+     */
+    public ZoneStateStore(final File stateDir) {
+        this(stateDir, null);
+    }
+
+    /**
+     * Instantiates a new store replaying the states of the specified journal.
+     * 
+     * @param stateDir
+     *            The directory containing the states, created when the first
+     *            state is saved.
+     * @param journal
+     *            The journal of the game instance, or <code>null</code> if the
+     *            changes are not journaled.
+     */
+    public ZoneStateStore(final File stateDir, final GameJournal journal) {
+        this.logger = LogManager.getLogger();
+        this.stateDir = stateDir;
+        this.journal = journal;
+    }
+
+    /**
+     * Saves the state of the modified rooms of the specified zone and clears its
+     * dirty flag. The file is replaced atomically so that a crash cannot leave a
+     * truncated state.
+     * 
+     * @param zone
+     *            The zone to save.
+     * @throws IOException
+     *             If an error occurred writing the state file.
+     */
+    public void save (final Zone zone) throws IOException {
+        write(zone, serialize(zone));
+    }
+
+    /**
+     * Serializes the state of the modified rooms of the specified zone and clears
+     * its dirty flag. The state is written later with {@link #write(Zone, byte[])},
+     * so that the thread modifying the rooms does not wait for the disk.
+     * 
+     * @param zone
+     *            The zone to save.
+     * @return The content of the state file of the zone.
+     */
+    public byte[] serialize (final Zone zone) {
+        ArrayList<Room> modified = new ArrayList<>();
+        for (Room room : zone.getRooms().values()) {
+            if (room.isModified()) {
+                modified.add(room);
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(ZONE_MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(zone.getId());
+            out.writeInt(modified.size());
+            for (Room room : modified) {
+                out.writeUTF(room.getId());
+                out.writeBoolean(room.isVisited());
+                writeInventory(out, room.getInventory());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        zone.setDirty(false);
+        this.logger.debug("State of the zone {} serialized : {} modified rooms", zone.getId(), modified.size());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the serialized state of the specified zone. The file is replaced
+     * atomically so that a crash cannot leave a truncated state. Only the
+     * identifiers of the zone are read, the state may be written from any thread.
+     * 
+     * @param zone
+     *            The saved zone.
+     * @param state
+     *            The state returned by {@link #serialize(Zone)}.
+     * @throws IOException
+     *             If an error occurred writing the state file.
+     */
+    public void write (final Zone zone, final byte[] state) throws IOException {
+        File file = getFile(zone);
+        file.getParentFile().mkdirs();
+        File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmpFile)) {
+            out.write(state);
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        this.logger.debug("State of the zone {} saved", zone.getId());
+    }
+
+    /**
+     * Restores the saved state of the specified zone, if any, and clears its dirty
+     * flag. The rooms that are not described in the state file keep the state
+     * they have been loaded with.
+     * 
+     * @param zone
+     *            The zone freshly loaded from the game data.
+     * @param loader
+     *            The loader used to get the items.
+     * @throws GameDataException
+     *             If the state file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the state file.
+     */
+    public void restore (final Zone zone, final Loader loader) throws IOException {
+        File file = getFile(zone);
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                readHeader(in, ZONE_MAGIC, file);
+                in.readUTF();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    Room room = zone.getRoom(in.readUTF());
+                    boolean isVisited = in.readBoolean();
+                    Inventory inventory = readInventory(in, loader);
+                    restoreRoom(room, isVisited, inventory);
+                }
+            } catch (EOFException e) {
+                throw new GameDataException("Truncated zone state file : " + file.getAbsolutePath(), e);
+            }
+            this.logger.debug("State of the zone {} restored", zone.getId());
+        }
+        if (this.journal != null) {
+            Region region = zone.getRegion();
+            String prefix = ROOM_KEY_PREFIX + region.getWorld().getId() + PathIndex.SEPARATOR + region.getId()
+                    + PathIndex.SEPARATOR + zone.getId() + PathIndex.SEPARATOR;
+            for (Entry<String, String> entry : this.journal.getAll(prefix).entrySet()) {
+                DataInputStream in = decode(entry.getValue());
+                Room room = zone.getRoom(entry.getKey().substring(prefix.length()));
+                boolean isVisited = in.readBoolean();
+                restoreRoom(room, isVisited, readInventory(in, loader));
+            }
+        }
+        zone.setDirty(false);
+    }
+
+    /**
+     * Saves the inventory of the character. The file is replaced atomically.
+     * 
+     * @param character
+     *            The character to save.
+     * @throws IOException
+     *             If an error occurred writing the state file.
+     */
+    public void saveCharacter (final Character character) throws IOException {
+        File file = new File(this.stateDir, CHARACTER_FILENAME);
+        this.stateDir.mkdirs();
+        File tmpFile = new File(this.stateDir, CHARACTER_FILENAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+            out.writeInt(CHARACTER_MAGIC);
+            out.writeInt(VERSION);
+            writeInventory(out, character.getInventory());
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        this.logger.debug("State of the character saved");
+    }
+
+    /**
+     * Restores the saved inventory of the character, if any.
+     * 
+     * @param character
+     *            The character freshly loaded from the player template.
+     * @param loader
+     *            The loader used to get the items.
+     * @throws GameDataException
+     *             If the state file is malformed.
+     * @throws IOException
+     *             If an error occurred reading the state file.
+     */
+    public void restoreCharacter (final Character character, final Loader loader) throws IOException {
+        String journaled = this.journal != null ? this.journal.get(INVENTORY_KEY) : null;
+        File file = new File(this.stateDir, CHARACTER_FILENAME);
+        Inventory inventory;
+        if (journaled != null) {
+            inventory = readInventory(decode(journaled), loader);
+        } else if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                readHeader(in, CHARACTER_MAGIC, file);
+                inventory = readInventory(in, loader);
+            } catch (EOFException e) {
+                throw new GameDataException("Truncated character state file : " + file.getAbsolutePath(), e);
+            }
+        } else {
+            return;
+        }
+        character.getInventory().clearInventory();
+        character.getInventory().importInventory(inventory);
+        this.logger.debug("State of the character restored");
+    }
+
+    /**
+     * Returns the journal key of the specified room.
+     * 
+     * @param room
+     *            The room.
+     * @return The key of the room in the journal.
+     */
+    public static String getJournalKey (final Room room) {
+        return ROOM_KEY_PREFIX + PathIndex.pathOf(room);
+    }
+
+    /**
+     * Encodes the state of the specified room as a journal value.
+     * 
+     * @param room
+     *            The room.
+     * @return The visited flag and the inventory of the room.
+     */
+    public String encode (final Room room) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeBoolean(room.isVisited());
+            writeInventory(out, room.getInventory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Encodes the specified inventory as a journal value.
+     * 
+     * @param inventory
+     *            The inventory of the character.
+     * @return The encoded inventory.
+     */
+    public String encode (final Inventory inventory) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeInventory(out, inventory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Discards the journaled states once they have all been saved in the state
+     * files.
+     * 
+     * @throws IOException
+     *             If the journal cannot be written.
+     */
+    public void clearJournal () throws IOException {
+        if (this.journal != null) {
+            this.journal.removeAll(ROOM_KEY_PREFIX);
+            this.journal.remove(INVENTORY_KEY);
+        }
+    }
+
+    private static DataInputStream decode (final String value) throws GameDataException {
+        try {
+            return new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)));
+        } catch (IllegalArgumentException e) {
+            throw new GameDataException("Malformed journaled state : " + value, e);
+        }
+    }
+
+    private void readHeader (final DataInputStream in, final int magic, final File file) throws IOException {
+        if (in.readInt() != magic) {
+            throw new GameDataException("Not a state file : " + file.getAbsolutePath());
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new GameDataException("Unsupported state file version " + version + " : " + file.getAbsolutePath());
+        }
+    }
+
+    private void writeInventory (final DataOutputStream out, final Inventory inventory) throws IOException {
+        out.writeInt(inventory.getSlots().size());
+        for (Entry<String, ItemSlot> entry : inventory.getSlots().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().getQuantity());
+        }
+    }
+
+    private Inventory readInventory (final DataInputStream in, final Loader loader) throws IOException {
+        Inventory inventory = new Inventory();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String itemId = in.readUTF();
+            int quantity = in.readInt();
+            addItem(inventory, itemId, quantity, loader);
+        }
+        return inventory;
+    }
+
+    private void addItem (final Inventory inventory, final String itemId, final int quantity, final Loader loader)
+            throws IOException {
+        try {
+            inventory.addItem(loader.loadItem(itemId), quantity);
+        } catch (NotCarriableException e) {
+            this.logger.error("An error occurred adding an item to the local inventory", e);
+        }
+    }
+
+    /**
+     * Applies a saved state to a room, which stays modified so that it is saved
+     * again with its zone.
+     */
+    private void restoreRoom (final Room room, final boolean isVisited, final Inventory inventory) {
+        // The room may have been removed from the story since the state was saved
+        if (room != null) {
+            room.setVisited(isVisited);
+            room.getInventory().clearInventory();
+            room.importInventory(inventory);
+            room.markModified();
+        }
+    }
+
+    private File getFile (final Zone zone) {
+        File worldDir = new File(this.stateDir, zone.getRegion().getWorld().getId());
+        return new File(new File(worldDir, zone.getRegion().getId()), zone.getId() + ".bin");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+/**
+ * Enumerates the six abilities of a creature.
+ * <p>
+ * The ordinal of each ability is used as index in the primitive arrays storing
+ * the abilities of the creatures (see {@link Monster}).
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public enum Ability {
+
+    STRENGTH("Strength", "str"), DEXTERITY("Dexterity", "dex"), CONSTITUTION("Constitution", "con"),
+    INTELLIGENCE("Intelligence", "int"), WISDOM("Wisdom", "wis"), CHARISMA("Charisma", "cha");
+
+    /**
+     * Number of abilities, size of the arrays indexed by ability.
+     */
+    public static final int COUNT = values().length;
+
+    private final String[] matchingLabels;
+
+    /**
+     * Instantiates a new ability and specifies the matching labels.
+     * 
+     * @param lbls
+     *            The matching ability's labels, the first one being the name of
+     *            the XML element in the game data files.
+     */
+    private Ability(final String... lbls) {
+        this.matchingLabels = lbls;
+    }
+
+    /**
+     * Parses the specified ability.
+     * 
+     * @param value
+     *            Ability to parse.
+     * @return Corresponding {@link Ability} enum if an existing ability is found,
+     *         else throw an {@link IllegalArgumentException}.
+     */
+    public static Ability parseValue (final String value) {
+        for (Ability a : Ability.values()) {
+            if (a.name().equalsIgnoreCase(value)) {
+                return a;
+            }
+            for (String lbl : a.getMatchingLabels()) {
+                if (lbl.equals(value)) {
+                    return a;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No matching ability for the value : " + value);
+    }
+
+    /**
+     * Returns the matching labels for this ability.
+     * 
+     * @return The matching labels for this ability.
+     */
+    public String[] getMatchingLabels () {
+        return this.matchingLabels;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+/**
+ * Ability scores of a character, derived from the components of each ability.
+ * <p>
+ * The effective score of an ability is its override score if set, else the sum
+ * of its base score, racial bonus, ability improvement and misc bonus, raised to
+ * its set score if any. The effective modifier is
+ * <code>floor((score - 10) / 2)</code> plus the other modifier component.
+ * </p>
+ * <p>
+ * As in the monster files, the modifier component holds the modifier derived
+ * from the score as written in the game data files : it is kept for the
+ * writers of the files but never added to the effective modifier, otherwise a
+ * score of 14 written with its modifier of 2 would give a modifier of 4.
+ * </p>
+ * <p>
+ * The components are stored in a single <code>int</code> array and the
+ * effective values are cached : changing a component only flags its ability as
+ * dirty, and the ability is recomputed the next time one of its values is read.
+ * Reading a score or a modifier is thus a constant time operation without any
+ * allocation, whatever the number of components.
+ * </p>
+ * <p>
+ * This class is not thread-safe, it is only used by the game thread.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class AbilityScores {
+
+    /**
+     * Components of each ability : the components of an ability are stored from
+     * index <code>ordinal * ScoreComponent.COUNT</code>.
+     */
+    private final int[] components;
+    private final int[] scores;
+    private final int[] modifiers;
+
+    /**
+     * Bit set of the abilities whose effective values must be recomputed, the
+     * bit of an ability being its ordinal.
+     */
+    private int dirty;
+
+    /**
+     * Instantiates ability scores whose components are all zero.
+     */
+    public AbilityScores() {
+        this.components = new int[Ability.COUNT * ScoreComponent.COUNT];
+        this.scores = new int[Ability.COUNT];
+        this.modifiers = new int[Ability.COUNT];
+        this.dirty = (1 << Ability.COUNT) - 1;
+    }
+
+    /**
+     * Returns the value of a component of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @param component
+     *            The component of the ability score.
+     * @return The value of the component.
+     */
+    public int get (final Ability ability, final ScoreComponent component) {
+        return this.components[ability.ordinal() * ScoreComponent.COUNT + component.ordinal()];
+    }
+
+    /**
+     * Sets the value of a component of the specified ability. Only this ability
+     * will be recomputed.
+     * 
+     * @param ability
+     *            The ability.
+     * @param component
+     *            The component of the ability score.
+     * @param value
+     *            The new value of the component.
+     */
+    public void set (final Ability ability, final ScoreComponent component, final int value) {
+        int index = ability.ordinal() * ScoreComponent.COUNT + component.ordinal();
+        if (this.components[index] != value) {
+            this.components[index] = value;
+            this.dirty |= 1 << ability.ordinal();
+        }
+    }
+
+    /**
+     * Adds the specified value to a component of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @param component
+     *            The component of the ability score.
+     * @param delta
+     *            The value to add, may be negative.
+     */
+    public void add (final Ability ability, final ScoreComponent component, final int delta) {
+        set(ability, component, get(ability, component) + delta);
+    }
+
+    /**
+     * Returns the effective score of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @return The effective score of the ability.
+     */
+    public int getScore (final Ability ability) {
+        int i = ability.ordinal();
+        if ((this.dirty & (1 << i)) != 0) {
+            update(i);
+        }
+        return this.scores[i];
+    }
+
+    /**
+     * Returns the effective modifier of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @return The effective modifier of the ability.
+     */
+    public int getModifier (final Ability ability) {
+        int i = ability.ordinal();
+        if ((this.dirty & (1 << i)) != 0) {
+            update(i);
+        }
+        return this.modifiers[i];
+    }
+
+    /**
+     * Tells if the effective values of the specified ability must be recomputed.
+     * 
+     * @param ability
+     *            The ability.
+     * @return <code>true</code> if a component changed since the last read.
+     */
+    public boolean isDirty (final Ability ability) {
+        return (this.dirty & (1 << ability.ordinal())) != 0;
+    }
+
+    /**
+     * Recomputes the effective score and modifier of an ability.
+     * 
+     * @param i
+     *            Ordinal of the ability.
+     */
+    private void update (final int i) {
+        int offset = i * ScoreComponent.COUNT;
+        int score = this.components[offset + ScoreComponent.OVERRIDE_SCORE.ordinal()];
+        if (score == 0) {
+            score = this.components[offset + ScoreComponent.BASE_SCORE.ordinal()]
+                    + this.components[offset + ScoreComponent.RACIAL_BONUS.ordinal()]
+                    + this.components[offset + ScoreComponent.ABILITY_IMPROVEMENT.ordinal()]
+                    + this.components[offset + ScoreComponent.MISC_BONUS.ordinal()];
+            score = Math.max(score, this.components[offset + ScoreComponent.SET_SCORE.ordinal()]);
+        }
+        this.scores[i] = score;
+        this.modifiers[i] = Math.floorDiv(score - 10, 2)
+                + this.components[offset + ScoreComponent.OTHER_MODIFIER.ordinal()];
+        this.dirty &= ~(1 << i);
+    }
+
+    @Override
+    public String toString () {
+        StringBuilder sb = new StringBuilder("AbilityScores [");
+        for (Ability ability : Ability.values()) {
+            if (ability.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(ability.name().toLowerCase()).append('=').append(getScore(ability));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -35,15 +35,52 @@ import org.jls.sod.core.model.inventory.Inventory;
  */
 public class Character {
 
+    private final String id;
+    private final String name;
+    private final AbilityScores abilities;
     private final Inventory inventory;
 
     /**
      * Instantiates a default character.
      */
     public Character() {
+        this("player", "Player", new AbilityScores());
+    }
+
+    /**
+     * Instantiates a character.
+     * 
+     * @param id
+     *            Character's unique identifier.
+     * @param name
+     *            Character's displayable name.
+     * @param abilities
+     *            Character's ability scores.
+     */
+    public Character(final String id, final String name, final AbilityScores abilities) {
+        this.id = id;
+        this.name = name;
+        this.abilities = abilities;
         this.inventory = new Inventory();
     }
 
+    public String getId () {
+        return id;
+    }
+
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * Returns the character's ability scores.
+     * 
+     * @return The character's ability scores.
+     */
+    public AbilityScores getAbilities () {
+        return abilities;
+    }
+
     /**
      * Returns the character's inventory.
      * 
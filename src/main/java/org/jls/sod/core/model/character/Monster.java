@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+/**
+ * Represents a type of monster described in the game data.
+ * <p>
+ * A monster is an immutable prototype shared by all the spawned monsters of the
+ * same type (see {@link MonsterInstance}) : the memory used depends on the
+ * number of distinct monsters, not on the number of monsters in the game. The
+ * stat block is stored in primitive fields and the abilities in a single
+ * <code>int</code> array indexed by {@link Ability}, so a prototype is a few
+ * small objects without any boxed value.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class Monster {
+
+    private final String id;
+    private final String name;
+    private final String type;
+    private final String shortDescription;
+    private final String longDescription;
+
+    private final int armorClass;
+    private final int hitPoints;
+    private final float challenge;
+
+    /**
+     * Base score and modifier of each ability : the base score of an ability is
+     * at index <code>2 * ordinal</code> and its modifier right after.
+     */
+    private final int[] abilities;
+
+    /**
+     * Instantiates a new monster.
+     * 
+     * @param id
+     *            Monster's unique identifier.
+     * @param name
+     *            Monster's displayable name.
+     * @param type
+     *            Monster's type (Construct, Beast...).
+     * @param shortDesc
+     *            The short description of this monster.
+     * @param longDesc
+     *            The long description of this monster.
+     * @param armorClass
+     *            Monster's armor class.
+     * @param hitPoints
+     *            Monster's maximum hit points.
+     * @param challenge
+     *            Monster's challenge rating, which may be a fraction.
+     * @param scores
+     *            Base score of each ability indexed by {@link Ability}, copied by
+     *            this monster.
+     * @param modifiers
+     *            Modifier of each ability indexed by {@link Ability}, copied by
+     *            this monster.
+     */
+    public Monster(final String id, final String name, final String type, final String shortDesc,
+            final String longDesc, final int armorClass, final int hitPoints, final float challenge,
+            final int[] scores, final int[] modifiers) {
+        if (scores.length != Ability.COUNT || modifiers.length != Ability.COUNT) {
+            throw new IllegalArgumentException("Expected " + Ability.COUNT + " abilities");
+        }
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.shortDescription = shortDesc;
+        this.longDescription = longDesc;
+        this.armorClass = armorClass;
+        this.hitPoints = hitPoints;
+        this.challenge = challenge;
+        this.abilities = new int[2 * Ability.COUNT];
+        for (int i = 0; i < Ability.COUNT; i++) {
+            this.abilities[2 * i] = scores[i];
+            this.abilities[2 * i + 1] = modifiers[i];
+        }
+    }
+
+    /**
+     * Spawns a new monster of this type with its maximum hit points.
+     * 
+     * @return New instance of {@link MonsterInstance} sharing this prototype.
+     */
+    public MonsterInstance spawn () {
+        return new MonsterInstance(this);
+    }
+
+    /**
+     * Parses the specified challenge rating, either a number or a fraction like
+     * <code>1/4</code>.
+     * 
+     * @param value
+     *            Challenge rating to parse.
+     * @return The challenge rating.
+     * @throws NumberFormatException
+     *             If the value is not a valid challenge rating.
+     */
+    public static float parseChallenge (final String value) {
+        int slash = value.indexOf('/');
+        if (slash < 0) {
+            return Float.parseFloat(value);
+        }
+        return Float.parseFloat(value.substring(0, slash)) / Float.parseFloat(value.substring(slash + 1));
+    }
+
+    @Override
+    public String toString () {
+        return "Monster [id=" + id + ", name=" + name + ", type=" + type + ", armorClass=" + armorClass
+                + ", hitPoints=" + hitPoints + ", challenge=" + challenge + "]";
+    }
+
+    public String getId () {
+        return id;
+    }
+
+    public String getName () {
+        return name;
+    }
+
+    public String getType () {
+        return type;
+    }
+
+    public String getShortDescription () {
+        return shortDescription;
+    }
+
+    public String getLongDescription () {
+        return longDescription;
+    }
+
+    public int getArmorClass () {
+        return armorClass;
+    }
+
+    public int getHitPoints () {
+        return hitPoints;
+    }
+
+    public float getChallenge () {
+        return challenge;
+    }
+
+    /**
+     * Returns the base score of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @return The base score of the ability.
+     */
+    public int getScore (final Ability ability) {
+        return this.abilities[2 * ability.ordinal()];
+    }
+
+    /**
+     * Returns the modifier of the specified ability.
+     * 
+     * @param ability
+     *            The ability.
+     * @return The modifier of the ability.
+     */
+    public int getModifier (final Ability ability) {
+        return this.abilities[2 * ability.ordinal() + 1];
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+/**
+ * Represents a monster spawned in the game.
+ * <p>
+ * A spawned monster only holds its own state, its current hit points, and
+ * refers to the shared {@link Monster} prototype for everything else.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class MonsterInstance {
+
+    private final Monster prototype;
+    private int hitPoints;
+
+    /**
+     * Instantiates a new monster with the maximum hit points of its prototype.
+     * 
+     * @param prototype
+     *            The type of the monster.
+     */
+    public MonsterInstance(final Monster prototype) {
+        this.prototype = prototype;
+        this.hitPoints = prototype.getHitPoints();
+    }
+
+    /**
+     * Inflicts damages to this monster. The hit points cannot drop below zero.
+     * 
+     * @param damages
+     *            Number of hit points lost.
+     */
+    public void damage (final int damages) {
+        if (damages < 0) {
+            throw new IllegalArgumentException("Damages cannot be negative");
+        }
+        this.hitPoints = Math.max(0, this.hitPoints - damages);
+    }
+
+    /**
+     * Heals this monster. The hit points cannot exceed the maximum hit points of
+     * the prototype.
+     * 
+     * @param points
+     *            Number of hit points recovered.
+     */
+    public void heal (final int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("Healed points cannot be negative");
+        }
+        this.hitPoints = Math.min(this.prototype.getHitPoints(), this.hitPoints + points);
+    }
+
+    /**
+     * Tells if this monster is dead.
+     * 
+     * @return <code>true</code> if the monster has no hit points left.
+     */
+    public boolean isDead () {
+        return this.hitPoints == 0;
+    }
+
+    @Override
+    public String toString () {
+        return "MonsterInstance [id=" + prototype.getId() + ", hitPoints=" + hitPoints + "]";
+    }
+
+    public Monster getPrototype () {
+        return prototype;
+    }
+
+    public int getHitPoints () {
+        return hitPoints;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+/**
+ * Enumerates the components of an ability score of a character.
+ * <p>
+ * The ordinal of each component is used as index in the primitive arrays
+ * storing the components (see {@link AbilityScores}).
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public enum ScoreComponent {
+
+    /**
+     * Score rolled or chosen at the creation of the character.
+     */
+    BASE_SCORE("BaseScore"),
+    /**
+     * Modifier derived from the score, as written in the game data files. It is
+     * informative only : the effective modifier is always computed from the
+     * score, use {@link #OTHER_MODIFIER} to add a bonus.
+     */
+    MODIFIER("Modifier"),
+    /**
+     * Bonus granted by the race of the character.
+     */
+    RACIAL_BONUS("RacialBonus"),
+    /**
+     * Bonus granted by the ability score improvements.
+     */
+    ABILITY_IMPROVEMENT("AbilityImprovement"),
+    /**
+     * Any other bonus added to the score.
+     */
+    MISC_BONUS("MiscBonus"),
+    /**
+     * Minimum score set by an effect (an item for instance), ignored if zero.
+     */
+    SET_SCORE("SetScore"),
+    /**
+     * Any other bonus added to the modifier.
+     */
+    OTHER_MODIFIER("OtherModifier"),
+    /**
+     * Score replacing all the other components, ignored if zero.
+     */
+    OVERRIDE_SCORE("OverrideScore");
+
+    /**
+     * Number of components, size of the arrays indexed by component.
+     */
+    public static final int COUNT = values().length;
+
+    private final String label;
+
+    /**
+     * Instantiates a new component.
+     * 
+     * @param label
+     *            Name of the XML element in the game data files.
+     */
+    private ScoreComponent(final String label) {
+        this.label = label;
+    }
+
+    /**
+     * Parses the specified component.
+     * 
+     * @param value
+     *            Component to parse.
+     * @return Corresponding {@link ScoreComponent} enum if an existing component
+     *         is found, else throw an {@link IllegalArgumentException}.
+     */
+    public static ScoreComponent parseValue (final String value) {
+        for (ScoreComponent c : ScoreComponent.values()) {
+            if (c.label.equals(value) || c.name().equalsIgnoreCase(value)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("No matching score component for the value : " + value);
+    }
+
+    /**
+     * Returns the name of the XML element of this component.
+     * 
+     * @return The label of this component.
+     */
+    public String getLabel () {
+        return this.label;
+    }
+}
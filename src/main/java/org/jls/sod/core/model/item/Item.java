@@ -24,13 +24,21 @@
 
 package org.jls.sod.core.model.item;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 import org.jls.sod.core.model.Sense;
 
 /**
  * Represents a physical item in the game.
+ * <p>
+ * An item only describes a type of item and is immutable : the same instance is
+ * shared by all the rooms and inventories containing this item (see
+ * {@link org.jls.sod.core.loader.ItemRegistry}), the state of each placement
+ * (the quantity for instance) being kept by the
+ * {@link org.jls.sod.core.model.inventory.ItemSlot}.
+ * </p>
  * 
  * @author LE SAUCE Julien
  * @date Nov 26, 2015
@@ -42,11 +50,10 @@ public class Item {
     private final ItemType type;
 
     private final String shortDescription;
-    private final String longDescrition;
-    private final HashMap<Sense, String> sensesDescription;
-
-    private boolean isCarriable;
-    private boolean isStackable;
+    private final CharSequence longDescrition;
+    private final Map<Sense, CharSequence> sensesDescription;
+    private final boolean isCarriable;
+    private final boolean isStackable;
 
     /**
      * Instantiates a new item.
@@ -58,20 +65,31 @@ public class Item {
      * @param shortDesc
      *            The short description of this item.
      * @param longDesc
-     *            The long description of this item.
+     *            The long description of this item, that may be resolved only
+     *            when it is requested.
      * @param type
      *            Item's type.
+     * @param isCarriable
+     *            <code>true</code> if the item can be carried by the player.
+     * @param isStackable
+     *            <code>true</code> if several items can be stacked in the same
+     *            inventory slot.
+     * @param sensesDesc
+     *            The descriptions of this item associated with the senses, copied
+     *            by this item.
      */
     public Item(final String id, final String name, final ItemType type, final String shortDesc,
-            final String longDesc) {
+            final CharSequence longDesc, final boolean isCarriable, final boolean isStackable,
+            final Map<Sense, ? extends CharSequence> sensesDesc) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.shortDescription = shortDesc;
         this.longDescrition = longDesc;
-        this.sensesDescription = new HashMap<>();
-        this.isCarriable = false;
-        this.isStackable = false;
+        this.sensesDescription = sensesDesc.isEmpty() ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(sensesDesc));
+        this.isCarriable = isCarriable;
+        this.isStackable = isStackable;
     }
 
     @Override
@@ -97,7 +115,7 @@ public class Item {
     }
 
     public String getLongDescrition () {
-        return longDescrition;
+        return longDescrition != null ? longDescrition.toString() : null;
     }
 
     /**
@@ -121,36 +139,15 @@ public class Item {
      *         <code>null</code> if no description is provided.
      */
     public String getSenseDescription (final Sense sense) {
-        return this.sensesDescription.get(sense);
-    }
-
-    /**
-     * Copies all of the senses descriptions from the specified map to this senses's
-     * map. These mappings will replace any mappings that this map had for any of
-     * the keys currently in the specified map.
-     *
-     * @param senseDesc
-     *            Mappings to be stored in the map.
-     * @throws NullPointerException
-     *             If the specified map is <code>null</code>.
-     */
-    public void putAllSensesDescription (Map<? extends Sense, ? extends String> senseDesc) {
-        this.sensesDescription.putAll(senseDesc);
+        CharSequence desc = this.sensesDescription.get(sense);
+        return desc != null ? desc.toString() : null;
     }
 
     public boolean isCarriable () {
         return isCarriable;
     }
 
-    public void setCarriable (boolean isCarriable) {
-        this.isCarriable = isCarriable;
-    }
-
     public boolean isStackable () {
         return isStackable;
     }
-
-    public void setStackable (boolean isStackable) {
-        this.isStackable = isStackable;
-    }
 }
@@ -0,0 +1,446 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.jls.sod.core.model.Direction;
+
+/**
+ * Layout of the map of the rooms discovered by the player.
+ * <p>
+ * Each discovered room is given coordinates on a grid from the compass
+ * directions of its exits : the room to the north of a room is one cell above
+ * it, the room to the south-east is one cell below and one cell to the right,
+ * and so on. The rooms are laid out incrementally : adding a room only looks at
+ * its exits and at the exits of the placed rooms leading to it, which were
+ * remembered when these rooms were added.
+ * </p>
+ * <p>
+ * The rooms that cannot be related to the placed rooms start a new component,
+ * with its own origin. When a room links two components, the smaller one is
+ * translated into the larger one. The cells of a component are kept in a
+ * sparse map, so the layout grows with the discovered rooms whatever their
+ * coordinates.
+ * </p>
+ * <p>
+ * The exits do not always fit on a grid : two exits may lead a room to
+ * different cells, or a cell may already be used by another room. The rooms
+ * involved are then flagged as conflicting, and a room whose cell is used is
+ * moved to the nearest free cell.
+ * </p>
+ * <p>
+ * The rooms are identified by their path, so the layout is kept when their
+ * zone is unloaded and loaded again.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class MapLayout {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final HashMap<String, Cell> cells;
+    private final HashMap<Integer, HashMap<Long, String>> components;
+
+    /**
+     * Exits of the placed rooms leading to rooms that are not placed yet, by path
+     * of their target.
+     */
+    private final HashMap<String, ArrayList<Exit>> pendingExits;
+
+    private int nextComponent;
+    private int nbConflicts;
+
+    /**
+     * Instantiates an empty layout.
+     */
+    public MapLayout() {
+        this.cells = new HashMap<>();
+        this.components = new HashMap<>();
+        this.pendingExits = new HashMap<>();
+        this.nextComponent = 0;
+        this.nbConflicts = 0;
+    }
+
+    /**
+     * Returns the horizontal offset of the cell in the specified direction.
+     * 
+     * @param direction
+     *            The direction.
+     * @return <code>-1</code> to the west, <code>1</code> to the east,
+     *         <code>0</code> otherwise.
+     */
+    public static int dx (final Direction direction) {
+        switch (direction) {
+            case NORTH_EAST:
+            case EAST:
+            case SOUTH_EAST:
+                return 1;
+            case SOUTH_WEST:
+            case WEST:
+            case NORTH_WEST:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Returns the vertical offset of the cell in the specified direction.
+     * 
+     * @param direction
+     *            The direction.
+     * @return <code>1</code> to the north, <code>-1</code> to the south,
+     *         <code>0</code> otherwise.
+     */
+    public static int dy (final Direction direction) {
+        switch (direction) {
+            case NORTH_WEST:
+            case NORTH:
+            case NORTH_EAST:
+                return 1;
+            case SOUTH_EAST:
+            case SOUTH:
+            case SOUTH_WEST:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Places a discovered room on the map.
+     * 
+     * @param room
+     *            The discovered room.
+     * @return <code>true</code> if the room has been placed, <code>false</code>
+     *         if it was already.
+     */
+    public synchronized boolean addRoom (final Room room) {
+        String path = PathIndex.pathOf(room);
+        if (this.cells.containsKey(path)) {
+            return false;
+        }
+
+        // Exits of the room, the zones of the exits to other zones are not loaded
+        int exits = 0;
+        String[] targets = new String[DIRECTIONS.length];
+        for (Direction direction : DIRECTIONS) {
+            if (direction == Direction.CENTER || !room.hasNeighbor(direction)) {
+                continue;
+            }
+            String target = room.getNeighborLink(direction);
+            if (target == null) {
+                Room neighbor = room.getNeighbor(direction);
+                target = neighbor != null ? PathIndex.pathOf(neighbor) : null;
+            }
+            if (target != null) {
+                exits |= 1 << direction.ordinal();
+                targets[direction.ordinal()] = target;
+            }
+        }
+
+        // Exits between the room and the placed rooms, as the room seen from them
+        ArrayList<Exit> relations = new ArrayList<>();
+        ArrayList<Exit> pending = this.pendingExits.remove(path);
+        if (pending != null) {
+            relations.addAll(pending);
+        }
+        for (Direction direction : DIRECTIONS) {
+            String target = targets[direction.ordinal()];
+            if (target == null || target.equals(path)) {
+                continue;
+            }
+            if (this.cells.containsKey(target)) {
+                relations.add(new Exit(target, -dx(direction), -dy(direction)));
+            } else {
+                this.pendingExits.computeIfAbsent(target, k -> new ArrayList<>())
+                        .add(new Exit(path, dx(direction), dy(direction)));
+            }
+        }
+
+        if (relations.isEmpty()) {
+            place(path, exits, this.nextComponent++, 0, 0, false);
+            return true;
+        }
+        Exit first = relations.get(0);
+        Cell from = this.cells.get(first.from);
+        place(path, exits, from.component, from.x + first.dx, from.y + first.dy, false);
+        for (Exit relation : relations) {
+            relate(path, relation);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the cell of the specified room.
+     * 
+     * @param room
+     *            The room.
+     * @return The cell of the room, or <code>null</code> if it is not placed.
+     */
+    public synchronized Cell getCell (final Room room) {
+        return this.cells.get(PathIndex.pathOf(room));
+    }
+
+    /**
+     * Returns the cells of the specified component.
+     * 
+     * @param component
+     *            Identifier of the component.
+     * @return A copy of the cells of the component.
+     */
+    public synchronized List<Cell> getCells (final int component) {
+        HashMap<Long, String> grid = this.components.get(component);
+        ArrayList<Cell> list = new ArrayList<>();
+        if (grid != null) {
+            for (String path : grid.values()) {
+                list.add(this.cells.get(path));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns the number of rooms placed on the map.
+     * 
+     * @return Number of placed rooms.
+     */
+    public synchronized int size () {
+        return this.cells.size();
+    }
+
+    /**
+     * Returns the number of components, each one having its own origin.
+     * 
+     * @return Number of components.
+     */
+    public synchronized int getNbComponents () {
+        return this.components.size();
+    }
+
+    /**
+     * Returns the number of rooms flagged as conflicting.
+     * 
+     * @return Number of conflicting rooms.
+     */
+    public synchronized int getNbConflicts () {
+        return this.nbConflicts;
+    }
+
+    /**
+     * Removes all the rooms from the map.
+     */
+    public synchronized void clear () {
+        this.cells.clear();
+        this.components.clear();
+        this.pendingExits.clear();
+        this.nextComponent = 0;
+        this.nbConflicts = 0;
+    }
+
+    /**
+     * Checks the exit between a room and a placed room : their components are
+     * merged if they differ, else their cells must match the exit.
+     */
+    private void relate (final String path, final Exit relation) {
+        Cell cell = this.cells.get(path);
+        Cell from = this.cells.get(relation.from);
+        if (cell.component == from.component) {
+            if (from.x + relation.dx != cell.x || from.y + relation.dy != cell.y) {
+                flagConflict(path);
+                flagConflict(relation.from);
+            }
+        } else if (this.components.get(from.component).size() <= this.components.get(cell.component).size()) {
+            merge(from.component, cell.component, cell.x - relation.dx - from.x, cell.y - relation.dy - from.y);
+        } else {
+            merge(cell.component, from.component, from.x + relation.dx - cell.x, from.y + relation.dy - cell.y);
+        }
+    }
+
+    /**
+     * Translates all the rooms of a component into another one.
+     */
+    private void merge (final int source, final int target, final int tx, final int ty) {
+        HashMap<Long, String> grid = this.components.remove(source);
+        for (String path : grid.values()) {
+            Cell cell = this.cells.get(path);
+            place(path, cell.exits, target, cell.x + tx, cell.y + ty, cell.conflicting);
+        }
+    }
+
+    /**
+     * Puts a room in a cell of a component, or in the nearest free cell if it is
+     * used.
+     */
+    private void place (final String path, final int exits, final int component, final int x, final int y,
+            final boolean conflicting) {
+        HashMap<Long, String> grid = this.components.computeIfAbsent(component, k -> new HashMap<>());
+        int cx = x;
+        int cy = y;
+        boolean isConflicting = conflicting;
+        String occupant = grid.get(key(x, y));
+        if (occupant != null) {
+            flagConflict(occupant);
+            isConflicting = true;
+            long free = nearestFree(grid, x, y);
+            cx = (int) (free >> 32);
+            cy = (int) free;
+        }
+        if (isConflicting && !conflicting) {
+            this.nbConflicts++;
+        }
+        grid.put(key(cx, cy), path);
+        this.cells.put(path, new Cell(path, exits, component, cx, cy, isConflicting));
+    }
+
+    private void flagConflict (final String path) {
+        Cell cell = this.cells.get(path);
+        if (!cell.conflicting) {
+            this.nbConflicts++;
+            this.cells.put(path, new Cell(path, cell.exits, cell.component, cell.x, cell.y, true));
+        }
+    }
+
+    /**
+     * Searches the free cells around the specified one, ring by ring.
+     */
+    private static long nearestFree (final HashMap<Long, String> grid, final int x, final int y) {
+        for (int r = 1;; r++) {
+            for (int i = -r; i <= r; i++) {
+                for (int j = -r; j <= r; j++) {
+                    if (Math.max(Math.abs(i), Math.abs(j)) == r && !grid.containsKey(key(x + i, y + j))) {
+                        return key(x + i, y + j);
+                    }
+                }
+            }
+        }
+    }
+
+    private static long key (final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Room placed on the map.
+     */
+    public static final class Cell {
+
+        private final String path;
+        private final int exits;
+        private final int component;
+        private final int x;
+        private final int y;
+        private final boolean conflicting;
+
+        private Cell(final String path, final int exits, final int component, final int x, final int y,
+                final boolean conflicting) {
+            this.path = path;
+            this.exits = exits;
+            this.component = component;
+            this.x = x;
+            this.y = y;
+            this.conflicting = conflicting;
+        }
+
+        /**
+         * Returns the path <i>world.region.zone.room</i> of the room.
+         * 
+         * @return The path of the room.
+         */
+        public String getPath () {
+            return this.path;
+        }
+
+        /**
+         * Returns the component of the room.
+         * 
+         * @return Identifier of the component.
+         */
+        public int getComponent () {
+            return this.component;
+        }
+
+        /**
+         * Returns the column of the room, increasing to the east.
+         * 
+         * @return The column of the room.
+         */
+        public int getX () {
+            return this.x;
+        }
+
+        /**
+         * Returns the row of the room, increasing to the north.
+         * 
+         * @return The row of the room.
+         */
+        public int getY () {
+            return this.y;
+        }
+
+        /**
+         * Tells if the room has an exit in the specified direction.
+         * 
+         * @param direction
+         *            Direction of the exit.
+         * @return <code>true</code> if the room has an exit in this direction.
+         */
+        public boolean hasExit (final Direction direction) {
+            return (this.exits & (1 << direction.ordinal())) != 0;
+        }
+
+        /**
+         * Tells if the exits of the room do not fit with the cells of its
+         * neighbors.
+         * 
+         * @return <code>true</code> if the room is conflicting.
+         */
+        public boolean isConflicting () {
+            return this.conflicting;
+        }
+    }
+
+    /**
+     * Exit of a placed room, seen as the offset from its cell to the cell of its
+     * target.
+     */
+    private static final class Exit {
+
+        private final String from;
+        private final int dx;
+        private final int dy;
+
+        private Exit(final String from, final int dx, final int dy) {
+            this.from = from;
+            this.dx = dx;
+            this.dy = dy;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.WeakHashMap;
+
+import org.jls.sod.core.model.Direction;
+
+/**
+ * Computes the shortest routes between the rooms loaded in a world.
+ * <p>
+ * All the exits have the same cost, so the routes are found with a
+ * breadth-first search over the exits stored in the {@link RoomTable}. The
+ * routes between two rooms of a large zone are first searched with A* and
+ * the landmarks heuristic on the {@link ZoneGraph} of the zone, which only
+ * explores the rooms in the direction of the target. That route stays in the
+ * zone, so it is only returned when no route leaving the zone can be shorter ;
+ * otherwise the breadth-first search is run over all the loaded rooms. The
+ * graphs are cached per zone and rebuilt when the revision of their zone
+ * changes.
+ * </p>
+ * <p>
+ * The exits leading to a zone that is not loaded are ignored : the routes only
+ * cross the loaded rooms, and no zone is loaded by a search. The search arrays
+ * are reused from one search to the next : as the {@link RoomTable} it reads, a
+ * path finder is only used on the thread running the game.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class PathFinder {
+
+    /**
+     * Minimum number of rooms of a zone for its routes to be searched with the
+     * landmarks heuristic.
+     */
+    public static final int ALT_MIN_ROOMS = 1024;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final World world;
+    private final WeakHashMap<Zone, ZoneGraph> graphs;
+
+    private int[] parents;
+    private byte[] parentDirections;
+    private int[] queue;
+    private int[] stamps;
+    private int stamp;
+
+    /**
+     * Instantiates a path finder.
+     * 
+     * @param world
+     *            The world whose loaded rooms are searched.
+     */
+    PathFinder(final World world) {
+        this.world = world;
+        this.graphs = new WeakHashMap<>();
+    }
+
+    /**
+     * Returns the shortest route between two loaded rooms.
+     * 
+     * @param from
+     *            The room of departure.
+     * @param to
+     *            The room of destination.
+     * @return The directions to follow from the room of departure, empty if both
+     *         rooms are the same, or <code>null</code> if the destination cannot
+     *         be reached through the loaded rooms.
+     */
+    public List<Direction> findPath (final Room from, final Room to) {
+        if (from == to) {
+            return Collections.emptyList();
+        }
+        Zone zone = from.getZone();
+        if (zone == to.getZone() && zone.getRooms().size() >= ALT_MIN_ROOMS) {
+            ZoneGraph graph = getGraph(zone);
+            List<Direction> route = graph.findPath(from, to);
+            // A shorter route leaving the zone may still exist
+            if (route != null && route.size() <= graph.getMinLeavingLength(from)) {
+                return route;
+            }
+        }
+        return breadthFirst(from, to);
+    }
+
+    /**
+     * Returns the number of zones whose graph is cached.
+     * 
+     * @return Number of cached graphs.
+     */
+    public int getCachedGraphs () {
+        return this.graphs.size();
+    }
+
+    private ZoneGraph getGraph (final Zone zone) {
+        ZoneGraph graph = this.graphs.get(zone);
+        if (graph == null || graph.getRevision() != zone.getRevision()) {
+            graph = new ZoneGraph(zone, this.world.getRoomTable());
+            this.graphs.put(zone, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * Searches the route breadth-first over all the loaded rooms, without
+     * heuristic.
+     * 
+     * @param from
+     *            The room of departure.
+     * @param to
+     *            The room of destination.
+     * @return The directions to follow, or <code>null</code> if the destination
+     *         cannot be reached through the loaded rooms.
+     */
+    List<Direction> breadthFirst (final Room from, final Room to) {
+        RoomTable table = this.world.getRoomTable();
+        Room[] rooms = table.rooms();
+        int source = from.getIndex();
+        int target = to.getIndex();
+        if (rooms[source] != from || rooms[target] != to) {
+            return null;
+        }
+        // A room is reached if its stamp is the current one
+        int reached = nextStamp(table.capacity());
+        int[] stamps = this.stamps;
+        int[] queue = this.queue;
+        int head = 0;
+        int tail = 0;
+        int[] neighbors = table.neighbors();
+        stamps[source] = reached;
+        queue[tail++] = source;
+        while (head < tail && stamps[target] != reached) {
+            int u = queue[head++];
+            for (int d = 0; d < RoomTable.NB_DIRECTIONS; d++) {
+                int v = neighbors[u * RoomTable.NB_DIRECTIONS + d];
+                if (v == RoomTable.LINK) {
+                    v = residentLink(table, u, d);
+                }
+                if (v >= 0 && stamps[v] != reached) {
+                    stamps[v] = reached;
+                    this.parents[v] = u;
+                    this.parentDirections[v] = (byte) d;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        if (stamps[target] != reached) {
+            return null;
+        }
+        ArrayList<Direction> route = new ArrayList<>();
+        for (int v = target; v != source; v = this.parents[v]) {
+            route.add(DIRECTIONS[this.parentDirections[v]]);
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    /**
+     * Returns the stamp of a new search, growing the search arrays to the
+     * capacity of the room table and clearing them when the stamps wrap around.
+     */
+    private int nextStamp (final int capacity) {
+        if (this.stamps == null || this.stamps.length < capacity) {
+            this.parents = new int[capacity];
+            this.parentDirections = new byte[capacity];
+            this.queue = new int[capacity];
+            this.stamps = new int[capacity];
+            this.stamp = 0;
+        }
+        if (this.stamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.stamps, 0);
+            this.stamp = 0;
+        }
+        return ++this.stamp;
+    }
+
+    /**
+     * Returns the index of the target of a link if it is loaded, without
+     * loading its zone, or <code>-1</code>.
+     */
+    private int residentLink (final RoomTable table, final int index, final int direction) {
+        Room target = this.world.getPathIndex().resolve(table.getLink(index, DIRECTIONS[direction]));
+        return target != null && table.get(target.getIndex()) == target ? target.getIndex() : -1;
+    }
+}
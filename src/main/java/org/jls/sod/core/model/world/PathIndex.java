@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Index of the rooms loaded in a world, resolving the paths
+ * <i>world.region.zone.room</i> and the bare room identifiers in constant time.
+ * <p>
+ * A path is resolved through the hierarchy of the world (regions of the world,
+ * zones of the region, rooms of the zone), which only contains the loaded
+ * areas, so that no string is kept per room for its path. The bare identifiers
+ * are indexed when the rooms are added to their zone and removed when their
+ * zone is unloaded. An identifier used by rooms of several zones is ambiguous
+ * and only resolved by its full path.
+ * </p>
+ * <p>
+ * This class is not thread-safe : like the hierarchy of the world it walks, it
+ * is only used by the Swing thread, which loads, unloads and patches the zones
+ * and executes the commands.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class PathIndex {
+
+    /**
+     * Separator of the identifiers in a path.
+     */
+    public static final char SEPARATOR = '.';
+
+    private final World world;
+    private final HashMap<String, Room> rooms;
+    private final HashMap<String, ArrayList<Room>> homonyms;
+
+    /**
+     * Instantiates an empty index.
+     * 
+     * @param world
+     *            The indexed world.
+     */
+    PathIndex(final World world) {
+        this.world = world;
+        this.rooms = new HashMap<>();
+        this.homonyms = new HashMap<>();
+    }
+
+    /**
+     * Returns the path of the specified room.
+     * 
+     * @param room
+     *            The room.
+     * @return The path <i>world.region.zone.room</i> of the room.
+     */
+    public static String pathOf (final Room room) {
+        Zone zone = room.getZone();
+        Region region = zone.getRegion();
+        return region.getWorld().getId() + SEPARATOR + region.getId() + SEPARATOR + zone.getId() + SEPARATOR
+                + room.getId();
+    }
+
+    /**
+     * Splits the specified path into its identifiers.
+     * 
+     * @param path
+     *            The path <i>world.region.zone.room</i>.
+     * @return The identifiers of the world, the region, the zone and the room, or
+     *         <code>null</code> if the path is <code>null</code> or malformed.
+     */
+    public static String[] split (final String path) {
+        if (path == null) {
+            return null;
+        }
+        String[] tokens = new String[4];
+        int start = 0;
+        for (int i = 0; i < 3; i++) {
+            int end = path.indexOf(SEPARATOR, start);
+            if (end <= start) {
+                return null;
+            }
+            tokens[i] = path.substring(start, end);
+            start = end + 1;
+        }
+        if (start == path.length() || path.indexOf(SEPARATOR, start) >= 0) {
+            return null;
+        }
+        tokens[3] = path.substring(start);
+        return tokens;
+    }
+
+    /**
+     * Qualifies the target of an exit relatively to the zone of the room. The
+     * target is a room identifier of the zone, or a path <i>zone.room</i>,
+     * <i>region.zone.room</i> or <i>world.region.zone.room</i> leaving the zone,
+     * the region or the world.
+     * 
+     * @param worldId
+     *            Identifier of the world of the room.
+     * @param regionId
+     *            Identifier of the region of the room.
+     * @param zoneId
+     *            Identifier of the zone of the room.
+     * @param target
+     *            The target of the exit.
+     * @return The identifiers of the world, the region, the zone and the room
+     *         targeted, or <code>null</code> if the target is malformed.
+     */
+    public static String[] qualify (final String worldId, final String regionId, final String zoneId,
+            final String target) {
+        String[] context = { worldId, regionId, zoneId };
+        int nbTokens = 1;
+        for (int i = target.indexOf(SEPARATOR); i >= 0; i = target.indexOf(SEPARATOR, i + 1)) {
+            nbTokens++;
+        }
+        if (nbTokens > 4) {
+            return null;
+        }
+        String[] tokens = new String[4];
+        System.arraycopy(context, 0, tokens, 0, 4 - nbTokens);
+        int start = 0;
+        for (int i = 4 - nbTokens; i < 4; i++) {
+            int end = i < 3 ? target.indexOf(SEPARATOR, start) : target.length();
+            if (end <= start) {
+                return null;
+            }
+            tokens[i] = target.substring(start, end);
+            start = end + 1;
+        }
+        return tokens;
+    }
+
+    /**
+     * Qualifies the target of an exit of a room of the specified zone.
+     * 
+     * @param zone
+     *            The zone of the room.
+     * @param target
+     *            The target of the exit.
+     * @return The identifiers of the world, the region, the zone and the room
+     *         targeted, or <code>null</code> if the target is malformed.
+     * @see #qualify(String, String, String, String)
+     */
+    public static String[] qualify (final Zone zone, final String target) {
+        Region region = zone.getRegion();
+        return qualify(region.getWorld().getId(), region.getId(), zone.getId(), target);
+    }
+
+    /**
+     * Tells if the specified identifiers designate a room of the specified zone.
+     * 
+     * @param tokens
+     *            The identifiers of the world, the region, the zone and the room.
+     * @param zone
+     *            The zone.
+     * @return <code>true</code> if the room belongs to the zone.
+     */
+    public static boolean isInZone (final String[] tokens, final Zone zone) {
+        Region region = zone.getRegion();
+        return tokens[2].equals(zone.getId()) && tokens[1].equals(region.getId())
+                && tokens[0].equals(region.getWorld().getId());
+    }
+
+    /**
+     * Joins the specified identifiers into a path.
+     * 
+     * @param tokens
+     *            The identifiers of the world, the region, the zone and the room.
+     * @return The path <i>world.region.zone.room</i>.
+     */
+    public static String join (final String[] tokens) {
+        return tokens[0] + SEPARATOR + tokens[1] + SEPARATOR + tokens[2] + SEPARATOR + tokens[3];
+    }
+
+    /**
+     * Returns the loaded room with the specified path.
+     * 
+     * @param path
+     *            The path <i>world.region.zone.room</i>.
+     * @return The room, or <code>null</code> if the path is malformed, belongs to
+     *         another world or if the room is not loaded.
+     */
+    public Room resolve (final String path) {
+        String[] tokens = split(path);
+        if (tokens == null || !tokens[0].equals(this.world.getId())) {
+            return null;
+        }
+        Region region = this.world.getRegions().get(tokens[1]);
+        Zone zone = region != null ? region.getZones().get(tokens[2]) : null;
+        return zone != null ? zone.getRoom(tokens[3]) : null;
+    }
+
+    /**
+     * Returns the loaded room with the specified identifier.
+     * 
+     * @param roomId
+     *            The identifier of the room.
+     * @return The room, or <code>null</code> if no loaded room has this
+     *         identifier or if several loaded rooms have it.
+     */
+    public Room getRoom (final String roomId) {
+        return this.rooms.get(roomId);
+    }
+
+    /**
+     * Tells if several loaded rooms have the specified identifier.
+     * 
+     * @param roomId
+     *            The identifier of the room.
+     * @return <code>true</code> if the identifier is ambiguous.
+     */
+    public boolean isAmbiguous (final String roomId) {
+        return this.homonyms.containsKey(roomId);
+    }
+
+    /**
+     * Returns the number of rooms indexed by their identifier.
+     * 
+     * @return Number of unambiguous identifiers.
+     */
+    public int size () {
+        return this.rooms.size();
+    }
+
+    /**
+     * Indexes the specified room, added to its zone.
+     * 
+     * @param room
+     *            The new room.
+     */
+    void add (final Room room) {
+        String id = room.getId();
+        ArrayList<Room> sameId = this.homonyms.get(id);
+        if (sameId != null) {
+            if (!sameId.contains(room)) {
+                sameId.add(room);
+            }
+            return;
+        }
+        Room other = this.rooms.putIfAbsent(id, room);
+        if (other != null && other != room) {
+            this.rooms.remove(id);
+            sameId = new ArrayList<>(2);
+            sameId.add(other);
+            sameId.add(room);
+            this.homonyms.put(id, sameId);
+        }
+    }
+
+    /**
+     * Removes the specified room from the index, when its zone is unloaded or
+     * when it is replaced.
+     * 
+     * @param room
+     *            The room to remove.
+     */
+    public void remove (final Room room) {
+        String id = room.getId();
+        ArrayList<Room> sameId = this.homonyms.get(id);
+        if (sameId == null) {
+            this.rooms.remove(id, room);
+            return;
+        }
+        sameId.remove(room);
+        if (sameId.size() == 1) {
+            this.homonyms.remove(id);
+            this.rooms.put(id, sameId.get(0));
+        }
+    }
+}
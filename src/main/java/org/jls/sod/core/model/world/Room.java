@@ -25,8 +25,8 @@
 package org.jls.sod.core.model.world;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.jls.sod.core.model.Direction;
 import org.jls.sod.core.model.Sense;
@@ -40,20 +40,23 @@ import org.jls.sod.core.model.inventory.Inventory;
  */
 public class Room {
 
+    private static final int NB_SENSES = Sense.values().length;
+
     private final String id;
-    private final String name;
-    private final String shortDescription;
-    private final String longDescrition;
-    private final HashMap<Sense, String> sensesDescription;
-    private final HashMap<Direction, Room> neighbors;
-    private final HashMap<Direction, String> neighborsDescription;
+    private final int index;
     private final Zone zone;
     private final Inventory inventory;
 
+    private String name;
+    private String shortDescription;
+    private CharSequence longDescrition;
+    private CharSequence[] sensesDescription;
     private boolean isVisited;
+    private boolean isModified;
 
     /**
-     * Instantiates a new default room.
+     * Instantiates a new default room and adds it to the {@link RoomTable} of the
+     * world, which gives it a dense identifier and stores its exits.
      * 
      * @param id
      *            The room identifier.
@@ -62,21 +65,23 @@ public class Room {
      * @param shortDesc
      *            The short description of this room.
      * @param longDesc
-     *            The long description of this room.
+     *            The long description of this room, that may be resolved only
+     *            when it is requested.
      * @param zone
      *            Specifies the zone which contains this room.
      */
-    public Room(final String id, final String name, final String shortDesc, final String longDesc, final Zone zone) {
+    public Room(final String id, final String name, final String shortDesc, final CharSequence longDesc,
+            final Zone zone) {
         this.id = id;
         this.name = name;
         this.shortDescription = shortDesc;
         this.longDescrition = longDesc;
-        this.sensesDescription = new HashMap<>();
-        this.neighbors = new HashMap<>();
-        this.neighborsDescription = new HashMap<>();
+        this.sensesDescription = null;
         this.zone = zone;
+        this.index = zone.getRegion().getWorld().getRoomTable().add(this);
         this.inventory = new Inventory();
         this.isVisited = false;
+        this.isModified = false;
     }
 
     /**
@@ -99,6 +104,17 @@ public class Room {
         return this.id;
     }
 
+    /**
+     * Returns the dense identifier of this room in the {@link RoomTable} of the
+     * world. The identifier is only valid while the room is loaded, it is reused
+     * once the zone of the room has been unloaded.
+     * 
+     * @return Index of the room in the table of the loaded rooms.
+     */
+    public int getIndex () {
+        return this.index;
+    }
+
     /**
      * Returns the room name.
      * 
@@ -123,7 +139,7 @@ public class Room {
      * @return Long description of this room.
      */
     public String getLongDescrition () {
-        return this.longDescrition;
+        return this.longDescrition != null ? this.longDescrition.toString() : null;
     }
 
     /**
@@ -135,7 +151,7 @@ public class Room {
      *         sense, <code>false</code> otherwise.
      */
     public boolean hasSense (final Sense sense) {
-        return this.sensesDescription.containsKey(sense);
+        return this.sensesDescription != null && this.sensesDescription[sense.ordinal()] != null;
     }
 
     /**
@@ -147,7 +163,8 @@ public class Room {
      *         <code>null</code> if no description is provided.
      */
     public String getSenseDescription (final Sense sense) {
-        return this.sensesDescription.get(sense);
+        CharSequence desc = this.sensesDescription != null ? this.sensesDescription[sense.ordinal()] : null;
+        return desc != null ? desc.toString() : null;
     }
 
     /**
@@ -160,8 +177,16 @@ public class Room {
      * @throws NullPointerException
      *             If the specified map is <code>null</code>.
      */
-    public void putAllSensesDescription (Map<? extends Sense, ? extends String> senseDesc) {
-        this.sensesDescription.putAll(senseDesc);
+    public void putAllSensesDescription (Map<? extends Sense, ? extends CharSequence> senseDesc) {
+        if (senseDesc.isEmpty()) {
+            return;
+        }
+        if (this.sensesDescription == null) {
+            this.sensesDescription = new CharSequence[NB_SENSES];
+        }
+        for (Entry<? extends Sense, ? extends CharSequence> entry : senseDesc.entrySet()) {
+            this.sensesDescription[entry.getKey().ordinal()] = entry.getValue();
+        }
     }
 
     /**
@@ -173,19 +198,49 @@ public class Room {
      *         <code>false</code> otherwise.
      */
     public boolean hasNeighbor (final Direction direction) {
-        return this.neighbors.containsKey(direction);
+        RoomTable table = table();
+        if (table == null) {
+            return false;
+        }
+        int neighbor = table.getNeighbor(this.index, direction);
+        return neighbor >= 0 || neighbor == RoomTable.LINK;
     }
 
     /**
-     * Returns the next room in the specified direction.
+     * Returns the next room in the specified direction. If the exit leads to
+     * another zone, its target is resolved and its zone is loaded if needed.
      * 
      * @param direction
      *            Direction of the next room.
      * @return Next room in the specified direction or <code>null</code> if it's a
-     *         dead end.
+     *         dead end or if the target of the exit cannot be loaded.
      */
     public Room getNeighbor (final Direction direction) {
-        return this.neighbors.get(direction);
+        RoomTable table = table();
+        if (table == null) {
+            return null;
+        }
+        String link = table.getLink(this.index, direction);
+        if (link != null) {
+            Room target = this.zone.getRegion().getWorld().getPathIndex().resolve(link);
+            return target != null ? target : table.resolveLink(link);
+        }
+        int neighbor = table.getNeighbor(this.index, direction);
+        return neighbor >= 0 ? table.get(neighbor) : null;
+    }
+
+    /**
+     * Returns the path of the target of the exit in the specified direction, if
+     * the exit leads to another zone.
+     * 
+     * @param direction
+     *            Direction of the exit.
+     * @return The path <i>world.region.zone.room</i> of the target or
+     *         <code>null</code> if the exit does not lead to another zone.
+     */
+    public String getNeighborLink (final Direction direction) {
+        RoomTable table = table();
+        return table != null ? table.getLink(this.index, direction) : null;
     }
 
     /**
@@ -197,16 +252,37 @@ public class Room {
      *         if it's a dead end.
      */
     public String getNeighborDescription (final Direction direction) {
-        return this.neighborsDescription.get(direction);
+        RoomTable table = table();
+        return table != null ? table.getExitDescription(this.index, direction) : null;
     }
 
     /**
-     * Returns a copy of the neighbor's list for this room.
+     * Returns a copy of the neighbor's list for this room. The exits leading to a
+     * zone that is not loaded are ignored, their target is not loaded.
      * 
      * @return List of the available neighbors for this room.
      */
     public ArrayList<Room> getNeighbors () {
-        return new ArrayList<>(this.neighbors.values());
+        RoomTable table = table();
+        ArrayList<Room> rooms = new ArrayList<>();
+        if (table == null) {
+            return rooms;
+        }
+        int[] neighbors = new int[RoomTable.NB_DIRECTIONS];
+        table.getNeighbors(this.index, neighbors);
+        PathIndex paths = this.zone.getRegion().getWorld().getPathIndex();
+        for (Direction direction : Direction.values()) {
+            int neighbor = neighbors[direction.ordinal()];
+            if (neighbor >= 0) {
+                rooms.add(table.get(neighbor));
+            } else if (neighbor == RoomTable.LINK) {
+                Room target = paths.resolve(table.getLink(this.index, direction));
+                if (target != null) {
+                    rooms.add(target);
+                }
+            }
+        }
+        return rooms;
     }
 
     /**
@@ -220,7 +296,30 @@ public class Room {
      *             If the specified map is <code>null</code>.
      */
     public void putAllNeighbors (Map<? extends Direction, ? extends Room> neighbors) {
-        this.neighbors.putAll(neighbors);
+        RoomTable table = loadedTable();
+        this.zone.incrementRevision();
+        for (Entry<? extends Direction, ? extends Room> entry : neighbors.entrySet()) {
+            table.setNeighbor(this.index, entry.getKey(), entry.getValue().getIndex());
+        }
+    }
+
+    /**
+     * Copies all of the exits leading to another zone from the specified map to
+     * this neighbor's map. The targets are kept as paths and only resolved when
+     * the exits are traversed.
+     *
+     * @param links
+     *            Mappings of the directions to the paths
+     *            <i>world.region.zone.room</i> of the targets.
+     * @throws NullPointerException
+     *             If the specified map is <code>null</code>.
+     */
+    public void putAllLinks (Map<? extends Direction, ? extends String> links) {
+        RoomTable table = loadedTable();
+        this.zone.incrementRevision();
+        for (Entry<? extends Direction, ? extends String> entry : links.entrySet()) {
+            table.setLink(this.index, entry.getKey(), entry.getValue());
+        }
     }
 
     /**
@@ -234,7 +333,52 @@ public class Room {
      *             If the specified map is <code>null</code>.
      */
     public void putAllNeighborsDescription (Map<? extends Direction, ? extends String> neighborsDesc) {
-        this.neighborsDescription.putAll(neighborsDesc);
+        RoomTable table = loadedTable();
+        for (Entry<? extends Direction, ? extends String> entry : neighborsDesc.entrySet()) {
+            table.setExitDescription(this.index, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Replaces the descriptions of this room, when the room has been modified in
+     * the game data. The neighbors, the inventory and the visited flag are kept.
+     * 
+     * @param name
+     *            The new room name.
+     * @param shortDesc
+     *            The new short description of this room.
+     * @param longDesc
+     *            The new long description of this room.
+     * @param sensesDesc
+     *            The new descriptions associated with the senses.
+     */
+    public void updateDescription (final String name, final String shortDesc, final CharSequence longDesc,
+            final Map<? extends Sense, ? extends CharSequence> sensesDesc) {
+        this.name = name;
+        this.shortDescription = shortDesc;
+        this.longDescrition = longDesc;
+        this.sensesDescription = null;
+        putAllSensesDescription(sensesDesc);
+    }
+
+    /**
+     * Replaces all the neighbors of this room and their descriptions, when the
+     * room has been modified in the game data.
+     * 
+     * @param neighbors
+     *            The new neighbors of this room.
+     * @param links
+     *            The new exits leading to another zone.
+     * @param neighborsDesc
+     *            The new descriptions of the neighbors.
+     */
+    public void replaceNeighbors (final Map<? extends Direction, ? extends Room> neighbors,
+            final Map<? extends Direction, ? extends String> links,
+            final Map<? extends Direction, ? extends String> neighborsDesc) {
+        loadedTable().clearExits(this.index);
+        putAllNeighbors(neighbors);
+        putAllLinks(links);
+        putAllNeighborsDescription(neighborsDesc);
     }
 
     /**
@@ -246,6 +390,23 @@ public class Room {
         return this.zone;
     }
 
+    /**
+     * Returns the table storing the exits of this room, or <code>null</code> if
+     * the room has been unloaded and its index may be used by another room.
+     */
+    private RoomTable table () {
+        RoomTable table = this.zone.getRegion().getWorld().getRoomTable();
+        return table.get(this.index) == this ? table : null;
+    }
+
+    private RoomTable loadedTable () {
+        RoomTable table = table();
+        if (table == null) {
+            throw new IllegalStateException("Room " + this.id + " has been unloaded");
+        }
+        return table;
+    }
+
     public Inventory getInventory () {
         return inventory;
     }
@@ -261,13 +422,39 @@ public class Room {
     }
 
     /**
-     * Specifies if the if the room has been visited.
+     * Specifies if the if the room has been visited. The zone is marked as dirty
+     * if the value changes.
      * 
      * @param isVisited
      *            <code>true</code> if the room has been visited, <code>false</code>
      *            otherwise.
      */
     public void setVisited (boolean isVisited) {
+        if (this.isVisited != isVisited) {
+            markModified();
+        }
         this.isVisited = isVisited;
     }
+
+    /**
+     * Tells if the state of the room (visited flag, items) differs from the game
+     * data it has been loaded from.
+     * 
+     * @return <code>true</code> if the state of the room has to be saved,
+     *         <code>false</code> otherwise.
+     */
+    public boolean isModified () {
+        return isModified;
+    }
+
+    /**
+     * Specifies that the state of the room differs from the game data it has been
+     * loaded from. The zone is marked as dirty.
+     */
+    public void markModified () {
+        this.isModified = true;
+        if (this.zone != null) {
+            this.zone.setDirty(true);
+        }
+    }
 }
@@ -0,0 +1,381 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.jls.sod.core.model.Direction;
+
+/**
+ * Table of the rooms loaded in a world, giving each room a dense integer
+ * identifier and storing the exits of all the rooms in flat arrays.
+ * <p>
+ * The exits of a room are stored in a fixed layout of one slot per
+ * {@link Direction}, indexed by <code>index * NB_DIRECTIONS + ordinal</code> :
+ * the slot contains the index of the next room or <code>-1</code>, and its
+ * description. Multi-million rooms worlds therefore cost a few bytes per exit
+ * instead of a map per room. The indexes of the rooms unloaded with their zone
+ * are reused, so that the table stays dense while the world is paged.
+ * </p>
+ * <p>
+ * An exit leaving the zone of the room is stored as a {@link #LINK} slot
+ * associated with the path of its target, which is only resolved when the exit
+ * is traversed : loading a zone does not load the zones it leads to.
+ * </p>
+ * <p>
+ * The table has a single writer model. The rooms are added under the lock of
+ * the table, since the loader creates them from the threads parsing the rooms
+ * of a zone in parallel; the other mutations take the same lock. Everything
+ * else, including every read, happens on the thread running the game, the
+ * Swing event thread. The parsing threads have finished before the loader
+ * links the rooms they created, so the reads need no lock. That matters
+ * because they are on the path of every move and of every step of the
+ * {@link PathFinder}.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class RoomTable {
+
+    /**
+     * Number of exit slots of a room.
+     */
+    public static final int NB_DIRECTIONS = Direction.values().length;
+
+    /**
+     * Value of the slot of an exit leading to another zone, whose target is
+     * designated by its path.
+     */
+    public static final int LINK = -2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Room[] rooms;
+    private int[] neighbors;
+    private String[] exitDescriptions;
+    private int[] freeIndexes;
+    private int nbFree;
+    private int highWater;
+
+    /**
+     * Paths of the targets of the {@link #LINK} slots, which are rare enough to
+     * be stored sparsely.
+     */
+    private final HashMap<Integer, String> links;
+    private volatile LinkResolver linkResolver;
+
+    /**
+     * Instantiates an empty table.
+     */
+    public RoomTable() {
+        this.rooms = new Room[INITIAL_CAPACITY];
+        this.neighbors = new int[INITIAL_CAPACITY * NB_DIRECTIONS];
+        this.exitDescriptions = new String[INITIAL_CAPACITY * NB_DIRECTIONS];
+        this.freeIndexes = new int[0];
+        this.nbFree = 0;
+        this.highWater = 0;
+        this.links = new HashMap<>();
+        this.linkResolver = null;
+        Arrays.fill(this.neighbors, -1);
+    }
+
+    /**
+     * Adds a room to the table.
+     * 
+     * @param room
+     *            The new room, without exits.
+     * @return The dense identifier of the room.
+     */
+    synchronized int add (final Room room) {
+        int index;
+        if (this.nbFree > 0) {
+            index = this.freeIndexes[--this.nbFree];
+        } else {
+            index = this.highWater++;
+            if (index == this.rooms.length) {
+                grow();
+            }
+        }
+        this.rooms[index] = room;
+        return index;
+    }
+
+    /**
+     * Removes the specified room from the table, its index being reused by the
+     * next room added.
+     * 
+     * @param room
+     *            The room to remove.
+     */
+    public synchronized void remove (final Room room) {
+        int index = room.getIndex();
+        if (this.rooms[index] != room) {
+            return;
+        }
+        this.rooms[index] = null;
+        clearExits(index);
+        if (this.nbFree == this.freeIndexes.length) {
+            this.freeIndexes = Arrays.copyOf(this.freeIndexes, Math.max(16, this.nbFree * 2));
+        }
+        this.freeIndexes[this.nbFree++] = index;
+    }
+
+    /**
+     * Returns the room with the specified index.
+     * 
+     * @param index
+     *            The dense identifier of the room.
+     * @return The room or <code>null</code> if no room has this index.
+     */
+    public Room get (final int index) {
+        return index >= 0 && index < this.highWater ? this.rooms[index] : null;
+    }
+
+    /**
+     * Returns the number of rooms in the table.
+     * 
+     * @return Number of rooms.
+     */
+    public int size () {
+        return this.highWater - this.nbFree;
+    }
+
+    /**
+     * Returns the index of the next room in the specified direction.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @return The index of the next room, {@link #LINK} if the exit leads to
+     *         another zone or <code>-1</code> if there is no exit.
+     */
+    public int getNeighbor (final int index, final Direction direction) {
+        return this.neighbors[index * NB_DIRECTIONS + direction.ordinal()];
+    }
+
+    /**
+     * Copies the indexes of the next rooms of the specified room, indexed by
+     * {@link Direction#ordinal()}.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param dst
+     *            Array of at least {@link #NB_DIRECTIONS} slots receiving the
+     *            indexes, <code>-1</code> standing for no exit and {@link #LINK}
+     *            for an exit to another zone.
+     */
+    public void getNeighbors (final int index, final int[] dst) {
+        System.arraycopy(this.neighbors, index * NB_DIRECTIONS, dst, 0, NB_DIRECTIONS);
+    }
+
+    /**
+     * Returns the description of the exit in the specified direction.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @return The description or <code>null</code> if none is provided.
+     */
+    String getExitDescription (final int index, final Direction direction) {
+        return this.exitDescriptions[index * NB_DIRECTIONS + direction.ordinal()];
+    }
+
+    /**
+     * Specifies the next room in the specified direction.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @param neighbor
+     *            The index of the next room or <code>-1</code> to remove the
+     *            exit.
+     */
+    synchronized void setNeighbor (final int index, final Direction direction, final int neighbor) {
+        int slot = index * NB_DIRECTIONS + direction.ordinal();
+        if (this.neighbors[slot] == LINK) {
+            this.links.remove(slot);
+        }
+        this.neighbors[slot] = neighbor;
+    }
+
+    /**
+     * Returns the path of the target of the exit in the specified direction, if
+     * the exit leads to another zone.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @return The path <i>world.region.zone.room</i> of the target or
+     *         <code>null</code> if the exit does not lead to another zone.
+     */
+    public String getLink (final int index, final Direction direction) {
+        int slot = index * NB_DIRECTIONS + direction.ordinal();
+        return this.neighbors[slot] == LINK ? this.links.get(slot) : null;
+    }
+
+    /**
+     * Specifies that the exit in the specified direction leads to another zone.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @param path
+     *            The path <i>world.region.zone.room</i> of the target.
+     */
+    synchronized void setLink (final int index, final Direction direction, final String path) {
+        int slot = index * NB_DIRECTIONS + direction.ordinal();
+        this.neighbors[slot] = LINK;
+        this.links.put(slot, path);
+    }
+
+    /**
+     * Returns the number of exits leading to another zone.
+     * 
+     * @return Number of links.
+     */
+    public int getNbLinks () {
+        return this.links.size();
+    }
+
+    /**
+     * Specifies the resolver loading the targets of the links that are not
+     * loaded.
+     * 
+     * @param resolver
+     *            The resolver, or <code>null</code> to only resolve the loaded
+     *            targets.
+     */
+    public void setLinkResolver (final LinkResolver resolver) {
+        this.linkResolver = resolver;
+    }
+
+    /**
+     * Resolves a link whose target is not loaded. The table is not locked
+     * while the resolver loads the target.
+     * 
+     * @param path
+     *            The path <i>world.region.zone.room</i> of the target.
+     * @return The target or <code>null</code> if it cannot be loaded.
+     */
+    Room resolveLink (final String path) {
+        LinkResolver resolver = this.linkResolver;
+        return resolver != null ? resolver.resolve(path) : null;
+    }
+
+    /**
+     * Specifies the description of the exit in the specified direction.
+     * 
+     * @param index
+     *            The index of the room.
+     * @param direction
+     *            Direction of the exit.
+     * @param desc
+     *            The description of the exit.
+     */
+    synchronized void setExitDescription (final int index, final Direction direction, final String desc) {
+        this.exitDescriptions[index * NB_DIRECTIONS + direction.ordinal()] = desc;
+    }
+
+    /**
+     * Removes all the exits of the specified room.
+     * 
+     * @param index
+     *            The index of the room.
+     */
+    synchronized void clearExits (final int index) {
+        int from = index * NB_DIRECTIONS;
+        if (!this.links.isEmpty()) {
+            for (int slot = from; slot < from + NB_DIRECTIONS; slot++) {
+                if (this.neighbors[slot] == LINK) {
+                    this.links.remove(slot);
+                }
+            }
+        }
+        Arrays.fill(this.neighbors, from, from + NB_DIRECTIONS, -1);
+        Arrays.fill(this.exitDescriptions, from, from + NB_DIRECTIONS, null);
+    }
+
+    /**
+     * Returns the number of slots of the table, free or not. The indexes of the
+     * rooms are lower than this number.
+     * 
+     * @return The number of slots used so far.
+     */
+    int capacity () {
+        return this.highWater;
+    }
+
+    /**
+     * Returns the flat array of the exits, to be read by the graph algorithms on
+     * the thread running the game. The array is replaced when the table grows.
+     * 
+     * @return The live array of the exits.
+     */
+    int[] neighbors () {
+        return this.neighbors;
+    }
+
+    /**
+     * Returns the array of the rooms, to be read by the graph algorithms on the
+     * thread running the game. The array is replaced when the table grows.
+     * 
+     * @return The live array of the rooms.
+     */
+    Room[] rooms () {
+        return this.rooms;
+    }
+
+    private void grow () {
+        int capacity = this.rooms.length + (this.rooms.length >> 1);
+        this.rooms = Arrays.copyOf(this.rooms, capacity);
+        int oldLength = this.neighbors.length;
+        this.neighbors = Arrays.copyOf(this.neighbors, capacity * NB_DIRECTIONS);
+        Arrays.fill(this.neighbors, oldLength, this.neighbors.length, -1);
+        this.exitDescriptions = Arrays.copyOf(this.exitDescriptions, capacity * NB_DIRECTIONS);
+    }
+
+    /**
+     * Loads the target of a link leading to a zone that is not loaded.
+     */
+    @FunctionalInterface
+    public interface LinkResolver {
+
+        /**
+         * Returns the room with the specified path, loading its zone if needed.
+         * 
+         * @param path
+         *            The path <i>world.region.zone.room</i> of the room.
+         * @return The room or <code>null</code> if it cannot be loaded.
+         */
+        Room resolve (String path);
+    }
+}
@@ -38,6 +38,9 @@ public class World {
     private final String name;
     private final String description;
     private final HashMap<String, Region> regions;
+    private final RoomTable rooms;
+    private final PathIndex paths;
+    private final PathFinder finder;
 
     private Region entryPoint;
 
@@ -57,9 +60,41 @@ public class World {
         this.name = name;
         this.description = desc;
         this.regions = new HashMap<>();
+        this.rooms = new RoomTable();
+        this.paths = new PathIndex(this);
+        this.finder = new PathFinder(this);
         this.entryPoint = null;
     }
 
+    /**
+     * Returns the table of the rooms loaded in this world.
+     * 
+     * @return The table of the loaded rooms.
+     */
+    public RoomTable getRoomTable () {
+        return this.rooms;
+    }
+
+    /**
+     * Returns the index resolving the paths and the identifiers of the rooms
+     * loaded in this world.
+     * 
+     * @return The index of the loaded rooms.
+     */
+    public PathIndex getPathIndex () {
+        return this.paths;
+    }
+
+    /**
+     * Returns the service computing the routes between the rooms loaded in this
+     * world.
+     * 
+     * @return The path finder of this world.
+     */
+    public PathFinder getPathFinder () {
+        return this.finder;
+    }
+
     /**
      * Returns the world identifier.
      * 
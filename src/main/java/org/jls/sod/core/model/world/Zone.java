@@ -42,6 +42,8 @@ public class Zone {
     // private final Room[][] map;
 
     private Room entryPoint;
+    private boolean isDirty;
+    private int revision;
 
     /**
      * Instantiates a new zone.
@@ -62,6 +64,8 @@ public class Zone {
         this.rooms = new HashMap<>();
         this.region = region;
         this.entryPoint = null;
+        this.isDirty = false;
+        this.revision = 0;
         // this.map = null;
     }
 
@@ -74,6 +78,25 @@ public class Zone {
         return this.id;
     }
 
+    /**
+     * Returns the revision of the rooms of this zone and of their exits,
+     * incremented each time a room is added or its exits are changed. It allows
+     * the structures derived from the graph of the zone to detect that they are
+     * outdated.
+     *
+     * @return The revision of the zone.
+     */
+    public int getRevision () {
+        return this.revision;
+    }
+
+    /**
+     * Specifies that the exits of a room of this zone have changed.
+     */
+    void incrementRevision () {
+        this.revision++;
+    }
+
     /**
      * Returns the zone name.
      *
@@ -102,8 +125,10 @@ public class Zone {
     }
 
     /**
-     * Adds the specified room to the map of the rooms. If the map previously
-     * contained a mapping for the room, the old value is replaced.
+     * Adds the specified room to the map of the rooms and to the
+     * {@link PathIndex} of the world. If the map previously contained a mapping
+     * for the room, the old value is replaced and removed from the
+     * {@link RoomTable} and the {@link PathIndex}.
      *
      * @param room
      *            The room to add to the map.
@@ -111,7 +136,15 @@ public class Zone {
      *         was no mapping for this room.
      */
     public Room putRoom (final Room room) {
-        return this.rooms.put(room.getId(), room);
+        Room previous = this.rooms.put(room.getId(), room);
+        this.revision++;
+        PathIndex index = this.region.getWorld().getPathIndex();
+        if (previous != null && previous != room) {
+            this.region.getWorld().getRoomTable().remove(previous);
+            index.remove(previous);
+        }
+        index.add(room);
+        return previous;
     }
 
     /**
@@ -154,4 +187,27 @@ public class Zone {
     public void setEntryPoint (final Room entry) {
         this.entryPoint = entry;
     }
+
+    /**
+     * Tells if the state of the rooms of this zone (visited rooms, items) has been
+     * modified since the zone has been loaded or saved.
+     *
+     * @return <code>true</code> if the state of this zone has to be saved,
+     *         <code>false</code> otherwise.
+     */
+    public boolean isDirty () {
+        return this.isDirty;
+    }
+
+    /**
+     * Specifies if the state of the rooms of this zone has been modified since the
+     * zone has been loaded or saved.
+     *
+     * @param isDirty
+     *            <code>true</code> if the state of this zone has to be saved,
+     *            <code>false</code> otherwise.
+     */
+    public void setDirty (final boolean isDirty) {
+        this.isDirty = isDirty;
+    }
 }
@@ -0,0 +1,475 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jls.sod.core.model.Direction;
+
+/**
+ * Graph of the exits between the rooms of a zone, searched with A* and the
+ * landmarks heuristic (ALT).
+ * <p>
+ * The exits are copied from the {@link RoomTable} into compact adjacency
+ * arrays (forward and reverse), the rooms being numbered from <code>0</code>
+ * in the zone in the order of their index in the table. A few landmarks far from each other are chosen, and the
+ * distances from and to each landmark are computed for all the rooms. By the
+ * triangle inequality, they give a lower bound of the distance between any two
+ * rooms, which drives A* towards the target and lets it explore a small part
+ * of the zone. The distances are stored as unsigned 16 bits values, clamped to
+ * {@link #MAX_DISTANCE}, which keeps the bound admissible.
+ * </p>
+ * <p>
+ * Only the exits between rooms of the zone are part of the graph : the routes
+ * found are the shortest ones staying in the zone. The distance from each room
+ * to the nearest room having an exit that leaves the zone is kept as well, which
+ * bounds the length of any route leaving the zone (see
+ * {@link #getMinLeavingLength(Room)}). The graph is
+ * a snapshot of the zone at the revision {@link #getRevision()}. The search
+ * arrays are allocated once and reused by the next searches, the rooms reached
+ * being told apart by a stamp : a graph must not be searched concurrently.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+final class ZoneGraph {
+
+    /**
+     * Number of landmarks of a zone.
+     */
+    static final int NB_LANDMARKS = 4;
+
+    private static final char UNREACHABLE = 0xFFFF;
+    private static final char MAX_DISTANCE = 0xFFFE;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int revision;
+    private final int[] roomIndexes;
+    private final int[] firstEdge;
+    private final int[] edgeTargets;
+    private final byte[] edgeDirections;
+    private final int[] firstReverseEdge;
+    private final int[] reverseEdgeTargets;
+    private final char[][] fromLandmarks;
+    private final char[][] toLandmarks;
+    private final char[] toExits;
+
+    private int[] costs;
+    private int[] parents;
+    private byte[] parentDirections;
+    private int[] stamps;
+    private IntHeap open;
+    private int stamp;
+
+    /**
+     * Builds the graph of the specified zone.
+     * 
+     * @param zone
+     *            The zone, whose rooms are loaded.
+     * @param table
+     *            The table of the rooms of the world.
+     */
+    ZoneGraph(final Zone zone, final RoomTable table) {
+        this.revision = zone.getRevision();
+        int n = zone.getRooms().size();
+        this.roomIndexes = new int[n];
+        int i = 0;
+        for (Room room : zone.getRooms().values()) {
+            this.roomIndexes[i++] = room.getIndex();
+        }
+        // The identifier of a room in the zone is its rank in the sorted indexes
+        Arrays.sort(this.roomIndexes);
+
+        // Copies the exits between the rooms of the zone
+        this.firstEdge = new int[n + 1];
+        this.firstReverseEdge = new int[n + 1];
+        int[] exits = new int[n];
+        int nbExits = 0;
+        int[] neighbors = table.neighbors();
+        for (int u = 0; u < n; u++) {
+            int from = this.roomIndexes[u] * RoomTable.NB_DIRECTIONS;
+            boolean isLeaving = false;
+            for (int d = 0; d < RoomTable.NB_DIRECTIONS; d++) {
+                int neighbor = neighbors[from + d];
+                int v = localId(neighbor);
+                if (v >= 0) {
+                    this.firstEdge[u + 1]++;
+                    this.firstReverseEdge[v + 1]++;
+                } else if (neighbor >= 0 || neighbor == RoomTable.LINK) {
+                    isLeaving = true;
+                }
+            }
+            if (isLeaving) {
+                exits[nbExits++] = u;
+            }
+        }
+        for (int u = 0; u < n; u++) {
+            this.firstEdge[u + 1] += this.firstEdge[u];
+            this.firstReverseEdge[u + 1] += this.firstReverseEdge[u];
+        }
+        this.edgeTargets = new int[this.firstEdge[n]];
+        this.edgeDirections = new byte[this.firstEdge[n]];
+        this.reverseEdgeTargets = new int[this.firstReverseEdge[n]];
+        int[] reverseFill = Arrays.copyOf(this.firstReverseEdge, n);
+        int e = 0;
+        for (int u = 0; u < n; u++) {
+            int from = this.roomIndexes[u] * RoomTable.NB_DIRECTIONS;
+            for (int d = 0; d < RoomTable.NB_DIRECTIONS; d++) {
+                int v = localId(neighbors[from + d]);
+                if (v >= 0) {
+                    this.edgeTargets[e] = v;
+                    this.edgeDirections[e++] = (byte) d;
+                    this.reverseEdgeTargets[reverseFill[v]++] = u;
+                }
+            }
+        }
+
+        // Chooses each landmark as far as possible from the previous ones
+        int nbLandmarks = Math.min(NB_LANDMARKS, n);
+        this.fromLandmarks = new char[nbLandmarks][];
+        this.toLandmarks = new char[nbLandmarks][];
+        int[] queue = new int[n];
+        int[] landmark = { 0 };
+        if (n > 0) {
+            landmark[0] = farthest(distances(landmark, 1, this.firstEdge, this.edgeTargets, queue), null);
+        }
+        for (int k = 0; k < nbLandmarks; k++) {
+            this.fromLandmarks[k] = distances(landmark, 1, this.firstEdge, this.edgeTargets, queue);
+            this.toLandmarks[k] = distances(landmark, 1, this.firstReverseEdge, this.reverseEdgeTargets, queue);
+            if (k + 1 < nbLandmarks) {
+                landmark[0] = farthest(null, Arrays.copyOf(this.fromLandmarks, k + 1));
+            }
+        }
+        this.toExits = distances(exits, nbExits, this.firstReverseEdge, this.reverseEdgeTargets, queue);
+    }
+
+    /**
+     * Returns the revision of the zone this graph has been built from.
+     * 
+     * @return The revision of the zone.
+     */
+    int getRevision () {
+        return this.revision;
+    }
+
+    /**
+     * Returns the shortest route between two rooms of the zone, staying in the
+     * zone.
+     * 
+     * @param from
+     *            The room of departure.
+     * @param to
+     *            The room of destination.
+     * @return The directions to follow, or <code>null</code> if the destination
+     *         cannot be reached without leaving the zone.
+     */
+    List<Direction> findPath (final Room from, final Room to) {
+        int source = localId(from.getIndex());
+        int target = localId(to.getIndex());
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        if (source == target) {
+            return Collections.emptyList();
+        }
+        int h = bound(source, target);
+        if (h < 0) {
+            return null;
+        }
+        // A room is reached if its stamp is the current one, closed if it is the
+        // next one
+        int reached = nextStamp();
+        int closed = reached + 1;
+        int[] costs = this.costs;
+        int[] stamps = this.stamps;
+        IntHeap open = this.open;
+        open.clear();
+        costs[source] = 0;
+        stamps[source] = reached;
+        open.push(source, key(0, h));
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (stamps[u] == closed) {
+                continue;
+            }
+            if (u == target) {
+                return route(source, target);
+            }
+            stamps[u] = closed;
+            int g = costs[u] + 1;
+            for (int e = this.firstEdge[u]; e < this.firstEdge[u + 1]; e++) {
+                int v = this.edgeTargets[e];
+                if (stamps[v] == closed || stamps[v] == reached && g >= costs[v]) {
+                    continue;
+                }
+                h = bound(v, target);
+                if (h < 0) {
+                    // The target cannot be reached from this room
+                    stamps[v] = closed;
+                    continue;
+                }
+                stamps[v] = reached;
+                costs[v] = g;
+                this.parents[v] = u;
+                this.parentDirections[v] = this.edgeDirections[e];
+                open.push(v, key(g, h));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a lower bound of the length of the routes from the specified room
+     * that leave the zone : the distance to the nearest room having an exit out
+     * of the zone, plus the exit, plus at least one exit to come back. A route
+     * found by {@link #findPath(Room, Room)} that is not longer is the shortest
+     * route through all the loaded rooms.
+     * 
+     * @param from
+     *            The room of departure.
+     * @return The minimum length of a route leaving the zone, or
+     *         {@link Integer#MAX_VALUE} if no route can leave the zone from this
+     *         room.
+     */
+    int getMinLeavingLength (final Room from) {
+        int source = localId(from.getIndex());
+        if (source < 0 || this.toExits[source] == UNREACHABLE) {
+            return Integer.MAX_VALUE;
+        }
+        return this.toExits[source] + 2;
+    }
+
+    /**
+     * Returns the number of rooms of the graph.
+     * 
+     * @return Number of rooms.
+     */
+    int size () {
+        return this.roomIndexes.length;
+    }
+
+    /**
+     * Returns the identifier in the zone of the room with the specified index,
+     * or <code>-1</code> if the room does not belong to the zone.
+     */
+    private int localId (final int index) {
+        if (index < 0) {
+            return -1;
+        }
+        int i = Arrays.binarySearch(this.roomIndexes, index);
+        return i >= 0 ? i : -1;
+    }
+
+    /**
+     * Returns a lower bound of the distance from the room <code>v</code> to the
+     * target, or <code>-1</code> if the landmarks prove that the target cannot
+     * be reached from <code>v</code>.
+     */
+    private int bound (final int v, final int target) {
+        int bound = 0;
+        for (int k = 0; k < this.fromLandmarks.length; k++) {
+            // d(L, t) <= d(L, v) + d(v, t)
+            char lv = this.fromLandmarks[k][v];
+            char lt = this.fromLandmarks[k][target];
+            if (lv != UNREACHABLE) {
+                if (lt == UNREACHABLE) {
+                    return -1;
+                }
+                bound = Math.max(bound, lt - lv);
+            }
+            // d(v, L) <= d(v, t) + d(t, L)
+            char vl = this.toLandmarks[k][v];
+            char tl = this.toLandmarks[k][target];
+            if (tl != UNREACHABLE) {
+                if (vl == UNREACHABLE) {
+                    return -1;
+                }
+                bound = Math.max(bound, vl - tl);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the stamp of a new search, allocating the search arrays on the
+     * first search and clearing them when the stamps wrap around.
+     */
+    private int nextStamp () {
+        int n = this.roomIndexes.length;
+        if (this.stamps == null) {
+            this.costs = new int[n];
+            this.parents = new int[n];
+            this.parentDirections = new byte[n];
+            this.stamps = new int[n];
+            this.open = new IntHeap();
+            this.stamp = 0;
+        }
+        if (this.stamp >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(this.stamps, 0);
+            this.stamp = 0;
+        }
+        this.stamp += 2;
+        return this.stamp;
+    }
+
+    /**
+     * Orders the rooms by estimated cost, then the deepest first : among the
+     * rooms on equally short routes, the nearest to the target is expanded
+     * first.
+     */
+    private static long key (final int g, final int h) {
+        return ((long) (g + h) << 32) - g;
+    }
+
+    private List<Direction> route (final int source, final int target) {
+        ArrayList<Direction> route = new ArrayList<>();
+        for (int v = target; v != source; v = this.parents[v]) {
+            route.add(DIRECTIONS[this.parentDirections[v]]);
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    /**
+     * Computes the distances from the nearest of the specified rooms following
+     * the specified edges, with a breadth-first search.
+     */
+    private char[] distances (final int[] sources, final int nbSources, final int[] first, final int[] targets,
+            final int[] queue) {
+        char[] distances = new char[this.roomIndexes.length];
+        Arrays.fill(distances, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < nbSources; i++) {
+            distances[sources[i]] = 0;
+            queue[tail++] = sources[i];
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            char next = (char) Math.min(distances[u] + 1, MAX_DISTANCE);
+            for (int e = first[u]; e < first[u + 1]; e++) {
+                int v = targets[e];
+                if (distances[v] == UNREACHABLE) {
+                    distances[v] = next;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the room farthest from the specified source distances, or from the
+     * nearest of the specified landmarks. The unreachable rooms are ignored.
+     */
+    private int farthest (final char[] distances, final char[][] landmarks) {
+        int farthest = 0;
+        int farthestDistance = -1;
+        for (int v = 0; v < this.roomIndexes.length; v++) {
+            int d;
+            if (landmarks == null) {
+                d = distances[v] == UNREACHABLE ? -1 : distances[v];
+            } else {
+                d = Integer.MAX_VALUE;
+                for (char[] landmark : landmarks) {
+                    d = Math.min(d, landmark[v] == UNREACHABLE ? Integer.MAX_VALUE : landmark[v]);
+                }
+                d = d == Integer.MAX_VALUE ? -1 : d;
+            }
+            if (d > farthestDistance) {
+                farthest = v;
+                farthestDistance = d;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Binary min-heap of rooms ordered by their estimated cost, without
+     * decrease-key : a room pushed again is skipped once closed.
+     */
+    private static final class IntHeap {
+
+        private int[] nodes = new int[64];
+        private long[] keys = new long[64];
+        private int size = 0;
+
+        void clear () {
+            this.size = 0;
+        }
+
+        boolean isEmpty () {
+            return this.size == 0;
+        }
+
+        void push (final int node, final long key) {
+            if (this.size == this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, this.size * 2);
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            }
+            int i = this.size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (this.keys[parent] <= key) {
+                    break;
+                }
+                this.nodes[i] = this.nodes[parent];
+                this.keys[i] = this.keys[parent];
+                i = parent;
+            }
+            this.nodes[i] = node;
+            this.keys[i] = key;
+        }
+
+        int pop () {
+            int top = this.nodes[0];
+            int node = this.nodes[--this.size];
+            long key = this.keys[this.size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= this.size) {
+                    break;
+                }
+                if (child + 1 < this.size && this.keys[child + 1] < this.keys[child]) {
+                    child++;
+                }
+                if (this.keys[child] >= key) {
+                    break;
+                }
+                this.nodes[i] = this.nodes[child];
+                this.keys[i] = this.keys[child];
+                i = child;
+            }
+            this.nodes[i] = node;
+            this.keys[i] = key;
+            return top;
+        }
+    }
+}
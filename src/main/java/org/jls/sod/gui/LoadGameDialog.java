@@ -24,25 +24,36 @@
 
 package org.jls.sod.gui;
 
+import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.swing.JButton;
-import javax.swing.JComboBox;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
 import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jls.sod.core.GameController;
-import org.jls.sod.util.ResourceManager;
-import org.jls.toolbox.util.file.FileFilter;
+import org.jls.sod.core.loader.SavedGameInfo;
 
 import net.miginfocom.swing.MigLayout;
 
@@ -59,7 +70,10 @@ public class LoadGameDialog extends JDialog implements ActionListener {
     private final GameController controller;
     private final Logger logger;
 
-    private JComboBox<String> boxSavedGames;
+    private SavedGamesTableModel tableModel;
+    private TableRowSorter<SavedGamesTableModel> sorter;
+    private JTable tableSavedGames;
+    private JTextField tfFilter;
     private JButton btnLoad;
     private JButton btnCancel;
 
@@ -115,14 +129,27 @@ public class LoadGameDialog extends JDialog implements ActionListener {
      * Instantiate the components of the graphical user interface.
      */
     private void createComponents () {
-        String[] savedGames = new String[0];
+        // The saved games are listed from the catalog, their files are not read
+        List<SavedGameInfo> savedGames = new ArrayList<>();
         try {
-            savedGames = listSavedGames();
-        } catch (FileNotFoundException | RuntimeException e) {
+            savedGames.addAll(this.controller.getModel().getSavedGameCatalog().getSavedGames());
+        } catch (RuntimeException e) {
             this.logger.error("Failed to load saved games list", e);
         }
 
-        this.boxSavedGames = new JComboBox<>(savedGames);
+        this.tableModel = new SavedGamesTableModel(savedGames);
+        this.sorter = new TableRowSorter<>(this.tableModel);
+        // Most recently played games first
+        List<RowSorter.SortKey> keys = new ArrayList<>();
+        keys.add(new RowSorter.SortKey(SavedGamesTableModel.LAST_PLAYED, SortOrder.DESCENDING));
+        this.sorter.setSortKeys(keys);
+        this.tableSavedGames = new JTable(this.tableModel);
+        this.tableSavedGames.setRowSorter(this.sorter);
+        this.tableSavedGames.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        if (this.tableModel.getRowCount() > 0) {
+            this.tableSavedGames.setRowSelectionInterval(0, 0);
+        }
+        this.tfFilter = new JTextField();
         this.btnLoad = new JButton("Load");
         this.btnCancel = new JButton("Cancel");
     }
@@ -132,9 +159,11 @@ public class LoadGameDialog extends JDialog implements ActionListener {
      * interface.
      */
     private void setStyle () {
-        setLayout(new MigLayout("", "", "[]20lp[]"));
-        add(new JLabel("Saved games :"), "split, span");
-        add(this.boxSavedGames, "wrap");
+        setLayout(new MigLayout("", "", "[][]20lp[]"));
+        setPreferredSize(new Dimension(600, 400));
+        add(new JLabel("Filter :"), "split, span");
+        add(this.tfFilter, "growx, pushx, wrap");
+        add(new JScrollPane(this.tableSavedGames), "span, grow, push, wrap");
         add(this.btnLoad, "split, span, center");
         add(this.btnCancel, "");
     }
@@ -143,36 +172,52 @@ public class LoadGameDialog extends JDialog implements ActionListener {
      * Adds the listeners to the components of the graphical user interface.
      */
     private void addListeners () {
-        this.boxSavedGames.addActionListener(this);
         this.btnLoad.addActionListener(this);
         this.btnCancel.addActionListener(this);
-    }
+        this.tfFilter.getDocument().addDocumentListener(new DocumentListener() {
 
-    private File[] listSavedGamesFolders (final File savedGamesPath) throws FileNotFoundException {
-        if (!savedGamesPath.exists()) {
-            throw new FileNotFoundException("Saved games path not found " + savedGamesPath.getAbsolutePath());
-        }
+            @Override
+            public void insertUpdate (final DocumentEvent e) {
+                updateFilter();
+            }
 
-        File[] savedGamesDirectories = savedGamesPath.listFiles(new FileFilter(FileFilter.ONLY_FOLDERS));
-        if (savedGamesDirectories == null) {
-            throw new RuntimeException("Failed to load saved games directories list");
-        }
-        if (savedGamesDirectories.length == 0) {
-            return new File[0];
-        }
-        return savedGamesDirectories;
-    }
+            @Override
+            public void removeUpdate (final DocumentEvent e) {
+                updateFilter();
+            }
 
-    private String[] listSavedGames () throws RuntimeException, FileNotFoundException {
-        File[] savedGamesDirectories = listSavedGamesFolders(new File(ResourceManager.SAVED_PATH));
+            @Override
+            public void changedUpdate (final DocumentEvent e) {
+                updateFilter();
+            }
+        });
+    }
 
-        String[] savedGamesList = new String[savedGamesDirectories.length];
-        for (int i = 0; i < savedGamesList.length; i++) {
-            savedGamesList[i] = savedGamesDirectories[i].getName();
+    /**
+     * Only shows the saved games whose name, story or position contains the
+     * filter text.
+     */
+    private void updateFilter () {
+        String text = this.tfFilter.getText().trim();
+        if (text.isEmpty()) {
+            this.sorter.setRowFilter(null);
+        } else {
+            this.sorter.setRowFilter(RowFilter.regexFilter("(?i)" + Pattern.quote(text), SavedGamesTableModel.NAME,
+                    SavedGamesTableModel.STORY, SavedGamesTableModel.POSITION));
         }
-        Arrays.sort(savedGamesList);
+    }
 
-        return savedGamesList;
+    /**
+     * Returns the name of the selected saved game.
+     * 
+     * @return The selected saved game or <code>null</code> if none is selected.
+     */
+    private String getSelectedSavedGame () {
+        int row = this.tableSavedGames.getSelectedRow();
+        if (row < 0) {
+            return null;
+        }
+        return this.tableModel.getSavedGame(this.tableSavedGames.convertRowIndexToModel(row)).getName();
     }
 
     @Override
@@ -186,7 +231,10 @@ public class LoadGameDialog extends JDialog implements ActionListener {
             // Create
             if (this.btnLoad.equals(btn)) {
                 try {
-                    String savedGame = this.boxSavedGames.getSelectedItem().toString();
+                    String savedGame = getSelectedSavedGame();
+                    if (savedGame == null) {
+                        return;
+                    }
                     this.logger.debug("Load game {SavedGame={}}", savedGame);
                     this.controller.loadGame(savedGame);
                     dispose();
@@ -203,4 +251,75 @@ public class LoadGameDialog extends JDialog implements ActionListener {
             }
         }
     }
+
+    /**
+     * Table model listing the saved games.
+     */
+    private static class SavedGamesTableModel extends AbstractTableModel {
+
+        private static final long serialVersionUID = -3185287003596813187L;
+
+        private static final int NAME = 0;
+        private static final int STORY = 1;
+        private static final int POSITION = 2;
+        private static final int LAST_PLAYED = 3;
+        private static final int SIZE = 4;
+        private static final String[] COLUMNS = { "Name", "Story", "Position", "Last played", "Size (KB)" };
+
+        private final List<SavedGameInfo> savedGames;
+
+        public SavedGamesTableModel(final List<SavedGameInfo> savedGames) {
+            this.savedGames = savedGames;
+        }
+
+        public SavedGameInfo getSavedGame (final int row) {
+            return this.savedGames.get(row);
+        }
+
+        @Override
+        public int getRowCount () {
+            return this.savedGames.size();
+        }
+
+        @Override
+        public int getColumnCount () {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName (final int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass (final int column) {
+            switch (column) {
+                case LAST_PLAYED:
+                    return Date.class;
+                case SIZE:
+                    return Long.class;
+                default:
+                    return String.class;
+            }
+        }
+
+        @Override
+        public Object getValueAt (final int row, final int column) {
+            SavedGameInfo info = this.savedGames.get(row);
+            switch (column) {
+                case NAME:
+                    return info.getName();
+                case STORY:
+                    return info.getStoryId();
+                case POSITION:
+                    return info.getPosition();
+                case LAST_PLAYED:
+                    return new Date(info.getLastPlayed());
+                case SIZE:
+                    return info.getSize() / 1024;
+                default:
+                    throw new IllegalArgumentException("Unknown column " + column);
+            }
+        }
+    }
 }
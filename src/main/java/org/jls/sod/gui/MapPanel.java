@@ -26,13 +26,27 @@ package org.jls.sod.gui;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.util.Collections;
+import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
 
 import javax.swing.JPanel;
 
+import org.jls.sod.core.GameModel;
+import org.jls.sod.core.model.Direction;
+import org.jls.sod.core.model.world.MapLayout;
+import org.jls.sod.core.model.world.MapLayout.Cell;
+import org.jls.sod.core.model.world.Room;
+
 /**
  * Panel that show the map to the player.
+ * <p>
+ * The rooms of the {@link MapLayout} component where the player stands are
+ * drawn centered on the current room, with a stub for each of their exits. The
+ * conflicting rooms are drawn in red.
+ * </p>
  * 
  * @author AwaX
  * @date 27 nov. 2015
@@ -41,13 +55,61 @@ public class MapPanel extends JPanel implements Observer {
 
     private static final long serialVersionUID = 7402820924342923497L;
 
+    private static final int CELL_SIZE = 24;
+    private static final int ROOM_SIZE = 12;
+
+    private volatile List<Cell> cells;
+    private volatile Cell current;
+
     public MapPanel() {
         super();
+        this.cells = Collections.emptyList();
+        this.current = null;
         setPreferredSize(new Dimension(500, 500));
         setBackground(Color.black);
     }
 
     @Override
-    public void update (Observable arg0, Object arg1) {
+    public void update (Observable model, Object arg) {
+        if (!(arg instanceof MapLayout) || !(model instanceof GameModel)) {
+            return;
+        }
+        MapLayout layout = (MapLayout) arg;
+        Room room = ((GameModel) model).getRoom();
+        Cell cell = room != null ? layout.getCell(room) : null;
+        this.cells = cell != null ? layout.getCells(cell.getComponent()) : Collections.<Cell> emptyList();
+        this.current = cell;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent (Graphics g) {
+        super.paintComponent(g);
+        Cell center = this.current;
+        if (center == null) {
+            return;
+        }
+        int originX = getWidth() / 2;
+        int originY = getHeight() / 2;
+        for (Cell cell : this.cells) {
+            int x = originX + (cell.getX() - center.getX()) * CELL_SIZE;
+            int y = originY - (cell.getY() - center.getY()) * CELL_SIZE;
+            if (x < -CELL_SIZE || y < -CELL_SIZE || x > getWidth() + CELL_SIZE || y > getHeight() + CELL_SIZE) {
+                continue;
+            }
+            g.setColor(Color.gray);
+            for (Direction direction : Direction.values()) {
+                if (direction != Direction.CENTER && cell.hasExit(direction)) {
+                    g.drawLine(x, y, x + MapLayout.dx(direction) * CELL_SIZE / 2,
+                            y - MapLayout.dy(direction) * CELL_SIZE / 2);
+                }
+            }
+            if (cell.getPath().equals(center.getPath())) {
+                g.setColor(Color.yellow);
+            } else {
+                g.setColor(cell.isConflicting() ? Color.red : Color.white);
+            }
+            g.fillRect(x - ROOM_SIZE / 2, y - ROOM_SIZE / 2, ROOM_SIZE, ROOM_SIZE);
+        }
     }
 }
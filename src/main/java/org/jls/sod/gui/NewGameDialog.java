@@ -27,8 +27,6 @@ package org.jls.sod.gui;
 import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.File;
-
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
@@ -46,9 +44,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jls.sod.core.GameController;
 import org.jls.sod.core.GameModel;
-import org.jls.sod.core.loader.Loader;
-import org.jls.sod.core.model.Story;
-import org.jls.sod.util.ResourceManager;
+import org.jls.sod.core.loader.StoryInfo;
 import org.jls.toolbox.util.ArrayUtils;
 import org.jls.toolbox.util.TimeUtils;
 
@@ -170,15 +166,14 @@ public class NewGameDialog extends JDialog implements ActionListener {
      *                Identifier of the story.
      */
     private void updateDescription (final String storyId) {
-        File storyDir = new File(ResourceManager.STORIES_PATH, storyId);
-        File storyFile = new File(storyDir, "story.xml");
-        Story story;
-        try {
-            story = Loader.loadStory(storyFile);
-            this.tfDescription.setText(story.getDescription());
-        } catch (Exception e) {
-            this.logger.error("Cannot load story file", e);
-            pop("Story File Error", "Cannot load story file :\n\n" + e.getMessage(), JOptionPane.ERROR_MESSAGE);
+        StoryInfo story = this.model.getStoryCatalog().get(storyId);
+        if (story != null) {
+            this.tfDescription.setText(story.getDescription() + "\n\n" + story.getRoomCount() + " rooms, "
+                    + story.getItemCount() + " items");
+            this.tfDescription.setCaretPosition(0);
+        } else {
+            this.logger.error("Story not found in the catalog : {}", storyId);
+            pop("Story File Error", "Cannot load story " + storyId, JOptionPane.ERROR_MESSAGE);
         }
     }
 
@@ -196,11 +191,17 @@ public class NewGameDialog extends JDialog implements ActionListener {
                 String saveName = this.tfSaveName.getText();
                 try {
                     this.logger.debug("Create new game {Story={}, SaveName={}}", story, saveName);
-                    boolean created = this.controller.createNewGame(story, saveName);
-                    if (created) {
-                        dispose();
-                    }
+                    // The story is validated in background, the dialog waits for the result
+                    this.btnCreate.setEnabled(false);
+                    this.controller.createNewGame(story, saveName, created -> {
+                        if (created) {
+                            dispose();
+                        } else {
+                            this.btnCreate.setEnabled(true);
+                        }
+                    });
                 } catch (Exception e1) {
+                    this.btnCreate.setEnabled(true);
                     this.logger.error("Cannot create new game", e1);
                     pop("Game Creation Error", "Cannot create new game : \n\n" + e1.getMessage(),
                             JOptionPane.ERROR_MESSAGE);
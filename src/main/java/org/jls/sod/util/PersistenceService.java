@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Performs the disk writes of the application on a dedicated thread, so that
+ * the commands executed on the Swing thread do not wait for the disk.
+ * <p>
+ * Each write is submitted with a key identifying what it saves. A write
+ * replacing a pending write with the same key takes its place in the queue, so
+ * ten quick moves produce a single write of the last position. The queue is
+ * bounded : submitting a new key blocks while the queue is full. Errors are
+ * logged and reported to the error handler through the callback executor.
+ * </p>
+ */
+public class PersistenceService implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * A write to perform.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws Exception;
+    }
+
+    private final Logger logger;
+    private final int capacity;
+    private final LinkedHashMap<String, Write> pending;
+    private final Executor callbackExecutor;
+    private final BiConsumer<String, Exception> errorHandler;
+    private final Thread worker;
+
+    /**
+     * Key of the write being performed, <code>null</code> if none.
+     */
+    private String writingKey;
+    private boolean isClosed;
+
+    /**
+     * Starts a new persistence service.
+     *
+     * @param capacity
+     *            Maximum number of pending writes.
+     * @param callbackExecutor
+     *            Executor used to report the errors, typically the Swing event
+     *            dispatch thread.
+     * @param errorHandler
+     *            Called with the key and the cause of a failed write.
+     */
+    public PersistenceService(final int capacity, final Executor callbackExecutor,
+            final BiConsumer<String, Exception> errorHandler) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive integer : " + capacity);
+        }
+        this.logger = LogManager.getLogger();
+        this.capacity = capacity;
+        this.pending = new LinkedHashMap<>();
+        this.callbackExecutor = callbackExecutor;
+        this.errorHandler = errorHandler;
+        this.writingKey = null;
+        this.isClosed = false;
+        this.worker = new Thread(this::processWrites, "persistence");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Submits a write, replacing the pending write with the same key if any.
+     *
+     * @param key
+     *            Identifies what the write saves.
+     * @param write
+     *            The write to perform.
+     */
+    public synchronized void submit(final String key, final Write write) {
+        if (this.isClosed) {
+            throw new IllegalStateException("Persistence service is closed");
+        }
+        if (this.pending.containsKey(key)) {
+            this.pending.put(key, write);
+            this.logger.trace("Write {} coalesced", key);
+            return;
+        }
+        while (this.pending.size() >= this.capacity && !this.isClosed) {
+            waitUninterruptibly();
+        }
+        this.pending.put(key, write);
+        notifyAll();
+    }
+
+    /**
+     * Waits until all the writes submitted so far have been performed.
+     */
+    public synchronized void flush() {
+        if (Thread.currentThread() == this.worker) {
+            throw new IllegalStateException("Cannot flush from the persistence thread");
+        }
+        while (!this.pending.isEmpty() || this.writingKey != null) {
+            waitUninterruptibly();
+        }
+    }
+
+    /**
+     * Waits until the write submitted with the specified key, if any, has been
+     * performed. The other pending writes are not waited for.
+     *
+     * @param key
+     *            Identifies what the write saves.
+     */
+    public synchronized void flush(final String key) {
+        if (Thread.currentThread() == this.worker) {
+            throw new IllegalStateException("Cannot flush from the persistence thread");
+        }
+        while (this.pending.containsKey(key) || key.equals(this.writingKey)) {
+            waitUninterruptibly();
+        }
+    }
+
+    /**
+     * Performs the pending writes and stops the service.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.isClosed) {
+                return;
+            }
+            flush();
+            this.isClosed = true;
+            notifyAll();
+        }
+        try {
+            this.worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void processWrites() {
+        while (true) {
+            String key;
+            Write write;
+            synchronized (this) {
+                while (this.pending.isEmpty() && !this.isClosed) {
+                    waitUninterruptibly();
+                }
+                if (this.pending.isEmpty()) {
+                    return;
+                }
+                Iterator<Map.Entry<String, Write>> it = this.pending.entrySet().iterator();
+                Map.Entry<String, Write> entry = it.next();
+                it.remove();
+                key = entry.getKey();
+                write = entry.getValue();
+                this.writingKey = key;
+                notifyAll();
+            }
+            try {
+                write.run();
+            } catch (Exception e) {
+                this.logger.error("Write {} failed", key, e);
+                this.callbackExecutor.execute(() -> this.errorHandler.accept(key, e));
+            } finally {
+                synchronized (this) {
+                    this.writingKey = null;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void waitUninterruptibly() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the persistence service", e);
+        }
+    }
+}
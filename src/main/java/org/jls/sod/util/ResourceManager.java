@@ -49,6 +49,9 @@ public class ResourceManager {
     public static final String DATA_PATH = USER_DIR + slash + "data";
     public static final String STORIES_PATH = DATA_PATH + slash + "stories";
     public static final String SAVED_PATH = DATA_PATH + slash + "saved";
+    public static final String STORIES_INDEX_PATH = DATA_PATH + slash + "stories.idx";
+    public static final String SAVED_INDEX_PATH = DATA_PATH + slash + "saved.idx";
+    public static final String PLAYER_TEMPLATE_PATH = DATA_PATH + slash + "player_template.xml";
 
     public static final String LOG4J_FILE = "log4j2.xml";
 
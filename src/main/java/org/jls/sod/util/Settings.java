@@ -31,18 +31,22 @@ import org.apache.commons.configuration2.builder.FileBasedConfigurationBuilder;
 import org.apache.commons.configuration2.builder.fluent.Parameters;
 import org.apache.commons.configuration2.builder.fluent.PropertiesBuilderParameters;
 import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class Settings {
 
     private final String SETTINGS_FILENAME = "settings.properties";
+    private static final int DEFAULT_MAX_RESIDENT_ROOMS = 100000;
 
     private final Logger logger;
     private final FileBasedConfigurationBuilder<FileBasedConfiguration> builder;
+    private final PersistenceService persistence;
 
-    public Settings() {
+    public Settings(final PersistenceService persistence) {
         this.logger = LogManager.getLogger();
+        this.persistence = persistence;
         this.builder = new FileBasedConfigurationBuilder<FileBasedConfiguration>(PropertiesConfiguration.class);
 
         configureBuilder(builder, new File(ResourceManager.DATA_PATH, SETTINGS_FILENAME));
@@ -51,7 +55,9 @@ public class Settings {
     public void configureBuilder(FileBasedConfigurationBuilder<FileBasedConfiguration> builder, final File file) {
         Parameters params = new Parameters();
 
-        PropertiesBuilderParameters builderParams = params.properties().setFile(file);
+        // The settings are saved by the persistence thread while being read
+        PropertiesBuilderParameters builderParams = params.properties().setFile(file)
+                .setSynchronizer(new ReadWriteSynchronizer());
         builder.configure(builderParams);
     }
 
@@ -59,7 +65,7 @@ public class Settings {
         try {
             Configuration config = builder.getConfiguration();
             config.setProperty(key, value);
-            builder.save();
+            persistence.submit("settings", builder::save);
         } catch (final Exception e) {
             this.logger.error(e);
         }
@@ -88,4 +94,22 @@ public class Settings {
     public void setLastPlayedGame(final String instanceName) {
         setProperty("settings.game.lastPlayedGame", instanceName);
     }
+
+    public boolean isHotReloadEnabled() {
+        String hotReload = getString("settings.game.hotReload");
+        return Boolean.valueOf(hotReload);
+    }
+
+    public int getMaxResidentRooms() {
+        String maxRooms = getString("settings.game.maxResidentRooms");
+        if (maxRooms == null || maxRooms.isEmpty()) {
+            return DEFAULT_MAX_RESIDENT_ROOMS;
+        }
+        try {
+            return Integer.parseInt(maxRooms.trim());
+        } catch (NumberFormatException e) {
+            this.logger.warn("Invalid maximum number of resident rooms : {}", maxRooms);
+            return DEFAULT_MAX_RESIDENT_ROOMS;
+        }
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jls.sod.core.model.Sense;
+import org.jls.sod.core.model.Story;
+import org.jls.sod.core.model.character.Ability;
+import org.jls.sod.core.model.character.AbilityScores;
+import org.jls.sod.core.model.character.Character;
+import org.jls.sod.core.model.character.Monster;
+import org.jls.sod.core.model.character.ScoreComponent;
+import org.jls.sod.core.model.item.Item;
+import org.jls.sod.util.ResourceManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that the {@link JdomGameDataReader} and the
+ * {@link StaxGameDataReader} build the same objects from the same files.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class GameDataReaderTest {
+
+    private static final File TUTORIAL_DIR = new File(ResourceManager.STORIES_PATH, "Tutorial");
+
+    private final GameDataReader jdom = new JdomGameDataReader();
+    private final GameDataReader stax = new StaxGameDataReader();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readersAgreeOnTutorialStory () throws IOException {
+        assertStoryEquals(new File(TUTORIAL_DIR, "story.xml"));
+        List<File> files = xmlFiles(new File(TUTORIAL_DIR, "worlds"));
+        assertFalse(files.isEmpty());
+        for (File file : files) {
+            String name = file.getName();
+            if (name.equals("world.xml") || name.equals("region.xml") || name.equals("zone.xml")) {
+                assertAreaEquals(file);
+            } else {
+                assertRoomEquals(file);
+            }
+        }
+        for (File file : xmlFiles(new File(TUTORIAL_DIR, "items"))) {
+            assertItemEquals(file);
+        }
+        for (File file : xmlFiles(new File(TUTORIAL_DIR, "monsters"))) {
+            assertMonsterEquals(file);
+        }
+    }
+
+    @Test
+    public void readersAgreeOnPlayerTemplate () throws IOException {
+        File file = new File(ResourceManager.PLAYER_TEMPLATE_PATH);
+        Character expected = this.jdom.readCharacter(file);
+        Character actual = this.stax.readCharacter(file);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        AbilityScores expectedScores = expected.getAbilities();
+        AbilityScores actualScores = actual.getAbilities();
+        for (Ability ability : Ability.values()) {
+            for (ScoreComponent component : ScoreComponent.values()) {
+                assertEquals(ability + " " + component, expectedScores.get(ability, component),
+                        actualScores.get(ability, component));
+            }
+        }
+    }
+
+    @Test
+    public void textsAreNormalizedAndUnescaped () throws IOException {
+        File file = this.folder.newFile("room.xml");
+        Files.write(file.toPath(), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<Room id=\"r\" name=\"Room\">\n"
+                + "  <ShortDescription>\n\t  Une   salle.  \n</ShortDescription>\n"
+                + "  <LongDescription>  Première   ligne.\\nSeconde\n\tligne.  </LongDescription>\n"
+                + "  <Directions><north id=\"n\">\n  Vers  le   nord. </north></Directions>\n"
+                + "  <Senses><inspect>  Rien   de\n particulier. </inspect><feel /><touch /><smell />"
+                + "<taste /><listen /></Senses>\n"
+                + "</Room>\n").getBytes(StandardCharsets.UTF_8));
+
+        assertRoomEquals(file);
+        RoomData room = this.stax.readRoom(file);
+        assertEquals("Une salle.", room.getShortDescription());
+        assertEquals("Première ligne.\nSeconde ligne.", room.getLongDescription());
+        assertEquals("Vers le nord.", room.getNeighborsDescription().values().iterator().next());
+        assertEquals("Rien de particulier.", room.getSensesDescription().get(Sense.INSPECT));
+        assertFalse(room.getSensesDescription().containsKey(Sense.FEEL));
+    }
+
+    @Test
+    public void roomTextsArePooled () throws IOException {
+        File file = xmlFiles(new File(TUTORIAL_DIR, "worlds")).stream()
+                .filter(f -> f.getParentFile().getName().equals("rooms")).findFirst().get();
+        for (GameDataReader reader : new GameDataReader[] { this.jdom, this.stax }) {
+            StringPool pool = new StringPool();
+            RoomData first = reader.readRoom(file, pool);
+            RoomData second = reader.readRoom(file, pool);
+            assertSame(first.getId(), second.getId());
+            assertSame(first.getLongDescription(), second.getLongDescription());
+            for (Sense sense : first.getSensesDescription().keySet()) {
+                assertSame(first.getSensesDescription().get(sense), second.getSensesDescription().get(sense));
+            }
+            assertTrue(pool.getDuplicates() > 0);
+        }
+    }
+
+    private void assertStoryEquals (final File file) throws IOException {
+        Story expected = this.jdom.readStory(file);
+        Story actual = this.stax.readStory(file);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getDefaultWorld(), actual.getDefaultWorld());
+        // The tutorial story description is written on several lines
+        assertTrue(actual.getDescription().contains("\n"));
+    }
+
+    private void assertAreaEquals (final File file) throws IOException {
+        AreaData expected = this.jdom.readArea(file);
+        AreaData actual = this.stax.readArea(file);
+        String message = file.getName();
+        assertEquals(message, expected.getId(), actual.getId());
+        assertEquals(message, expected.getName(), actual.getName());
+        assertEquals(message, expected.getDescription(), actual.getDescription());
+        assertEquals(message, expected.getEntryPoint(), actual.getEntryPoint());
+    }
+
+    private void assertRoomEquals (final File file) throws IOException {
+        RoomData expected = this.jdom.readRoom(file);
+        RoomData actual = this.stax.readRoom(file);
+        String message = file.getName();
+        assertEquals(message, expected.getId(), actual.getId());
+        assertEquals(message, expected.getName(), actual.getName());
+        assertEquals(message, expected.getShortDescription(), actual.getShortDescription());
+        assertEquals(message, expected.getLongDescription(), actual.getLongDescription());
+        assertEquals(message, expected.getNeighbors(), actual.getNeighbors());
+        assertEquals(message, expected.getNeighborsDescription(), actual.getNeighborsDescription());
+        assertEquals(message, expected.getSensesDescription(), actual.getSensesDescription());
+        assertEquals(message, expected.getItems(), actual.getItems());
+    }
+
+    private void assertItemEquals (final File file) throws IOException {
+        Item expected = this.jdom.readItem(file);
+        Item actual = this.stax.readItem(file);
+        String message = file.getName();
+        assertEquals(message, expected.getId(), actual.getId());
+        assertEquals(message, expected.getName(), actual.getName());
+        assertEquals(message, expected.getType(), actual.getType());
+        assertEquals(message, expected.getShortDescription(), actual.getShortDescription());
+        assertEquals(message, expected.getLongDescrition(), actual.getLongDescrition());
+        assertEquals(message, expected.isCarriable(), actual.isCarriable());
+        assertEquals(message, expected.isStackable(), actual.isStackable());
+        for (Sense sense : Sense.values()) {
+            assertEquals(message, expected.getSenseDescription(sense), actual.getSenseDescription(sense));
+        }
+    }
+
+    private void assertMonsterEquals (final File file) throws IOException {
+        Monster expected = this.jdom.readMonster(file);
+        Monster actual = this.stax.readMonster(file);
+        String message = file.getName();
+        assertEquals(message, expected.getId(), actual.getId());
+        assertEquals(message, expected.getName(), actual.getName());
+        assertEquals(message, expected.getType(), actual.getType());
+        assertEquals(message, expected.getShortDescription(), actual.getShortDescription());
+        assertEquals(message, expected.getLongDescription(), actual.getLongDescription());
+        assertEquals(message, expected.getArmorClass(), actual.getArmorClass());
+        assertEquals(message, expected.getHitPoints(), actual.getHitPoints());
+        assertEquals(message, expected.getChallenge(), actual.getChallenge(), 0f);
+        int[] expectedAbilities = new int[2 * Ability.COUNT];
+        int[] actualAbilities = new int[2 * Ability.COUNT];
+        for (Ability ability : Ability.values()) {
+            expectedAbilities[2 * ability.ordinal()] = expected.getScore(ability);
+            expectedAbilities[2 * ability.ordinal() + 1] = expected.getModifier(ability);
+            actualAbilities[2 * ability.ordinal()] = actual.getScore(ability);
+            actualAbilities[2 * ability.ordinal() + 1] = actual.getModifier(ability);
+        }
+        assertArrayEquals(message, expectedAbilities, actualAbilities);
+    }
+
+    private static List<File> xmlFiles (final File dir) throws IOException {
+        if (!dir.isDirectory()) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            return paths.map(Path::toFile).filter(f -> f.getName().endsWith(".xml")).sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that the {@link GameJournal} recovers its state after a crash.
+ * <p>
+ * A crash is simulated by copying the journal files of an instance before
+ * closing its journal, the copy being recovered as if the game had been killed
+ * at that point.
+ * </p>
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class GameJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsAreReplayedAfterCrash () throws IOException {
+        File dir = this.folder.newFolder();
+        File crashed;
+        try (GameJournal journal = GameJournal.open(dir)) {
+            journal.put("position", "w.r.z.a");
+            journal.put("room/w.r.z.a", "1");
+            journal.put("position", "w.r.z.b");
+            journal.remove("room/w.r.z.a");
+            crashed = crash(dir);
+        }
+        try (GameJournal journal = GameJournal.open(crashed)) {
+            assertEquals("w.r.z.b", journal.get("position"));
+            assertNull(journal.get("room/w.r.z.a"));
+            assertEquals(1, journal.getAll().size());
+        }
+    }
+
+    @Test
+    public void tornTailIsDiscarded () throws IOException {
+        File dir = this.folder.newFolder();
+        File crashed;
+        try (GameJournal journal = GameJournal.open(dir)) {
+            for (int i = 0; i < 10; i++) {
+                journal.put("position", "w.r.z.room" + i);
+            }
+            crashed = crash(dir);
+        }
+
+        // The last record was being written when the game crashed
+        File log = new File(crashed, GameJournal.LOG_FILENAME);
+        long length = log.length();
+        try (RandomAccessFile file = new RandomAccessFile(log, "rw")) {
+            file.setLength(length - 3);
+        }
+        File recovered;
+        try (GameJournal journal = GameJournal.open(crashed)) {
+            assertEquals("w.r.z.room8", journal.get("position"));
+            assertTrue(log.length() < length - 3);
+
+            // The next records are appended after the last valid one
+            journal.put("inventory", "pain");
+            recovered = crash(crashed);
+        }
+        try (GameJournal journal = GameJournal.open(recovered)) {
+            assertEquals("w.r.z.room8", journal.get("position"));
+            assertEquals("pain", journal.get("inventory"));
+        }
+    }
+
+    @Test
+    public void corruptedRecordStopsTheReplay () throws IOException {
+        File dir = this.folder.newFolder();
+        File crashed;
+        try (GameJournal journal = GameJournal.open(dir)) {
+            journal.put("a", "1");
+            journal.put("b", "2");
+            journal.put("c", "3");
+            crashed = crash(dir);
+        }
+
+        // Flips a byte of the value of the last record
+        File log = new File(crashed, GameJournal.LOG_FILENAME);
+        try (RandomAccessFile file = new RandomAccessFile(log, "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 0xff);
+        }
+        try (GameJournal journal = GameJournal.open(crashed)) {
+            assertEquals("1", journal.get("a"));
+            assertEquals("2", journal.get("b"));
+            assertNull(journal.get("c"));
+        }
+    }
+
+    @Test
+    public void compactedStateIsRecovered () throws IOException {
+        File dir = this.folder.newFolder();
+        File crashed;
+        Map<String, String> expected = new HashMap<>();
+        try (GameJournal journal = GameJournal.open(dir, 4)) {
+            for (int i = 0; i < 10; i++) {
+                journal.put("room/w.r.z.room" + i, Integer.toString(i));
+                expected.put("room/w.r.z.room" + i, Integer.toString(i));
+            }
+            crashed = crash(dir);
+        }
+        assertTrue(new File(crashed, GameJournal.SNAPSHOT_FILENAME).isFile());
+        try (GameJournal journal = GameJournal.open(crashed)) {
+            assertEquals(expected, journal.getAll());
+        }
+
+        // Closing compacts the log
+        try (GameJournal journal = GameJournal.open(dir)) {
+            assertEquals(expected, journal.getAll());
+        }
+        assertEquals(0, new File(dir, GameJournal.LOG_FILENAME).length());
+    }
+
+    @Test
+    public void keysAreSelectedByPrefix () throws IOException {
+        File dir = this.folder.newFolder();
+        try (GameJournal journal = GameJournal.open(dir)) {
+            journal.put("position", "w.r.z.a");
+            journal.put("room/w.r.z.a", "1");
+            journal.put("room/w.r.y.b", "2");
+            assertEquals(1, journal.getAll("room/w.r.z.").size());
+            assertEquals(2, journal.getAll("room/").size());
+            journal.removeAll("room/");
+        }
+        try (GameJournal journal = GameJournal.open(dir)) {
+            assertTrue(journal.getAll("room/").isEmpty());
+            assertEquals("w.r.z.a", journal.get("position"));
+        }
+    }
+
+    /**
+     * Copies the journal files of the specified instance as they are on the disk
+     * at this point.
+     */
+    private File crash (final File dir) throws IOException {
+        File crashed = this.folder.newFolder();
+        for (String name : new String[] { GameJournal.SNAPSHOT_FILENAME, GameJournal.LOG_FILENAME }) {
+            File file = new File(dir, name);
+            if (file.exists()) {
+                Files.copy(file.toPath(), new File(crashed, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return crashed;
+    }
+}
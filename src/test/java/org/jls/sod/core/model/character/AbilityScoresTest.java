@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.character;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jls.sod.core.loader.Loader;
+import org.jls.sod.util.ResourceManager;
+import org.junit.Test;
+
+/**
+ * Checks the effective scores and modifiers computed by {@link AbilityScores}.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class AbilityScoresTest {
+
+    @Test
+    public void modifierIsDerivedFromScore () {
+        AbilityScores scores = new AbilityScores();
+        int[][] expected = { { 1, -5 }, { 8, -1 }, { 9, -1 }, { 10, 0 }, { 11, 0 }, { 14, 2 }, { 15, 2 },
+                { 20, 5 } };
+        for (int[] values : expected) {
+            scores.set(Ability.STRENGTH, ScoreComponent.BASE_SCORE, values[0]);
+            assertEquals(values[0], scores.getScore(Ability.STRENGTH));
+            assertEquals("Score " + values[0], values[1], scores.getModifier(Ability.STRENGTH));
+        }
+    }
+
+    @Test
+    public void storedModifierIsNotAddedTwice () {
+        // Written as in the monster files : the modifier of a score of 14 is 2
+        AbilityScores scores = new AbilityScores();
+        scores.set(Ability.STRENGTH, ScoreComponent.BASE_SCORE, 14);
+        scores.set(Ability.STRENGTH, ScoreComponent.MODIFIER, 2);
+        assertEquals(14, scores.getScore(Ability.STRENGTH));
+        assertEquals(2, scores.getModifier(Ability.STRENGTH));
+
+        // Only the other modifier is a bonus
+        scores.set(Ability.STRENGTH, ScoreComponent.OTHER_MODIFIER, 1);
+        assertEquals(3, scores.getModifier(Ability.STRENGTH));
+    }
+
+    @Test
+    public void scoreComponents () {
+        AbilityScores scores = new AbilityScores();
+        scores.set(Ability.DEXTERITY, ScoreComponent.BASE_SCORE, 12);
+        scores.set(Ability.DEXTERITY, ScoreComponent.RACIAL_BONUS, 2);
+        scores.set(Ability.DEXTERITY, ScoreComponent.ABILITY_IMPROVEMENT, 1);
+        scores.set(Ability.DEXTERITY, ScoreComponent.MISC_BONUS, 1);
+        assertEquals(16, scores.getScore(Ability.DEXTERITY));
+        assertEquals(3, scores.getModifier(Ability.DEXTERITY));
+
+        // The set score is a minimum
+        scores.set(Ability.DEXTERITY, ScoreComponent.SET_SCORE, 19);
+        assertEquals(19, scores.getScore(Ability.DEXTERITY));
+        assertEquals(4, scores.getModifier(Ability.DEXTERITY));
+        scores.set(Ability.DEXTERITY, ScoreComponent.SET_SCORE, 10);
+        assertEquals(16, scores.getScore(Ability.DEXTERITY));
+
+        // The override score replaces all the other components
+        scores.set(Ability.DEXTERITY, ScoreComponent.OVERRIDE_SCORE, 8);
+        assertEquals(8, scores.getScore(Ability.DEXTERITY));
+        assertEquals(-1, scores.getModifier(Ability.DEXTERITY));
+
+        // The other abilities are untouched
+        assertEquals(0, scores.getScore(Ability.STRENGTH));
+    }
+
+    @Test
+    public void onlyChangedAbilityIsRecomputed () {
+        AbilityScores scores = new AbilityScores();
+        for (Ability ability : Ability.values()) {
+            scores.getScore(ability);
+        }
+        scores.add(Ability.WISDOM, ScoreComponent.BASE_SCORE, 13);
+        assertTrue(scores.isDirty(Ability.WISDOM));
+        assertFalse(scores.isDirty(Ability.CHARISMA));
+        assertEquals(1, scores.getModifier(Ability.WISDOM));
+        assertFalse(scores.isDirty(Ability.WISDOM));
+
+        // Setting the same value does not flag the ability
+        scores.set(Ability.WISDOM, ScoreComponent.BASE_SCORE, 13);
+        assertFalse(scores.isDirty(Ability.WISDOM));
+    }
+
+    @Test
+    public void playerAndMonsterModifiersAgree () throws IOException {
+        File file = new File(ResourceManager.STORIES_PATH, "Tutorial/monsters/armure_animee.xml");
+        Monster monster = Loader.getDefaultReader().readMonster(file);
+        for (Ability ability : Ability.values()) {
+            AbilityScores scores = new AbilityScores();
+            scores.set(ability, ScoreComponent.BASE_SCORE, monster.getScore(ability));
+            scores.set(ability, ScoreComponent.MODIFIER, monster.getModifier(ability));
+            assertEquals(ability.name(), monster.getModifier(ability), scores.getModifier(ability));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 Julien LE SAUCE
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jls.sod.core.model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+
+import org.jls.sod.core.model.Direction;
+import org.junit.Test;
+
+/**
+ * Checks that the routes found by the {@link PathFinder} with the landmarks
+ * heuristic are as short as the routes found breadth-first.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 17, 2026
+ */
+public class PathFinderTest {
+
+    private static final int SIZE = 40;
+    private static final double WALLS = 0.2;
+    private static final int NB_QUERIES = 500;
+
+    @Test
+    public void landmarksRoutesAreShortest () {
+        Random random = new Random(42);
+        World world = new World("test", "Test", "Test");
+        Room[] rooms = buildGrid(world, "grid", SIZE, random);
+        PathFinder finder = world.getPathFinder();
+        for (int i = 0; i < NB_QUERIES; i++) {
+            Room from = rooms[random.nextInt(rooms.length)];
+            Room to = rooms[random.nextInt(rooms.length)];
+            assertSameLength(finder.breadthFirst(from, to), finder.findPath(from, to));
+        }
+        assertEquals(1, finder.getCachedGraphs());
+    }
+
+    @Test
+    public void shorterRouteLeavingZoneIsFound () {
+        World world = new World("test", "Test", "Test");
+        Room[] rooms = buildGrid(world, "grid", SIZE, new Random(42));
+        Room[] bridge = buildGrid(world, "bridge", 1, new Random(42));
+        // Opposite corners of the grid are joined through the other zone
+        rooms[0].putAllNeighbors(Collections.singletonMap(Direction.SOUTH_WEST, bridge[0]));
+        bridge[0].putAllNeighbors(Collections.singletonMap(Direction.NORTH_EAST, rooms[rooms.length - 1]));
+
+        List<Direction> route = world.getPathFinder().findPath(rooms[0], rooms[rooms.length - 1]);
+        assertEquals(2, route.size());
+        Random random = new Random(7);
+        for (int i = 0; i < NB_QUERIES; i++) {
+            Room from = rooms[random.nextInt(rooms.length)];
+            Room to = rooms[random.nextInt(rooms.length)];
+            assertSameLength(world.getPathFinder().breadthFirst(from, to), world.getPathFinder().findPath(from, to));
+        }
+    }
+
+    private static void assertSameLength (final List<Direction> expected, final List<Direction> actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertNotNull(actual);
+            assertEquals(expected.size(), actual.size());
+        }
+    }
+
+    /**
+     * Builds a zone laid out as a square grid, some of the exits being walled up.
+     */
+    private static Room[] buildGrid (final World world, final String id, final int size, final Random random) {
+        Region region = new Region(id, "Region", "Region", world);
+        Zone zone = new Zone(id, "Zone", "Zone", region);
+        Room[] rooms = new Room[size * size];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new Room(id + i, "Room", "Short", "Long", zone);
+        }
+        for (int i = 0; i < rooms.length; i++) {
+            int x = i % size;
+            int y = i / size;
+            EnumMap<Direction, Room> neighbors = new EnumMap<>(Direction.class);
+            if (y + 1 < size && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.NORTH, rooms[i + size]);
+            }
+            if (x + 1 < size && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.EAST, rooms[i + 1]);
+            }
+            if (y > 0 && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.SOUTH, rooms[i - size]);
+            }
+            if (x > 0 && random.nextDouble() >= WALLS) {
+                neighbors.put(Direction.WEST, rooms[i - 1]);
+            }
+            rooms[i].putAllNeighbors(neighbors);
+        }
+        for (Room room : rooms) {
+            zone.putRoom(room);
+        }
+        return rooms;
+    }
+}